@@ -0,0 +1,16 @@
+package com.diego.interview.application.usecase;
+
+import com.diego.interview.application.usecase.dto.UserResponse;
+
+import java.util.function.Consumer;
+
+public interface ExportUsersUseCase {
+
+    /**
+     * Passes every user to {@code sink} one at a time, without collecting
+     * them first.
+     *
+     * @return number of users exported
+     */
+    long exportUsers(Consumer<UserResponse> sink);
+}
@@ -0,0 +1,16 @@
+package com.diego.interview.application.usecase;
+
+import com.diego.interview.application.usecase.dto.ImportReport;
+import com.diego.interview.application.usecase.dto.ImportUserRow;
+
+import java.util.Iterator;
+
+public interface ImportUsersUseCase {
+
+    /**
+     * Creates every valid row, consuming {@code rows} lazily so the source can
+     * be streamed. A rejected row never stops the import; it is reported with
+     * its error code instead.
+     */
+    ImportReport importUsers(Iterator<ImportUserRow> rows);
+}
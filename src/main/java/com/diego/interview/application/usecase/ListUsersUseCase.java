@@ -5,5 +5,7 @@ import com.diego.interview.application.usecase.dto.UserResponse;
 
 public interface ListUsersUseCase {
 
-    PagedResponse<UserResponse> listUsers(int page, int size);
+    PagedResponse<UserResponse> listUsers(int page, int size, boolean exactTotal);
+
+    PagedResponse<UserResponse> listUsersAfter(String after, int size, boolean exactTotal);
 }
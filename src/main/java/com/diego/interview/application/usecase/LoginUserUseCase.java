@@ -3,5 +3,12 @@ package com.diego.interview.application.usecase;
 import com.diego.interview.application.usecase.dto.UserResponse;
 
 public interface LoginUserUseCase {
-    UserResponse login(String email, String password);
+    default UserResponse login(String email, String password) {
+        return login(email, password, null);
+    }
+
+    /**
+     * @param clientIp address the attempt came from, used for throttling; null when unknown
+     */
+    UserResponse login(String email, String password, String clientIp);
 }
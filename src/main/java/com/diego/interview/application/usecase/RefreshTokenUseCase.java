@@ -0,0 +1,7 @@
+package com.diego.interview.application.usecase;
+
+import com.diego.interview.application.usecase.dto.TokenResponse;
+
+public interface RefreshTokenUseCase {
+    TokenResponse refresh(String refreshToken);
+}
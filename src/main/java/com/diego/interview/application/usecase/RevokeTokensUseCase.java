@@ -0,0 +1,9 @@
+package com.diego.interview.application.usecase;
+
+import java.util.UUID;
+
+public interface RevokeTokensUseCase {
+    void logout(String token);
+
+    void revokeUserTokens(UUID userId);
+}
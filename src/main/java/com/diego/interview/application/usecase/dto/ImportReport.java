@@ -0,0 +1,33 @@
+package com.diego.interview.application.usecase.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ImportReport {
+
+    private long total;
+    private long created;
+    private long rejected;
+    private long elapsedMs;
+    private List<LineResult> lines;
+
+    @Getter
+    @Setter
+    public static class LineResult {
+        private long line;
+        private String email;
+        private Status status;
+        private String id;
+        private String error;
+        private String message;
+    }
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+}
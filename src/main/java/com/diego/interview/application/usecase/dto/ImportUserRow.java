@@ -0,0 +1,31 @@
+package com.diego.interview.application.usecase.dto;
+
+import lombok.Getter;
+
+/**
+ * One parsed line of a bulk import: either a command ready to be imported or
+ * the error code that rejected it while parsing.
+ */
+@Getter
+public class ImportUserRow {
+
+    private final long line;
+    private final String email;
+    private final CreateUserCommand command;
+    private final String error;
+
+    private ImportUserRow(long line, String email, CreateUserCommand command, String error) {
+        this.line = line;
+        this.email = email;
+        this.command = command;
+        this.error = error;
+    }
+
+    public static ImportUserRow valid(long line, CreateUserCommand command) {
+        return new ImportUserRow(line, command.getEmail(), command, null);
+    }
+
+    public static ImportUserRow rejected(long line, String email, String error) {
+        return new ImportUserRow(line, email, null, error);
+    }
+}
@@ -13,5 +13,7 @@ public class PagedResponse<T> {
     private int page;
     private int size;
     private long totalElements;
+    private boolean totalEstimated;
     private int totalPages;
+    private String nextCursor;
 }
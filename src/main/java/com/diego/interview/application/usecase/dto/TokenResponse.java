@@ -0,0 +1,11 @@
+package com.diego.interview.application.usecase.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TokenResponse {
+    private String token;
+    private String refreshToken;
+}
@@ -14,6 +14,7 @@ public class UserResponse {
     private LocalDateTime modified;
     private LocalDateTime lastLogin;
     private String token;
+    private String refreshToken;
     private boolean active;
     private String name;
     private String email;
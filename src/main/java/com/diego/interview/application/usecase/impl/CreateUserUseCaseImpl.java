@@ -4,9 +4,12 @@ import com.diego.interview.application.usecase.dto.CreateUserCommand;
 import com.diego.interview.application.usecase.dto.UserResponse;
 import com.diego.interview.application.usecase.mapper.UserUseCaseMapper;
 import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.CredentialRejection;
 import com.diego.interview.domain.model.Phone;
 import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.CredentialPolicy;
 import com.diego.interview.domain.port.PasswordEncoderPort;
+import com.diego.interview.domain.port.RefreshTokenPort;
 import com.diego.interview.domain.port.TokenProviderPort;
 import com.diego.interview.domain.port.UserRepositoryPort;
 import org.slf4j.Logger;
@@ -14,28 +17,53 @@ import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public class CreateUserUseCaseImpl implements CreateUserUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(CreateUserUseCaseImpl.class);
 
     private final UserRepositoryPort userRepositoryPort;
-    private final Pattern emailPattern;
-    private final Pattern passwordPattern;
+    private final CredentialPolicy credentialPolicy;
     private final TokenProviderPort tokenProviderPort;
     private final PasswordEncoderPort passwordEncoderPort;
+    private final boolean persistTokens;
+    private final RefreshTokenPort refreshTokens;
 
     public CreateUserUseCaseImpl(UserRepositoryPort userRepositoryPort,
-                                 Pattern emailPattern,
-                                 Pattern passwordPattern,
+                                 CredentialPolicy credentialPolicy,
                                  TokenProviderPort tokenProviderPort,
                                  PasswordEncoderPort passwordEncoderPort) {
+        this(userRepositoryPort, credentialPolicy, tokenProviderPort, passwordEncoderPort, true);
+    }
+
+    public CreateUserUseCaseImpl(UserRepositoryPort userRepositoryPort,
+                                 CredentialPolicy credentialPolicy,
+                                 TokenProviderPort tokenProviderPort,
+                                 PasswordEncoderPort passwordEncoderPort,
+                                 boolean persistTokens) {
+        this(userRepositoryPort, credentialPolicy, tokenProviderPort, passwordEncoderPort, persistTokens, null);
+    }
+
+    /**
+     * @param persistTokens whether the issued token is also stored in
+     *                      users.token; with stateless tokens it is only
+     *                      returned to the caller
+     * @param refreshTokens issues a refresh token with the signup, so the new
+     *                      user can renew a short-lived token without logging
+     *                      in; null when disabled
+     */
+    public CreateUserUseCaseImpl(UserRepositoryPort userRepositoryPort,
+                                 CredentialPolicy credentialPolicy,
+                                 TokenProviderPort tokenProviderPort,
+                                 PasswordEncoderPort passwordEncoderPort,
+                                 boolean persistTokens,
+                                 RefreshTokenPort refreshTokens) {
         this.userRepositoryPort = userRepositoryPort;
-        this.emailPattern = emailPattern;
-        this.passwordPattern = passwordPattern;
+        this.credentialPolicy = credentialPolicy;
         this.tokenProviderPort = tokenProviderPort;
         this.passwordEncoderPort = passwordEncoderPort;
+        this.persistTokens = persistTokens;
+        this.refreshTokens = refreshTokens;
     }
 
     @Override
@@ -53,14 +81,23 @@ public class CreateUserUseCaseImpl implements CreateUserUseCase {
             String encodedPassword = passwordEncoderPort.encode(rawPassword);
 
             User userToSave = buildUser(command, email, encodedPassword, now);
+            String token = userToSave.getToken();
+            if (!persistTokens) {
+                userToSave.setToken(null);
+            }
 
-            User saved = userRepositoryPort.save(userToSave);
+            User saved = userRepositoryPort.create(userToSave);
+            saved.setToken(token);
 
             long elapsedNanos = System.nanoTime() - start;
             log.info("User created successfully. id={}, email={}, elapsedMs={}",
                     saved.getId(), saved.getEmail(), elapsedNanos / 1_000_000);
 
-            return UserUseCaseMapper.toUserResponse(saved);
+            UserResponse response = UserUseCaseMapper.toUserResponse(saved);
+            if (refreshTokens != null) {
+                response.setRefreshToken(refreshTokens.issue(saved.getId()));
+            }
+            return response;
 
         } catch (BusinessException ex) {
             long elapsedNanos = System.nanoTime() - start;
@@ -76,27 +113,28 @@ public class CreateUserUseCaseImpl implements CreateUserUseCase {
     }
 
     private String validateEmailFormat(String email) {
-        if (!emailPattern.matcher(email).matches()) {
-            log.debug("Invalid email format detected. email={}", email);
-            throw new BusinessException("user.email.invalid", email);
+        CredentialRejection rejection = credentialPolicy.checkEmail(email);
+        if (rejection != null) {
+            log.debug("Invalid email format detected. email={}, reason={}", email, rejection);
+            throw new BusinessException(rejection.getMessageCode(), email);
         }
         return email;
     }
 
     private String validatePasswordFormat(String password) {
-        if (!passwordPattern.matcher(password).matches()) {
-            log.debug("Password format validation failed.");
-            throw new BusinessException("user.password.invalid");
+        CredentialRejection rejection = credentialPolicy.checkPassword(password);
+        if (rejection != null) {
+            log.debug("Password format validation failed. reason={}", rejection);
+            throw new BusinessException(rejection.getMessageCode());
         }
         return password;
     }
 
     private void ensureEmailNotExists(String email) {
-        userRepositoryPort.findByEmail(email)
-                .ifPresent(u -> {
-                    log.debug("Email already exists in database. email={}", email);
-                    throw new BusinessException("user.email.exists", email);
-                });
+        if (userRepositoryPort.existsByEmail(email)) {
+            log.debug("Email already exists in database. email={}", email);
+            throw new BusinessException("user.email.exists", email);
+        }
     }
 
     private User buildUser(CreateUserCommand command,
@@ -106,7 +144,10 @@ public class CreateUserUseCaseImpl implements CreateUserUseCase {
 
         List<Phone> phones = UserUseCaseMapper.toDomainPhonesFromCreate(command.getPhones());
 
+        // the id is reserved up front because it is also the token id, which
+        // logout and DELETE /users/{id}/tokens revoke by
         User tmpUser = User.builder()
+                .id(userRepositoryPort.nextId())
                 .name(command.getName())
                 .email(email)
                 .password(encodedPassword)
@@ -22,14 +22,13 @@ public class DeleteUserUseCaseImpl implements DeleteUserUseCase {
     public void deleteById(UUID id) {
         log.info("Attempting to delete user. id={}", id);
 
-        boolean exists = userRepository.findById(id).isPresent();
+        int deleted = userRepository.deleteById(id);
 
-        if (!exists) {
+        if (deleted == 0) {
             log.warn("Delete user failed: user not found. id={}", id);
             throw new BusinessException("user.notFound", id.toString());
         }
 
-        userRepository.deleteById(id);
         log.info("User deleted successfully. id={}", id);
     }
 }
@@ -0,0 +1,38 @@
+package com.diego.interview.application.usecase.impl;
+
+import com.diego.interview.application.usecase.ExportUsersUseCase;
+import com.diego.interview.application.usecase.dto.UserResponse;
+import com.diego.interview.application.usecase.mapper.UserUseCaseMapper;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Consumer;
+
+public class ExportUsersUseCaseImpl implements ExportUsersUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportUsersUseCaseImpl.class);
+
+    private final UserRepositoryPort userRepository;
+
+    public ExportUsersUseCaseImpl(UserRepositoryPort userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public long exportUsers(Consumer<UserResponse> sink) {
+        long start = System.nanoTime();
+        long[] exported = {0};
+
+        log.info("Starting user export");
+
+        userRepository.forEachUser(user -> {
+            sink.accept(UserUseCaseMapper.toUserResponse(user));
+            exported[0]++;
+        });
+
+        log.info("User export finished. exported={}, elapsedMs={}",
+                exported[0], (System.nanoTime() - start) / 1_000_000);
+        return exported[0];
+    }
+}
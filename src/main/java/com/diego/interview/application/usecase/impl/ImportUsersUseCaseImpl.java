@@ -0,0 +1,260 @@
+package com.diego.interview.application.usecase.impl;
+
+import com.diego.interview.application.usecase.ImportUsersUseCase;
+import com.diego.interview.application.usecase.dto.CreateUserCommand;
+import com.diego.interview.application.usecase.dto.ImportReport;
+import com.diego.interview.application.usecase.dto.ImportReport.LineResult;
+import com.diego.interview.application.usecase.dto.ImportReport.Status;
+import com.diego.interview.application.usecase.dto.ImportUserRow;
+import com.diego.interview.application.usecase.mapper.UserUseCaseMapper;
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.CredentialRejection;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.AsyncPasswordEncoderPort;
+import com.diego.interview.domain.port.CredentialPolicy;
+import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Bulk counterpart of {@link CreateUserUseCaseImpl}. Rows are validated and
+ * de-duplicated in memory as they are read, then written in chunks: one query
+ * to find already registered emails, password hashes computed in parallel,
+ * and one batched insert per chunk.
+ */
+public class ImportUsersUseCaseImpl implements ImportUsersUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportUsersUseCaseImpl.class);
+
+    private final UserRepositoryPort userRepositoryPort;
+    private final CredentialPolicy credentialPolicy;
+    private final TokenProviderPort tokenProviderPort;
+    private final AsyncPasswordEncoderPort passwordEncoderPort;
+    private final int chunkSize;
+    private final int hashingParallelism;
+    private final boolean persistTokens;
+
+    public ImportUsersUseCaseImpl(UserRepositoryPort userRepositoryPort,
+                                  CredentialPolicy credentialPolicy,
+                                  TokenProviderPort tokenProviderPort,
+                                  AsyncPasswordEncoderPort passwordEncoderPort,
+                                  int chunkSize,
+                                  int hashingParallelism) {
+        this(userRepositoryPort, credentialPolicy, tokenProviderPort, passwordEncoderPort,
+                chunkSize, hashingParallelism, true);
+    }
+
+    /**
+     * @param persistTokens whether to sign and store a token for every imported
+     *                      user; nobody receives those tokens, so stateless
+     *                      mode skips them
+     */
+    public ImportUsersUseCaseImpl(UserRepositoryPort userRepositoryPort,
+                                  CredentialPolicy credentialPolicy,
+                                  TokenProviderPort tokenProviderPort,
+                                  AsyncPasswordEncoderPort passwordEncoderPort,
+                                  int chunkSize,
+                                  int hashingParallelism,
+                                  boolean persistTokens) {
+        this.userRepositoryPort = userRepositoryPort;
+        this.credentialPolicy = credentialPolicy;
+        this.tokenProviderPort = tokenProviderPort;
+        this.passwordEncoderPort = passwordEncoderPort;
+        this.chunkSize = chunkSize;
+        this.hashingParallelism = hashingParallelism;
+        this.persistTokens = persistTokens;
+    }
+
+    @Override
+    public ImportReport importUsers(Iterator<ImportUserRow> rows) {
+        long start = System.nanoTime();
+        List<LineResult> results = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportUserRow> chunk = new ArrayList<>(chunkSize);
+
+        while (rows.hasNext()) {
+            ImportUserRow row = rows.next();
+            String error = row.getError() != null ? row.getError() : validate(row.getCommand());
+            if (error == null && !seenEmails.add(row.getEmail())) {
+                error = "user.import.duplicate";
+            }
+            if (error != null) {
+                results.add(rejected(row, error));
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, results);
+        }
+
+        results.sort(Comparator.comparingLong(LineResult::getLine));
+        ImportReport report = new ImportReport();
+        report.setTotal(results.size());
+        report.setCreated(results.stream().filter(r -> r.getStatus() == Status.CREATED).count());
+        report.setRejected(report.getTotal() - report.getCreated());
+        report.setElapsedMs((System.nanoTime() - start) / 1_000_000);
+        report.setLines(results);
+
+        log.info("User import finished. total={}, created={}, rejected={}, elapsedMs={}",
+                report.getTotal(), report.getCreated(), report.getRejected(), report.getElapsedMs());
+        return report;
+    }
+
+    private String validate(CreateUserCommand command) {
+        if (isBlank(command.getName())) {
+            return "user.name.required";
+        }
+        if (isBlank(command.getEmail())) {
+            return "user.email.required";
+        }
+        CredentialRejection emailRejection = credentialPolicy.checkEmail(command.getEmail());
+        if (emailRejection != null) {
+            return emailRejection.getMessageCode();
+        }
+        if (isBlank(command.getPassword())) {
+            return "user.password.required";
+        }
+        CredentialRejection passwordRejection = credentialPolicy.checkPassword(command.getPassword());
+        if (passwordRejection != null) {
+            return passwordRejection.getMessageCode();
+        }
+        return null;
+    }
+
+    private void importChunk(List<ImportUserRow> chunk, List<LineResult> results) {
+        Set<String> existing = userRepositoryPort.findExistingEmails(
+                chunk.stream().map(ImportUserRow::getEmail).toList());
+
+        List<ImportUserRow> fresh = new ArrayList<>(chunk.size());
+        for (ImportUserRow row : chunk) {
+            if (existing.contains(row.getEmail())) {
+                results.add(rejected(row, "user.email.exists"));
+            } else {
+                fresh.add(row);
+            }
+        }
+
+        List<HashedPassword> hashes = hashPasswords(fresh);
+        LocalDateTime now = LocalDateTime.now();
+        List<ImportUserRow> ready = new ArrayList<>(fresh.size());
+        List<User> users = new ArrayList<>(fresh.size());
+        for (int i = 0; i < fresh.size(); i++) {
+            HashedPassword hashed = hashes.get(i);
+            if (hashed.error() != null) {
+                results.add(rejected(fresh.get(i), hashed.error()));
+                continue;
+            }
+            ready.add(fresh.get(i));
+            users.add(buildUser(fresh.get(i).getCommand(), hashed.hash(), now));
+        }
+        if (users.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<User> saved = userRepositoryPort.saveAll(users);
+            for (int i = 0; i < saved.size(); i++) {
+                results.add(created(ready.get(i), saved.get(i)));
+            }
+        } catch (BusinessException ex) {
+            // someone registered one of these emails since the lookup; find which one
+            log.debug("Import chunk rejected, retrying row by row. size={}, code={}", users.size(), ex.getCode());
+            for (int i = 0; i < users.size(); i++) {
+                try {
+                    results.add(created(ready.get(i), userRepositoryPort.saveAll(List.of(users.get(i))).get(0)));
+                } catch (BusinessException rowEx) {
+                    results.add(rejected(ready.get(i), rowEx.getCode()));
+                }
+            }
+        }
+    }
+
+    // Hashes in windows no wider than the encoder pool, so a large import never
+    // floods its queue and leaves room for regular signups.
+    private List<HashedPassword> hashPasswords(List<ImportUserRow> rows) {
+        List<HashedPassword> hashes = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += hashingParallelism) {
+            int to = Math.min(from + hashingParallelism, rows.size());
+            List<CompletableFuture<String>> window = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                window.add(passwordEncoderPort.encodeAsync(rows.get(i).getCommand().getPassword()));
+            }
+            for (int i = from; i < to; i++) {
+                hashes.add(await(window.get(i - from)));
+            }
+        }
+        return hashes;
+    }
+
+    private static HashedPassword await(CompletableFuture<String> hash) {
+        try {
+            return new HashedPassword(hash.join(), null);
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof BusinessException business) {
+                return new HashedPassword(null, business.getCode());
+            }
+            log.error("Password hashing failed during import", ex.getCause());
+            return new HashedPassword(null, "user.import.failed");
+        }
+    }
+
+    private User buildUser(CreateUserCommand command, String encodedPassword, LocalDateTime now) {
+        // same as a signup: the id is the token id, so it exists before the token
+        User user = User.builder()
+                .id(userRepositoryPort.nextId())
+                .name(command.getName())
+                .email(command.getEmail())
+                .password(encodedPassword)
+                .phones(UserUseCaseMapper.toDomainPhonesFromCreate(command.getPhones()))
+                .createdAt(now)
+                .updatedAt(now)
+                .lastLogin(now)
+                .active(true)
+                .build();
+        if (persistTokens) {
+            user.setToken(tokenProviderPort.generateToken(user));
+        }
+        return user;
+    }
+
+    private static LineResult created(ImportUserRow row, User saved) {
+        LineResult result = new LineResult();
+        result.setLine(row.getLine());
+        result.setEmail(row.getEmail());
+        result.setStatus(Status.CREATED);
+        result.setId(saved.getId().toString());
+        return result;
+    }
+
+    private static LineResult rejected(ImportUserRow row, String error) {
+        LineResult result = new LineResult();
+        result.setLine(row.getLine());
+        result.setEmail(row.getEmail());
+        result.setStatus(Status.REJECTED);
+        result.setError(error);
+        return result;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record HashedPassword(String hash, String error) {
+    }
+}
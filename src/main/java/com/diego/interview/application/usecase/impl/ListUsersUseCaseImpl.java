@@ -2,8 +2,10 @@ package com.diego.interview.application.usecase.impl;
 import com.diego.interview.application.usecase.ListUsersUseCase;
 import com.diego.interview.application.usecase.dto.PagedResponse;
 import com.diego.interview.application.usecase.dto.UserResponse;
+import com.diego.interview.application.usecase.mapper.UserCursorCodec;
 import com.diego.interview.application.usecase.mapper.UserUseCaseMapper;
 import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.model.UserCursor;
 import com.diego.interview.domain.port.UserRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,27 +23,58 @@ public class ListUsersUseCaseImpl implements ListUsersUseCase {
     }
 
     @Override
-    public PagedResponse<UserResponse> listUsers(int page, int size) {
+    public PagedResponse<UserResponse> listUsers(int page, int size, boolean exactTotal) {
         int safePage = Math.max(page, 0);
-        int safeSize = size <= 0 ? 10 : size;
+        int safeSize = safeSize(size);
 
-        log.info("Listing users. page={}, size={}", safePage, safeSize);
+        log.info("Listing users. page={}, size={}, exactTotal={}", safePage, safeSize, exactTotal);
 
         List<User> users = userRepository.findAllPaged(safePage, safeSize);
-        long total = userRepository.countAll();
+        long total = total(exactTotal);
 
+        PagedResponse<UserResponse> resp = toPagedResponse(users, safeSize, total);
+        resp.setTotalEstimated(!exactTotal);
+        resp.setPage(safePage);
+        return resp;
+    }
+
+    @Override
+    public PagedResponse<UserResponse> listUsersAfter(String after, int size, boolean exactTotal) {
+        int safeSize = safeSize(size);
+        UserCursor cursor = after == null || after.isBlank() ? null : UserCursorCodec.decode(after);
+
+        log.info("Listing users by cursor. after={}, size={}, exactTotal={}", after, safeSize, exactTotal);
+
+        List<User> users = userRepository.findPageAfter(cursor, safeSize);
+        long total = total(exactTotal);
+
+        PagedResponse<UserResponse> resp = toPagedResponse(users, safeSize, total);
+        resp.setTotalEstimated(!exactTotal);
+        return resp;
+    }
+
+    private long total(boolean exactTotal) {
+        return exactTotal ? userRepository.countAll() : userRepository.estimateCount();
+    }
+
+    private static int safeSize(int size) {
+        return size <= 0 ? 10 : size;
+    }
+
+    private static PagedResponse<UserResponse> toPagedResponse(List<User> users, int size, long total) {
         List<UserResponse> content = users.stream()
                 .map(UserUseCaseMapper::toUserResponse)
                 .toList();
 
         PagedResponse<UserResponse> resp = new PagedResponse<>();
         resp.setContent(content);
-        resp.setPage(safePage);
-        resp.setSize(safeSize);
+        resp.setSize(size);
         resp.setTotalElements(total);
-        int totalPages = (int) Math.ceil((double) total / (double) safeSize);
+        int totalPages = (int) Math.ceil((double) total / (double) size);
         resp.setTotalPages(totalPages);
-
+        if (users.size() == size) {
+            resp.setNextCursor(UserCursorCodec.encode(users.get(users.size() - 1)));
+        }
         return resp;
     }
 }
\ No newline at end of file
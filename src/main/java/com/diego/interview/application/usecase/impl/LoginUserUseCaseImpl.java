@@ -4,14 +4,19 @@ import com.diego.interview.application.usecase.LoginUserUseCase;
 import com.diego.interview.application.usecase.dto.UserResponse;
 import com.diego.interview.application.usecase.mapper.UserUseCaseMapper;
 import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.LoginUpdate;
 import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.LoginThrottlePort;
 import com.diego.interview.domain.port.PasswordEncoderPort;
+import com.diego.interview.domain.port.RefreshTokenPort;
 import com.diego.interview.domain.port.TokenProviderPort;
 import com.diego.interview.domain.port.UserRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class LoginUserUseCaseImpl implements LoginUserUseCase {
 
@@ -20,38 +25,109 @@ public class LoginUserUseCaseImpl implements LoginUserUseCase {
     private final UserRepositoryPort userRepository;
     private final TokenProviderPort tokenProvider;
     private final PasswordEncoderPort passwordEncoder;
+    private final boolean persistTokens;
+    private final double lastLoginSampleRate;
+    private final RefreshTokenPort refreshTokens;
+    private final LoginThrottlePort throttle;
 
     public LoginUserUseCaseImpl(UserRepositoryPort userRepository,
                                 TokenProviderPort tokenProvider,
                                 PasswordEncoderPort passwordEncoder) {
+        this(userRepository, tokenProvider, passwordEncoder, true, 1.0, null, null);
+    }
+
+    public LoginUserUseCaseImpl(UserRepositoryPort userRepository,
+                                TokenProviderPort tokenProvider,
+                                PasswordEncoderPort passwordEncoder,
+                                boolean persistTokens,
+                                double lastLoginSampleRate) {
+        this(userRepository, tokenProvider, passwordEncoder, persistTokens, lastLoginSampleRate, null, null);
+    }
+
+    /**
+     * @param persistTokens       whether each login stores its token in users.token
+     * @param lastLoginSampleRate with stateless tokens, the share of logins (0 to 1)
+     *                            that still write last_login; 0 makes login read-only
+     * @param refreshTokens       issues a refresh token with each login; null when disabled
+     * @param throttle            slows down or rejects repeated failures before the
+     *                            password is hashed; null when disabled
+     */
+    public LoginUserUseCaseImpl(UserRepositoryPort userRepository,
+                                TokenProviderPort tokenProvider,
+                                PasswordEncoderPort passwordEncoder,
+                                boolean persistTokens,
+                                double lastLoginSampleRate,
+                                RefreshTokenPort refreshTokens,
+                                LoginThrottlePort throttle) {
         this.userRepository = userRepository;
         this.tokenProvider = tokenProvider;
         this.passwordEncoder = passwordEncoder;
+        this.persistTokens = persistTokens;
+        this.lastLoginSampleRate = lastLoginSampleRate;
+        this.refreshTokens = refreshTokens;
+        this.throttle = throttle;
     }
 
     @Override
-    public UserResponse login(String email, String rawPassword) {
+    public UserResponse login(String email, String rawPassword, String clientIp) {
         log.info("Starting login process. email={}", email);
+        if (throttle != null) {
+            throttle.beforeAttempt(email, clientIp);
+        }
         LocalDateTime now = LocalDateTime.now();
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("Login failed: user not found. email={}", email);
+                    recordFailure(email, clientIp);
                     return new BusinessException("user.login.invalidCredentials", email);
                 });
 
         if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
             log.warn("Login failed: invalid password. email={}", email);
+            recordFailure(email, clientIp);
             throw new BusinessException("user.login.invalidCredentials", email);
         }
+        if (throttle != null) {
+            throttle.recordSuccess(email, clientIp);
+        }
 
         user.setLastLogin(now);
         String token = tokenProvider.generateToken(user);
         user.setToken(token);
 
-        User saved = userRepository.save(user);
+        String storedToken = persistTokens ? token : null;
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            log.info("Upgrading stored password hash on login. email={}", email);
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            user.setToken(storedToken);
+            user = userRepository.save(user);
+            user.setToken(token);
+        } else if (persistTokens || sampled()) {
+            // only two columns change; the repository may batch this with other logins
+            userRepository.recordLogins(List.of(LoginUpdate.builder()
+                    .userId(user.getId())
+                    .lastLogin(now)
+                    .token(storedToken)
+                    .build()));
+        }
         log.info("Login successful. email={}", email);
 
-        return UserUseCaseMapper.toUserResponse(saved);
+        UserResponse response = UserUseCaseMapper.toUserResponse(user);
+        if (refreshTokens != null) {
+            response.setRefreshToken(refreshTokens.issue(user.getId()));
+        }
+        return response;
+    }
+
+    private void recordFailure(String email, String clientIp) {
+        if (throttle != null) {
+            throttle.recordFailure(email, clientIp);
+        }
+    }
+
+    private boolean sampled() {
+        return lastLoginSampleRate >= 1.0
+                || (lastLoginSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < lastLoginSampleRate);
     }
 }
\ No newline at end of file
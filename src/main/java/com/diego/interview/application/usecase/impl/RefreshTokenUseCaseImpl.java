@@ -0,0 +1,52 @@
+package com.diego.interview.application.usecase.impl;
+
+import com.diego.interview.application.usecase.RefreshTokenUseCase;
+import com.diego.interview.application.usecase.dto.TokenResponse;
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.RefreshTokenPort;
+import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenUseCaseImpl.class);
+
+    private final RefreshTokenPort refreshTokens;
+    private final TokenProviderPort tokenProvider;
+    private final UserRepositoryPort userRepository;
+
+    public RefreshTokenUseCaseImpl(RefreshTokenPort refreshTokens,
+                                   TokenProviderPort tokenProvider,
+                                   UserRepositoryPort userRepository) {
+        this.refreshTokens = refreshTokens;
+        this.tokenProvider = tokenProvider;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public TokenResponse refresh(String refreshToken) {
+        // no password check here: the refresh token is the credential
+        UUID userId = refreshTokens.consume(refreshToken)
+                .orElseThrow(() -> {
+                    log.warn("Token refresh failed: unknown, used or expired refresh token");
+                    return new BusinessException("user.token.refresh.invalid");
+                });
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    log.warn("Token refresh failed: user not found. id={}", userId);
+                    return new BusinessException("user.token.refresh.invalid");
+                });
+
+        TokenResponse response = new TokenResponse();
+        response.setToken(tokenProvider.generateToken(user));
+        response.setRefreshToken(refreshTokens.issue(userId));
+        log.info("Tokens refreshed. id={}", userId);
+        return response;
+    }
+}
@@ -0,0 +1,63 @@
+package com.diego.interview.application.usecase.impl;
+
+import com.diego.interview.application.usecase.RevokeTokensUseCase;
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.TokenClaims;
+import com.diego.interview.domain.port.RefreshTokenPort;
+import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.domain.port.TokenRevocationPort;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+public class RevokeTokensUseCaseImpl implements RevokeTokensUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RevokeTokensUseCaseImpl.class);
+
+    private final TokenProviderPort tokenProvider;
+    private final TokenRevocationPort tokenRevocation;
+    private final UserRepositoryPort userRepository;
+    private final RefreshTokenPort refreshTokens;
+
+    public RevokeTokensUseCaseImpl(TokenProviderPort tokenProvider,
+                                   TokenRevocationPort tokenRevocation,
+                                   UserRepositoryPort userRepository,
+                                   RefreshTokenPort refreshTokens) {
+        this.tokenProvider = tokenProvider;
+        this.tokenRevocation = tokenRevocation;
+        this.userRepository = userRepository;
+        this.refreshTokens = refreshTokens;
+    }
+
+    @Override
+    public void logout(String token) {
+        TokenClaims claims = tokenProvider.parseToken(token)
+                .orElseThrow(() -> new BusinessException("user.token.invalid"));
+        // tokens signed before signups reserved the user id carry none, and
+        // there is nothing to revoke them by; say so instead of a silent 204
+        if (claims.getTokenId() == null) {
+            log.warn("Logout failed: token has no id. subject={}", claims.getSubject());
+            throw new BusinessException("user.token.notRevocable");
+        }
+
+        tokenRevocation.revoke(claims);
+        // the token id is the user id, so the revocation above already covers
+        // every access token of the user; their refresh tokens go with them
+        refreshTokens.revokeAll(UUID.fromString(claims.getTokenId()));
+        log.info("User logged out. tokenId={}", claims.getTokenId());
+    }
+
+    @Override
+    public void revokeUserTokens(UUID userId) {
+        if (!userRepository.existsById(userId)) {
+            log.warn("Revoke tokens failed: user not found. id={}", userId);
+            throw new BusinessException("user.notFound", userId.toString());
+        }
+
+        tokenRevocation.revokeAll(userId);
+        refreshTokens.revokeAll(userId);
+        log.info("All tokens revoked for user. id={}", userId);
+    }
+}
@@ -2,10 +2,13 @@ package com.diego.interview.application.usecase.impl;
 import com.diego.interview.application.usecase.UpdateUserUseCase;
 import com.diego.interview.application.usecase.dto.UpdateUserCommand;
 import com.diego.interview.application.usecase.dto.UserResponse;
+import com.diego.interview.application.usecase.mapper.PhoneMerger;
 import com.diego.interview.application.usecase.mapper.UserUseCaseMapper;
 import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.CredentialRejection;
 import com.diego.interview.domain.model.Phone;
 import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.CredentialPolicy;
 import com.diego.interview.domain.port.UserRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,22 +16,18 @@ import org.slf4j.LoggerFactory;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.regex.Pattern;
 
 public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(UpdateUserUseCaseImpl.class);
 
     private final UserRepositoryPort userRepository;
-    private final Pattern emailPattern;
-    private final Pattern passwordPattern;
+    private final CredentialPolicy credentialPolicy;
 
     public UpdateUserUseCaseImpl(UserRepositoryPort userRepository,
-                                 Pattern emailPattern,
-                                 Pattern passwordPattern) {
+                                 CredentialPolicy credentialPolicy) {
         this.userRepository = userRepository;
-        this.emailPattern = emailPattern;
-        this.passwordPattern = passwordPattern;
+        this.credentialPolicy = credentialPolicy;
     }
 
     @Override
@@ -47,22 +46,23 @@ public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
 
             String newEmail = command.getEmail();
 
-            if (!emailPattern.matcher(newEmail).matches()) {
-                throw new BusinessException("user.email.invalid", newEmail);
+            CredentialRejection rejection = credentialPolicy.checkEmail(newEmail);
+            if (rejection != null) {
+                throw new BusinessException(rejection.getMessageCode(), newEmail);
             }
 
             if (!newEmail.equalsIgnoreCase(user.getEmail())) {
-                userRepository.findByEmail(newEmail)
-                        .ifPresent(u -> {
-                            throw new BusinessException("user.email.exists", newEmail);
-                        });
+                if (userRepository.existsByEmail(newEmail)) {
+                    throw new BusinessException("user.email.exists", newEmail);
+                }
                 user.setEmail(newEmail);
             }
         }
 
         if (command.getPassword() != null && !command.getPassword().isBlank()) {
-            if (!passwordPattern.matcher(command.getPassword()).matches()) {
-                throw new BusinessException("user.password.invalid");
+            CredentialRejection rejection = credentialPolicy.checkPassword(command.getPassword());
+            if (rejection != null) {
+                throw new BusinessException(rejection.getMessageCode());
             }
             user.setPassword(command.getPassword());
         }
@@ -73,7 +73,7 @@ public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
 
         if (command.getPhones() != null) {
             List<Phone> phones = UserUseCaseMapper.toDomainPhonesFromUpdate(command.getPhones());
-            user.setPhones(phones);
+            user.setPhones(PhoneMerger.merge(user.getPhones(), phones));
         }
 
         user.setUpdatedAt(now);
@@ -0,0 +1,77 @@
+package com.diego.interview.application.usecase.mapper;
+
+import com.diego.interview.domain.model.Phone;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reconciles a replacement phone list with the stored one so persistence
+ * only touches rows that changed: incoming phones equal to a stored one
+ * (number, city, country) keep that stored phone and its id, remaining
+ * incoming phones take over the ids of remaining stored ones (an update in
+ * place), and only the surplus is inserted or dropped.
+ */
+public final class PhoneMerger {
+
+    private PhoneMerger() {
+        // utility class
+    }
+
+    public static List<Phone> merge(List<Phone> stored, List<Phone> incoming) {
+        if (stored == null || stored.isEmpty()) {
+            return new ArrayList<>(incoming);
+        }
+
+        Map<PhoneKey, Deque<Phone>> unmatched = new HashMap<>();
+        for (Phone phone : stored) {
+            unmatched.computeIfAbsent(PhoneKey.of(phone), k -> new ArrayDeque<>()).add(phone);
+        }
+
+        List<Phone> merged = new ArrayList<>(incoming.size());
+        List<Integer> changed = new ArrayList<>();
+        for (Phone phone : incoming) {
+            Deque<Phone> same = unmatched.get(PhoneKey.of(phone));
+            if (same != null && !same.isEmpty()) {
+                merged.add(same.poll());
+            } else {
+                changed.add(merged.size());
+                merged.add(phone);
+            }
+        }
+
+        Deque<Phone> reusable = new ArrayDeque<>();
+        for (Phone phone : stored) {
+            Deque<Phone> left = unmatched.get(PhoneKey.of(phone));
+            if (left.remove(phone)) {
+                reusable.add(phone);
+            }
+        }
+
+        for (int index : changed) {
+            Phone previous = reusable.poll();
+            if (previous == null) {
+                break;
+            }
+            Phone phone = merged.get(index);
+            merged.set(index, Phone.builder()
+                    .id(previous.getId())
+                    .number(phone.getNumber())
+                    .cityCode(phone.getCityCode())
+                    .countryCode(phone.getCountryCode())
+                    .build());
+        }
+        return merged;
+    }
+
+    private record PhoneKey(String number, String cityCode, String countryCode) {
+
+        static PhoneKey of(Phone phone) {
+            return new PhoneKey(phone.getNumber(), phone.getCityCode(), phone.getCountryCode());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.diego.interview.application.usecase.mapper;
+
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.model.UserCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque cursor for keyset pagination: base64url of {@code createdAt|id}.
+ */
+public final class UserCursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private UserCursorCodec() {
+        // utility class
+    }
+
+    public static String encode(User user) {
+        String raw = user.getCreatedAt().toString() + SEPARATOR + user.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return UserCursor.builder()
+                    .createdAt(LocalDateTime.parse(raw.substring(0, separator)))
+                    .id(UUID.fromString(raw.substring(separator + 1)))
+                    .build();
+        } catch (RuntimeException ex) {
+            throw new BusinessException("user.cursor.invalid", cursor);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.diego.interview.domain.exception;
+
+public class CapacityExceededException extends BusinessException {
+
+    public CapacityExceededException(String code, Object... args) {
+        super(code, args);
+    }
+}
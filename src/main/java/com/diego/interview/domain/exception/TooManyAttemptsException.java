@@ -0,0 +1,15 @@
+package com.diego.interview.domain.exception;
+
+public class TooManyAttemptsException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyAttemptsException(long retryAfterSeconds, String code, Object... args) {
+        super(code, args);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
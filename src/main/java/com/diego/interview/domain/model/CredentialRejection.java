@@ -0,0 +1,29 @@
+package com.diego.interview.domain.model;
+
+/**
+ * Why an email or password was refused. Each reason maps to the message
+ * users already see; the finer reason is for logs and metrics.
+ */
+public enum CredentialRejection {
+    EMAIL_TOO_LONG("user.email.invalid"),
+    EMAIL_MISSING_AT("user.email.invalid"),
+    EMAIL_LOCAL_PART_INVALID("user.email.invalid"),
+    EMAIL_DOMAIN_INVALID("user.email.invalid"),
+    PASSWORD_TOO_SHORT("user.password.invalid"),
+    PASSWORD_TOO_LONG("user.password.invalid"),
+    PASSWORD_DISALLOWED_CHARACTER("user.password.invalid"),
+    PASSWORD_MISSING_LOWERCASE("user.password.invalid"),
+    PASSWORD_MISSING_UPPERCASE("user.password.invalid"),
+    PASSWORD_MISSING_DIGIT("user.password.invalid"),
+    PASSWORD_MISSING_SYMBOL("user.password.invalid");
+
+    private final String messageCode;
+
+    CredentialRejection(String messageCode) {
+        this.messageCode = messageCode;
+    }
+
+    public String getMessageCode() {
+        return messageCode;
+    }
+}
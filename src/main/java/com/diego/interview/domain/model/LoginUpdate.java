@@ -0,0 +1,18 @@
+package com.diego.interview.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The two columns a successful login changes.
+ */
+@Getter
+@Builder
+public class LoginUpdate {
+    private UUID userId;
+    private LocalDateTime lastLogin;
+    private String token;
+}
@@ -0,0 +1,19 @@
+package com.diego.interview.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A stored refresh token. Only a hash of the value handed to the client is
+ * kept, so a leaked table cannot be replayed.
+ */
+@Getter
+@Builder
+public class RefreshToken {
+    private String tokenHash;
+    private UUID userId;
+    private Instant expiresAt;
+}
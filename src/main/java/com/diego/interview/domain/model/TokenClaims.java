@@ -0,0 +1,15 @@
+package com.diego.interview.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class TokenClaims {
+    private String subject;
+    private String tokenId;
+    private Instant issuedAt;
+    private Instant expiresAt;
+}
@@ -0,0 +1,19 @@
+package com.diego.interview.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Tokens with this id issued at or before {@code revokedUpTo} are no longer
+ * accepted. Once {@code expiresAt} passes every such token has expired on its
+ * own and the entry can be dropped.
+ */
+@Getter
+@Builder
+public class TokenRevocation {
+    private String tokenId;
+    private Instant revokedUpTo;
+    private Instant expiresAt;
+}
@@ -10,7 +10,7 @@ import java.util.UUID;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 public class User {
 
     private UUID id;
@@ -0,0 +1,17 @@
+package com.diego.interview.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Position in the (createdAt, id) ordering used by keyset pagination.
+ */
+@Getter
+@Builder
+public class UserCursor {
+    private LocalDateTime createdAt;
+    private UUID id;
+}
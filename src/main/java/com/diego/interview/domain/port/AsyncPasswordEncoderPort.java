@@ -0,0 +1,10 @@
+package com.diego.interview.domain.port;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncPasswordEncoderPort extends PasswordEncoderPort {
+
+    CompletableFuture<String> encodeAsync(String rawPassword);
+
+    CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword);
+}
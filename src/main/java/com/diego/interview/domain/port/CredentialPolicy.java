@@ -0,0 +1,30 @@
+package com.diego.interview.domain.port;
+
+import com.diego.interview.domain.model.CredentialRejection;
+
+/**
+ * Format rules for emails and passwords. Both checks return null when the
+ * value is acceptable, so the common path allocates nothing.
+ */
+public interface CredentialPolicy {
+
+    /**
+     * For callers whose input was already checked against the real policy
+     * upstream, so the rules are not run twice.
+     */
+    CredentialPolicy ALREADY_CHECKED = new CredentialPolicy() {
+        @Override
+        public CredentialRejection checkEmail(String email) {
+            return null;
+        }
+
+        @Override
+        public CredentialRejection checkPassword(String password) {
+            return null;
+        }
+    };
+
+    CredentialRejection checkEmail(String email);
+
+    CredentialRejection checkPassword(String password);
+}
@@ -0,0 +1,23 @@
+package com.diego.interview.domain.port;
+
+public interface LoginThrottlePort {
+
+    /**
+     * Called before the password is checked. Rejects (with
+     * {@link com.diego.interview.domain.exception.TooManyAttemptsException})
+     * an attempt for an email or client that has failed too often lately, or
+     * that comes before its backoff since the last failure has passed. Never
+     * blocks the calling thread.
+     *
+     * @param clientIp null when unknown; only the email is then considered
+     */
+    void beforeAttempt(String email, String clientIp);
+
+    void recordFailure(String email, String clientIp);
+
+    /**
+     * Clears the email's failures. The client's are kept, so one valid
+     * account does not unlock stuffing from the same address.
+     */
+    void recordSuccess(String email, String clientIp);
+}
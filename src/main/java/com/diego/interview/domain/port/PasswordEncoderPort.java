@@ -3,4 +3,10 @@ package com.diego.interview.domain.port;
 public interface PasswordEncoderPort {
     String encode(String rawPassword);
     boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * True when the stored hash was produced by another algorithm or with
+     * weaker parameters than the ones currently configured.
+     */
+    boolean needsRehash(String encodedPassword);
 }
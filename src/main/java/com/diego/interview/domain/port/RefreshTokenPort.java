@@ -0,0 +1,21 @@
+package com.diego.interview.domain.port;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenPort {
+
+    /**
+     * Issues a new opaque refresh token for the user and returns the value to
+     * hand to the client.
+     */
+    String issue(UUID userId);
+
+    /**
+     * Uses up the token: returns the user it was issued to the first time it is
+     * presented before expiring, and empty afterwards.
+     */
+    Optional<UUID> consume(String refreshToken);
+
+    void revokeAll(UUID userId);
+}
@@ -0,0 +1,23 @@
+package com.diego.interview.domain.port;
+
+import com.diego.interview.domain.model.RefreshToken;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepositoryPort {
+
+    void save(RefreshToken refreshToken);
+
+    Optional<RefreshToken> findByHash(String tokenHash);
+
+    /**
+     * @return false when the token was already gone, e.g. used by a concurrent request
+     */
+    boolean deleteByHash(String tokenHash);
+
+    void deleteByUserId(UUID userId);
+
+    int deleteExpired(Instant now);
+}
@@ -1,11 +1,20 @@
 package com.diego.interview.domain.port;
 
+import com.diego.interview.domain.model.TokenClaims;
 import com.diego.interview.domain.model.User;
 
+import java.util.Optional;
+
 public interface TokenProviderPort {
     String generateToken(User user);
 
     boolean validateToken(String token);
 
     String getEmailFromToken(String token);
+
+    /**
+     * Verifies the signature and expiry once and returns the claims needed to
+     * authenticate the request, or empty when the token is not valid.
+     */
+    Optional<TokenClaims> parseToken(String token);
 }
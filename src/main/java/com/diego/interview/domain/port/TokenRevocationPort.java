@@ -0,0 +1,21 @@
+package com.diego.interview.domain.port;
+
+import com.diego.interview.domain.model.TokenClaims;
+
+import java.util.UUID;
+
+public interface TokenRevocationPort {
+
+    /**
+     * Revokes the given token. Tokens carry the user id as their id, so tokens
+     * issued earlier to the same user are revoked with it.
+     */
+    void revoke(TokenClaims claims);
+
+    /**
+     * Revokes every token issued to the user up to now.
+     */
+    void revokeAll(UUID userId);
+
+    boolean isRevoked(TokenClaims claims);
+}
@@ -0,0 +1,15 @@
+package com.diego.interview.domain.port;
+
+import com.diego.interview.domain.model.TokenRevocation;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenRevocationRepositoryPort {
+
+    void save(TokenRevocation revocation);
+
+    List<TokenRevocation> findActive(Instant now);
+
+    int deleteExpired(Instant now);
+}
@@ -1,22 +1,91 @@
 package com.diego.interview.domain.port;
 
+import com.diego.interview.domain.model.LoginUpdate;
 import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.model.UserCursor;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface UserRepositoryPort {
 
     User save(User user);
 
+    /**
+     * Inserts a new user. An id already set on it, taken from
+     * {@link #nextId()}, is kept, so it can go into the token before the row
+     * exists; without one a fresh id is assigned.
+     */
+    User create(User user);
+
+    /**
+     * A fresh id for a user about to be stored with {@link #create(User)} or
+     * {@link #saveAll(List)}.
+     */
+    UUID nextId();
+
+    /**
+     * Inserts new users and their phones in as few round trips as possible.
+     * All or nothing: a duplicate email fails the whole call.
+     *
+     * @return the stored users, in the same order, with their ids assigned
+     */
+    List<User> saveAll(List<User> users);
+
+    /**
+     * Writes only last_login and token for each user, in one batch. Depending
+     * on configuration this may be deferred; reads through this port still
+     * see the new values right away.
+     */
+    void recordLogins(Collection<LoginUpdate> updates);
+
     Optional<User> findByEmail(String email);
 
     Optional<User> findById(UUID id);
 
-    void deleteById(UUID id);
+    boolean existsById(UUID id);
+
+    boolean existsByEmail(String email);
+
+    /**
+     * The subset of {@code emails} that is already registered, in one query.
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Deletes the user and its phones in one statement.
+     *
+     * @return number of users removed, 0 when the id did not exist
+     */
+    int deleteById(UUID id);
+
     List<User> findAllPaged(int page, int size);
 
+    List<User> findPageAfter(UserCursor after, int size);
+
     long countAll();
 
+    /**
+     * Cheap total kept in memory: adjusted on create/delete and re-synced with
+     * {@link #countAll()} periodically. May drift slightly between refreshes.
+     */
+    long estimateCount();
+
+    /**
+     * Registered emails in ascending order, strictly after {@code after}
+     * (empty string for the first batch). Used to scan every email without
+     * loading whole users.
+     */
+    List<String> findEmailsAfter(String after, int size);
+
+    /**
+     * Hands every user, with its phones, to {@code action} in id order while
+     * reading them from a forward-only cursor. Nothing is kept once passed on,
+     * so memory does not grow with the table. Returns once all were visited.
+     */
+    void forEachUser(Consumer<User> action);
 }
@@ -0,0 +1,52 @@
+package com.diego.interview.infraestructure.config;
+
+import com.diego.interview.domain.port.CredentialPolicy;
+import com.diego.interview.infraestructure.security.OnePassCredentialPolicy;
+import com.diego.interview.infraestructure.security.RegexCredentialPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.regex.Pattern;
+
+@Configuration
+public class CredentialPolicyConfig {
+
+    // one-pass: hand-written scanner configured below
+    // regex: app.security.email-regex / app.security.password-regex as before
+    @Bean
+    public CredentialPolicy credentialPolicy(
+            @Value("${app.security.credential-policy.engine:regex}") String engine,
+            Pattern emailPattern,
+            Pattern passwordPattern,
+            @Value("${app.security.credential-policy.password.min-length:8}") int passwordMinLength,
+            @Value("${app.security.credential-policy.password.max-length:0}") int passwordMaxLength,
+            @Value("${app.security.credential-policy.password.require-lowercase:true}") boolean requireLowercase,
+            @Value("${app.security.credential-policy.password.require-uppercase:true}") boolean requireUppercase,
+            @Value("${app.security.credential-policy.password.require-digit:true}") boolean requireDigit,
+            @Value("${app.security.credential-policy.password.require-symbol:true}") boolean requireSymbol,
+            @Value("${app.security.credential-policy.password.symbols:@$!%*?&._-}") String passwordSymbols,
+            @Value("${app.security.credential-policy.email.max-length:0}") int emailMaxLength,
+            @Value("${app.security.credential-policy.email.local-max-length:0}") int emailLocalMaxLength,
+            @Value("${app.security.credential-policy.email.local-symbols:+_.-}") String emailLocalSymbols,
+            @Value("${app.security.credential-policy.email.strict-dots:false}") boolean emailStrictDots,
+            @Value("${app.security.credential-policy.email.domain-requires-dot:false}") boolean emailDomainRequiresDot) {
+        return switch (engine.trim().toLowerCase()) {
+            case "one-pass" -> new OnePassCredentialPolicy(new OnePassCredentialPolicy.Settings(
+                    passwordMinLength,
+                    passwordMaxLength,
+                    requireLowercase,
+                    requireUppercase,
+                    requireDigit,
+                    requireSymbol,
+                    passwordSymbols,
+                    emailMaxLength,
+                    emailLocalMaxLength,
+                    emailLocalSymbols,
+                    emailStrictDots,
+                    emailDomainRequiresDot));
+            case "regex" -> new RegexCredentialPolicy(emailPattern, passwordPattern);
+            default -> throw new IllegalArgumentException("Unknown app.security.credential-policy.engine: " + engine);
+        };
+    }
+}
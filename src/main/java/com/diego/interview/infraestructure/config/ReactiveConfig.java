@@ -0,0 +1,111 @@
+package com.diego.interview.infraestructure.config;
+
+import com.diego.interview.application.usecase.CreateUserUseCase;
+import com.diego.interview.application.usecase.DeleteUserUseCase;
+import com.diego.interview.application.usecase.GetUserByIdUseCase;
+import com.diego.interview.application.usecase.ListUsersUseCase;
+import com.diego.interview.application.usecase.LoginUserUseCase;
+import com.diego.interview.application.usecase.RefreshTokenUseCase;
+import com.diego.interview.application.usecase.RevokeTokensUseCase;
+import com.diego.interview.application.usecase.UpdateUserUseCase;
+import com.diego.interview.infraestructure.in.reactive.UserHandler;
+import com.diego.interview.infraestructure.in.reactive.usecase.BlockingUseCaseAdapter;
+import com.diego.interview.infraestructure.in.rest.validation.UserRequestValidator;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import org.springframework.web.server.i18n.FixedLocaleContextResolver;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Locale;
+
+/**
+ * The WebFlux inbound adapter, active only with
+ * {@code spring.main.web-application-type=reactive}. The application layer is
+ * shared with the servlet adapter; only the way requests reach it changes.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    // JPA and the hashing hand-off block, so they run here and not on the
+    // event loop; the thread cap should not exceed the connection pool by much
+    @Bean(destroyMethod = "dispose")
+    public Scheduler userBlockingScheduler(
+            @Value("${app.reactive.blocking.threads:10}") int threads,
+            @Value("${app.reactive.blocking.queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "user-blocking");
+    }
+
+    // login blocks for a whole password hash; kept apart so a burst of logins
+    // queues behind other logins only
+    @Bean(destroyMethod = "dispose")
+    public Scheduler userLoginScheduler(
+            @Value("${app.reactive.blocking.login-threads:10}") int threads,
+            @Value("${app.reactive.blocking.login-queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "user-login");
+    }
+
+    // MessageConfig pins the servlet stack to English; answer the same here
+    @Bean(name = WebHttpHandlerBuilder.LOCALE_CONTEXT_RESOLVER_BEAN_NAME)
+    public LocaleContextResolver localeContextResolver() {
+        return new FixedLocaleContextResolver(Locale.ENGLISH);
+    }
+
+    @Bean
+    public BlockingUseCaseAdapter reactiveUserUseCases(CreateUserUseCase createUserUseCase,
+                                                       LoginUserUseCase loginUserUseCase,
+                                                       ListUsersUseCase listUsersUseCase,
+                                                       GetUserByIdUseCase getUserByIdUseCase,
+                                                       DeleteUserUseCase deleteUserUseCase,
+                                                       UpdateUserUseCase updateUserUseCase,
+                                                       RefreshTokenUseCase refreshTokenUseCase,
+                                                       RevokeTokensUseCase revokeTokensUseCase,
+                                                       Scheduler userBlockingScheduler,
+                                                       Scheduler userLoginScheduler) {
+        return new BlockingUseCaseAdapter(createUserUseCase, loginUserUseCase, listUsersUseCase,
+                getUserByIdUseCase, deleteUserUseCase, updateUserUseCase, refreshTokenUseCase,
+                revokeTokensUseCase, userBlockingScheduler, userLoginScheduler);
+    }
+
+    @Bean
+    public UserHandler userHandler(BlockingUseCaseAdapter useCases,
+                                   UserRequestValidator requestValidator,
+                                   Validator validator,
+                                   MessageSource messageSource) {
+        return new UserHandler(useCases, useCases, useCases, useCases, useCases, useCases, useCases, useCases,
+                requestValidator, validator, messageSource);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> userRoutes(UserHandler handler) {
+        return userRouter(handler);
+    }
+
+    /**
+     * The same routes {@code UserController} and {@code UserTokenController}
+     * map; literal paths come before {@code /users/{id}}.
+     */
+    public static RouterFunction<ServerResponse> userRouter(UserHandler handler) {
+        return RouterFunctions.route()
+                .POST("/users/login", handler::login)
+                .POST("/users/token/refresh", handler::refresh)
+                .POST("/users/logout", handler::logout)
+                .POST("/users", handler::create)
+                .GET("/users", handler::getAllPaged)
+                .GET("/users/{id}", handler::getById)
+                .DELETE("/users/{id}/tokens", handler::revokeTokens)
+                .DELETE("/users/{id}", handler::delete)
+                .PATCH("/users/{id}", handler::updateUser)
+                .build();
+    }
+}
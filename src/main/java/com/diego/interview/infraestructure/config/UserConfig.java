@@ -1,30 +1,63 @@
 package com.diego.interview.infraestructure.config;
 
 import com.diego.interview.application.usecase.DeleteUserUseCase;
+import com.diego.interview.application.usecase.ExportUsersUseCase;
 import com.diego.interview.application.usecase.GetUserByIdUseCase;
+import com.diego.interview.application.usecase.ImportUsersUseCase;
 import com.diego.interview.application.usecase.ListUsersUseCase;
 import com.diego.interview.application.usecase.LoginUserUseCase;
+import com.diego.interview.application.usecase.RefreshTokenUseCase;
+import com.diego.interview.application.usecase.RevokeTokensUseCase;
 import com.diego.interview.application.usecase.UpdateUserUseCase;
 import com.diego.interview.application.usecase.impl.UpdateUserUseCaseImpl;
 import com.diego.interview.application.usecase.impl.DeleteUserUseCaseImpl;
+import com.diego.interview.application.usecase.impl.ExportUsersUseCaseImpl;
 import com.diego.interview.application.usecase.impl.GetUserByIdUseCaseImpl;
+import com.diego.interview.application.usecase.impl.ImportUsersUseCaseImpl;
 import com.diego.interview.application.usecase.impl.ListUsersUseCaseImpl;
 import com.diego.interview.application.usecase.impl.LoginUserUseCaseImpl;
+import com.diego.interview.application.usecase.impl.RefreshTokenUseCaseImpl;
+import com.diego.interview.application.usecase.impl.RevokeTokensUseCaseImpl;
+import com.diego.interview.domain.port.AsyncPasswordEncoderPort;
+import com.diego.interview.domain.port.CredentialPolicy;
+import com.diego.interview.domain.port.LoginThrottlePort;
 import com.diego.interview.domain.port.PasswordEncoderPort;
+import com.diego.interview.domain.port.RefreshTokenPort;
 import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.domain.port.TokenRevocationPort;
 import com.diego.interview.domain.port.UserRepositoryPort;
 import com.diego.interview.application.usecase.CreateUserUseCase;
 import com.diego.interview.application.usecase.impl.CreateUserUseCaseImpl;
 import com.diego.interview.infraestructure.out.persistence.mapper.UserMapper;
+import com.diego.interview.infraestructure.out.persistence.repository.CachingUserRepositoryAdapter;
+import com.diego.interview.infraestructure.out.persistence.repository.EmailFilterUserRepositoryAdapter;
+import com.diego.interview.infraestructure.out.persistence.repository.RefreshTokenJpaRepository;
+import com.diego.interview.infraestructure.out.persistence.repository.RefreshTokenRepositoryAdapter;
+import com.diego.interview.infraestructure.out.persistence.repository.RevokedTokenJpaRepository;
+import com.diego.interview.infraestructure.out.persistence.repository.TokenRevocationRepositoryAdapter;
 import com.diego.interview.infraestructure.out.persistence.repository.UserJpaRepository;
 import com.diego.interview.infraestructure.out.persistence.repository.UserRepositoryAdapter;
-import com.diego.interview.infraestructure.security.BCryptPasswordEncoderAdapter;
+import com.diego.interview.infraestructure.out.persistence.repository.WriteBehindLoginUserRepositoryAdapter;
+import com.diego.interview.infraestructure.security.BoundedPasswordEncoderAdapter;
+import com.diego.interview.infraestructure.security.CachingTokenProviderPort;
+import com.diego.interview.infraestructure.security.DelegatingPasswordEncoderAdapter;
+import com.diego.interview.infraestructure.security.DelegatingPasswordEncoderAdapter.PasswordHashingSettings;
+import com.diego.interview.infraestructure.security.HmacSigningKeys;
+import com.diego.interview.infraestructure.security.JwtSigningKeys;
 import com.diego.interview.infraestructure.security.JwtTokenProviderPort;
+import com.diego.interview.infraestructure.security.OpaqueRefreshTokenStore;
+import com.diego.interview.infraestructure.security.RotatingEcSigningKeys;
+import com.diego.interview.infraestructure.security.SlidingWindowLoginThrottle;
+import com.diego.interview.infraestructure.security.TokenRevocationList;
+import com.diego.interview.infraestructure.validation.MeteredCredentialPolicy;
+import com.diego.interview.infraestructure.validation.ValidationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.regex.Pattern;
+import java.nio.file.Path;
+import java.time.Duration;
 
 @Configuration
 public class UserConfig {
@@ -35,28 +68,93 @@ public class UserConfig {
     }
 
     @Bean
-    public UserRepositoryPort userRepository(UserJpaRepository jpa) {
-        return new UserRepositoryAdapter(jpa);
+    public UserRepositoryPort userRepository(
+            UserJpaRepository jpa,
+            @Value("${app.users.count.refresh-seconds:60}") long countRefreshSeconds,
+            @Value("${app.users.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${app.users.cache.maximum-size:10000}") long cacheMaximumSize,
+            @Value("${app.users.cache.ttl-seconds:300}") long cacheTtlSeconds,
+            @Value("${app.users.email-filter.enabled:false}") boolean emailFilterEnabled,
+            @Value("${app.users.email-filter.expected-insertions:100000}") long emailFilterExpected,
+            @Value("${app.users.email-filter.false-positive-rate:0.01}") double emailFilterFpp,
+            @Value("${app.users.login-write-behind.enabled:false}") boolean writeBehindEnabled,
+            @Value("${app.users.login-write-behind.flush-interval-ms:1000}") long writeBehindIntervalMs,
+            @Value("${app.users.login-write-behind.max-pending:1000}") int writeBehindMaxPending,
+            MeterRegistry meterRegistry) {
+        UserRepositoryPort repository = new UserRepositoryAdapter(jpa, Duration.ofSeconds(countRefreshSeconds));
+        if (cacheEnabled) {
+            CachingUserRepositoryAdapter cached = new CachingUserRepositoryAdapter(
+                    repository, cacheMaximumSize, Duration.ofSeconds(cacheTtlSeconds));
+            cached.bindTo(meterRegistry);
+            repository = cached;
+        }
+        if (emailFilterEnabled) {
+            EmailFilterUserRepositoryAdapter filtered = new EmailFilterUserRepositoryAdapter(
+                    repository, emailFilterExpected, emailFilterFpp);
+            filtered.rebuild();
+            filtered.bindTo(meterRegistry);
+            repository = filtered;
+        }
+        if (writeBehindEnabled) {
+            // outermost, so reads overlay pending logins on whatever the cache holds;
+            // being AutoCloseable it is flushed when the context shuts down
+            WriteBehindLoginUserRepositoryAdapter writeBehind = new WriteBehindLoginUserRepositoryAdapter(
+                    repository, Duration.ofMillis(writeBehindIntervalMs), writeBehindMaxPending);
+            writeBehind.bindTo(meterRegistry);
+            repository = writeBehind;
+        }
+        return repository;
     }
 
 
     @Bean
     public CreateUserUseCase createUserUseCase(
             UserRepositoryPort userRepositoryPort,
-            Pattern emailPattern,
-            Pattern passwordPattern,
+            CredentialPolicy credentialPolicy,
             TokenProviderPort tokenProviderPort,
-            PasswordEncoderPort passwordEncoderPort) {
+            PasswordEncoderPort passwordEncoderPort,
+            @Value("${app.users.token-mode:stateful}") String tokenMode,
+            @Value("${app.validation.use-case-recheck:false}") boolean useCaseRecheck,
+            @Value("${security.jwt.refresh.enabled:false}") boolean refreshEnabled,
+            RefreshTokenPort refreshTokenPort,
+            MeterRegistry meterRegistry) {
 
         return new CreateUserUseCaseImpl(
                 userRepositoryPort,
-                emailPattern,
-                passwordPattern,
+                useCaseCredentialPolicy(credentialPolicy, useCaseRecheck, meterRegistry),
                 tokenProviderPort,
-                passwordEncoderPort
+                passwordEncoderPort,
+                persistTokens(tokenMode),
+                refreshEnabled ? refreshTokenPort : null
         );
     }
     @Bean
+    public ImportUsersUseCase importUsersUseCase(
+            UserRepositoryPort userRepositoryPort,
+            CredentialPolicy credentialPolicy,
+            TokenProviderPort tokenProviderPort,
+            AsyncPasswordEncoderPort passwordEncoderPort,
+            @Value("${app.users.import.batch-size:1000}") int batchSize,
+            @Value("${app.users.import.hashing-parallelism:0}") int hashingParallelism,
+            @Value("${app.users.token-mode:stateful}") String tokenMode,
+            MeterRegistry meterRegistry) {
+        int parallelism = hashingParallelism > 0 ? hashingParallelism : Runtime.getRuntime().availableProcessors();
+        return new ImportUsersUseCaseImpl(
+                userRepositoryPort,
+                // imported rows do not go through UserRequestValidator, so the use case checks them
+                new MeteredCredentialPolicy(credentialPolicy, new ValidationMetrics(meterRegistry, "usecase")),
+                tokenProviderPort,
+                passwordEncoderPort,
+                batchSize,
+                parallelism,
+                persistTokens(tokenMode)
+        );
+    }
+    @Bean
+    public ExportUsersUseCase exportUsersUseCase(UserRepositoryPort userRepositoryPort) {
+        return new ExportUsersUseCaseImpl(userRepositoryPort);
+    }
+    @Bean
     public GetUserByIdUseCase getUserByIdUseCase(UserRepositoryPort userRepositoryPort){
         return new GetUserByIdUseCaseImpl(userRepositoryPort);
     }
@@ -65,25 +163,85 @@ public class UserConfig {
         return new DeleteUserUseCaseImpl(userRepositoryPort);
     }
     @Bean
-    public UpdateUserUseCase updateUserUseCase(UserRepositoryPort userRepositoryPort,Pattern emailPattern,
-                                               Pattern passwordPattern){
-        return new UpdateUserUseCaseImpl(userRepositoryPort, emailPattern,passwordPattern);
+    public UpdateUserUseCase updateUserUseCase(UserRepositoryPort userRepositoryPort,
+                                               CredentialPolicy credentialPolicy,
+                                               @Value("${app.validation.use-case-recheck:false}") boolean useCaseRecheck,
+                                               MeterRegistry meterRegistry){
+        return new UpdateUserUseCaseImpl(userRepositoryPort,
+                useCaseCredentialPolicy(credentialPolicy, useCaseRecheck, meterRegistry));
     }
     @Bean
     public LoginUserUseCase  loginUserUseCase(
             UserRepositoryPort userRepositoryPort,
             TokenProviderPort tokenProviderPort,
-            PasswordEncoderPort passwordEncoderPort) {
+            PasswordEncoderPort passwordEncoderPort,
+            @Value("${app.users.token-mode:stateful}") String tokenMode,
+            @Value("${app.users.login.last-login-sample-rate:1.0}") double lastLoginSampleRate,
+            @Value("${security.jwt.refresh.enabled:false}") boolean refreshEnabled,
+            @Value("${app.security.login-throttle.enabled:false}") boolean throttleEnabled,
+            RefreshTokenPort refreshTokenPort,
+            LoginThrottlePort loginThrottlePort) {
 
         return new LoginUserUseCaseImpl(
                 userRepositoryPort,
                 tokenProviderPort,
-                passwordEncoderPort
+                passwordEncoderPort,
+                persistTokens(tokenMode),
+                lastLoginSampleRate,
+                refreshEnabled ? refreshTokenPort : null,
+                throttleEnabled ? loginThrottlePort : null
         );
     }
     @Bean
-    public PasswordEncoderPort passwordEncoderPort() {
-        return new BCryptPasswordEncoderAdapter();
+    public SlidingWindowLoginThrottle loginThrottle(
+            @Value("${app.security.login-throttle.window-seconds:900}") long windowSeconds,
+            @Value("${app.security.login-throttle.email.delay-after:3}") int emailDelayAfter,
+            @Value("${app.security.login-throttle.email.reject-after:10}") int emailRejectAfter,
+            @Value("${app.security.login-throttle.client.delay-after:20}") int clientDelayAfter,
+            @Value("${app.security.login-throttle.client.reject-after:100}") int clientRejectAfter,
+            @Value("${app.security.login-throttle.base-delay-ms:250}") long baseDelayMs,
+            @Value("${app.security.login-throttle.max-delay-ms:2000}") long maxDelayMs,
+            @Value("${app.security.login-throttle.max-tracked-keys:100000}") int maxTrackedKeys,
+            @Value("${app.security.login-throttle.stripes:64}") int stripes,
+            MeterRegistry meterRegistry) {
+        SlidingWindowLoginThrottle throttle = new SlidingWindowLoginThrottle(new SlidingWindowLoginThrottle.Settings(
+                Duration.ofSeconds(windowSeconds),
+                emailDelayAfter,
+                emailRejectAfter,
+                clientDelayAfter,
+                clientRejectAfter,
+                Duration.ofMillis(baseDelayMs),
+                Duration.ofMillis(maxDelayMs),
+                maxTrackedKeys,
+                stripes));
+        throttle.bindTo(meterRegistry);
+        return throttle;
+    }
+    @Bean
+    public AsyncPasswordEncoderPort passwordEncoderPort(
+            @Value("${app.security.password-hashing.pool-size:0}") int poolSize,
+            @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password-hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${app.security.password-hashing.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${app.security.password-hashing.argon2.salt-length:16}") int argon2SaltLength,
+            @Value("${app.security.password-hashing.argon2.hash-length:32}") int argon2HashLength,
+            @Value("${app.security.password-hashing.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${app.security.password-hashing.argon2.memory-kb:19456}") int argon2MemoryKb,
+            @Value("${app.security.password-hashing.argon2.iterations:2}") int argon2Iterations,
+            @Value("${app.security.password-hashing.pbkdf2.salt-length:16}") int pbkdf2SaltLength,
+            @Value("${app.security.password-hashing.pbkdf2.iterations:310000}") int pbkdf2Iterations) {
+        PasswordHashingSettings settings = new PasswordHashingSettings(
+                bcryptStrength,
+                argon2SaltLength,
+                argon2HashLength,
+                argon2Parallelism,
+                argon2MemoryKb,
+                argon2Iterations,
+                pbkdf2SaltLength,
+                pbkdf2Iterations);
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoderAdapter(
+                new DelegatingPasswordEncoderAdapter(algorithm, settings), threads, queueCapacity);
     }
     @Bean
     public ListUsersUseCase listUsersUseCase(
@@ -93,10 +251,99 @@ public class UserConfig {
                 userRepositoryPort
         );
     }
+    // HS256: one shared secret signs and verifies
+    // ES256: rotating key pairs from a local directory, public halves published as JWKS
+    @Bean
+    public JwtSigningKeys jwtSigningKeys(
+            @Value("${security.jwt.algorithm:HS256}") String algorithm,
+            @Value("${security.jwt.secret:}") String secret,
+            @Value("${security.jwt.expiration-seconds}") long expiration,
+            @Value("${security.jwt.keys.directory:jwt-keys}") String directory,
+            @Value("${security.jwt.keys.rotation-interval-seconds:86400}") long rotationIntervalSeconds,
+            @Value("${security.jwt.keys.check-interval-seconds:60}") long checkIntervalSeconds) {
+        return switch (algorithm.trim().toUpperCase()) {
+            case "HS256" -> new HmacSigningKeys(secret);
+            case "ES256" -> new RotatingEcSigningKeys(
+                    Path.of(directory),
+                    Duration.ofSeconds(rotationIntervalSeconds),
+                    Duration.ofSeconds(expiration),
+                    Duration.ofSeconds(checkIntervalSeconds));
+            default -> throw new IllegalArgumentException("Unknown security.jwt.algorithm: " + algorithm);
+        };
+    }
     @Bean
     public TokenProviderPort tokenProvider(
-            @Value("${security.jwt.secret}") String secret,
-            @Value("${security.jwt.expiration-seconds}") long expiration) {
-        return new JwtTokenProviderPort(secret, expiration);
+            JwtSigningKeys jwtSigningKeys,
+            @Value("${security.jwt.expiration-seconds}") long expiration,
+            @Value("${security.jwt.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${security.jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+            MeterRegistry meterRegistry) {
+        TokenProviderPort jwt = new JwtTokenProviderPort(jwtSigningKeys, expiration);
+        if (!cacheEnabled) {
+            return jwt;
+        }
+        CachingTokenProviderPort cached = new CachingTokenProviderPort(jwt, cacheMaximumSize);
+        cached.bindTo(meterRegistry);
+        return cached;
+    }
+    @Bean
+    public TokenRevocationList tokenRevocationList(
+            RevokedTokenJpaRepository jpa,
+            @Value("${security.jwt.expiration-seconds}") long expiration,
+            @Value("${security.jwt.revocation.prune-interval-seconds:60}") long pruneIntervalSeconds,
+            MeterRegistry meterRegistry) {
+        TokenRevocationList revocations = new TokenRevocationList(
+                new TokenRevocationRepositoryAdapter(jpa),
+                Duration.ofSeconds(expiration),
+                Duration.ofSeconds(pruneIntervalSeconds));
+        revocations.load();
+        revocations.bindTo(meterRegistry);
+        return revocations;
+    }
+    @Bean
+    public RevokeTokensUseCase revokeTokensUseCase(
+            TokenProviderPort tokenProviderPort,
+            TokenRevocationPort tokenRevocationPort,
+            UserRepositoryPort userRepositoryPort,
+            RefreshTokenPort refreshTokenPort) {
+        return new RevokeTokensUseCaseImpl(tokenProviderPort, tokenRevocationPort, userRepositoryPort, refreshTokenPort);
+    }
+    @Bean
+    public OpaqueRefreshTokenStore refreshTokenStore(
+            RefreshTokenJpaRepository jpa,
+            @Value("${security.jwt.refresh.expiration-seconds:1209600}") long expiration,
+            @Value("${security.jwt.refresh.prune-interval-seconds:3600}") long pruneIntervalSeconds) {
+        return new OpaqueRefreshTokenStore(
+                new RefreshTokenRepositoryAdapter(jpa),
+                Duration.ofSeconds(expiration),
+                Duration.ofSeconds(pruneIntervalSeconds));
+    }
+    @Bean
+    public RefreshTokenUseCase refreshTokenUseCase(
+            RefreshTokenPort refreshTokenPort,
+            TokenProviderPort tokenProviderPort,
+            UserRepositoryPort userRepositoryPort) {
+        return new RefreshTokenUseCaseImpl(refreshTokenPort, tokenProviderPort, userRepositoryPort);
+    }
+
+    // stateful: every issued token is also written to users.token (nothing reads it back)
+    // stateless: tokens are only handed to the client
+    private static boolean persistTokens(String tokenMode) {
+        return switch (tokenMode.trim().toLowerCase()) {
+            case "stateful" -> true;
+            case "stateless" -> false;
+            default -> throw new IllegalArgumentException("Unknown app.users.token-mode: " + tokenMode);
+        };
+    }
+
+    // UserRequestValidator already ran the policy on every request these use cases serve;
+    // app.validation.use-case-recheck=true runs it again here
+    private static CredentialPolicy useCaseCredentialPolicy(CredentialPolicy credentialPolicy,
+                                                            boolean recheck,
+                                                            MeterRegistry meterRegistry) {
+        if (!recheck) {
+            return CredentialPolicy.ALREADY_CHECKED;
+        }
+        return new MeteredCredentialPolicy(credentialPolicy, new ValidationMetrics(meterRegistry, "usecase"));
     }
 }
@@ -0,0 +1,31 @@
+package com.diego.interview.infraestructure.config;
+
+import com.diego.interview.domain.port.CredentialPolicy;
+import com.diego.interview.infraestructure.in.rest.validation.UserRequestValidator;
+import com.diego.interview.infraestructure.validation.MeteredValidatorFactory;
+import com.diego.interview.infraestructure.validation.ValidationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validation;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ValidationConfig {
+
+    @Bean
+    public UserRequestValidator userRequestValidator(CredentialPolicy credentialPolicy, MeterRegistry meterRegistry) {
+        return new UserRequestValidator(credentialPolicy, new ValidationMetrics(meterRegistry, "request"));
+    }
+
+    // Hibernate validates entities on persist/update unless
+    // spring.jpa.properties.jakarta.persistence.validation.mode=none; when it
+    // does, that pass is timed as the persistence layer
+    @Bean
+    public HibernatePropertiesCustomizer meteredBeanValidation(MeterRegistry meterRegistry) {
+        return properties -> properties.put("jakarta.persistence.validation.factory",
+                new MeteredValidatorFactory(
+                        Validation.buildDefaultValidatorFactory(),
+                        new ValidationMetrics(meterRegistry, "persistence")));
+    }
+}
@@ -0,0 +1,228 @@
+package com.diego.interview.infraestructure.in.reactive;
+
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.exception.CapacityExceededException;
+import com.diego.interview.domain.exception.TooManyAttemptsException;
+import com.diego.interview.infraestructure.in.reactive.usecase.ReactiveCreateUserUseCase;
+import com.diego.interview.infraestructure.in.reactive.usecase.ReactiveDeleteUserUseCase;
+import com.diego.interview.infraestructure.in.reactive.usecase.ReactiveGetUserByIdUseCase;
+import com.diego.interview.infraestructure.in.reactive.usecase.ReactiveListUsersUseCase;
+import com.diego.interview.infraestructure.in.reactive.usecase.ReactiveLoginUserUseCase;
+import com.diego.interview.infraestructure.in.reactive.usecase.ReactiveRefreshTokenUseCase;
+import com.diego.interview.infraestructure.in.reactive.usecase.ReactiveRevokeTokensUseCase;
+import com.diego.interview.infraestructure.in.reactive.usecase.ReactiveUpdateUserUseCase;
+import com.diego.interview.infraestructure.in.rest.dto.CreateUserRequest;
+import com.diego.interview.infraestructure.in.rest.dto.LoginRequest;
+import com.diego.interview.infraestructure.in.rest.dto.RefreshTokenRequest;
+import com.diego.interview.infraestructure.in.rest.dto.UpdateUserRequest;
+import com.diego.interview.infraestructure.in.rest.validation.UserRequestValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.diego.interview.infraestructure.in.rest.mapper.UserMapper.mapToCommand;
+import static com.diego.interview.infraestructure.in.rest.mapper.UserMapper.mapToUpdateCommand;
+
+/**
+ * WebFlux counterpart of {@code UserController} and {@code UserTokenController}:
+ * same paths, request bodies, status codes and error bodies, so clients cannot
+ * tell which stack answered. Request validation runs on the event loop since
+ * it is pure CPU; everything that touches the database or hashes a password
+ * goes through the reactive use cases, which move it off the loop.
+ */
+public class UserHandler {
+
+    private static final String BEARER = "Bearer ";
+
+    private final ReactiveCreateUserUseCase createUserUseCase;
+    private final ReactiveLoginUserUseCase loginUserUseCase;
+    private final ReactiveListUsersUseCase listUsersUseCase;
+    private final ReactiveGetUserByIdUseCase getUserByIdUseCase;
+    private final ReactiveDeleteUserUseCase deleteUserUseCase;
+    private final ReactiveUpdateUserUseCase updateUserUseCase;
+    private final ReactiveRefreshTokenUseCase refreshTokenUseCase;
+    private final ReactiveRevokeTokensUseCase revokeTokensUseCase;
+    private final UserRequestValidator requestValidator;
+    private final Validator validator;
+    private final MessageSource messageSource;
+
+    public UserHandler(ReactiveCreateUserUseCase createUserUseCase,
+                       ReactiveLoginUserUseCase loginUserUseCase,
+                       ReactiveListUsersUseCase listUsersUseCase,
+                       ReactiveGetUserByIdUseCase getUserByIdUseCase,
+                       ReactiveDeleteUserUseCase deleteUserUseCase,
+                       ReactiveUpdateUserUseCase updateUserUseCase,
+                       ReactiveRefreshTokenUseCase refreshTokenUseCase,
+                       ReactiveRevokeTokensUseCase revokeTokensUseCase,
+                       UserRequestValidator requestValidator,
+                       Validator validator,
+                       MessageSource messageSource) {
+        this.createUserUseCase = createUserUseCase;
+        this.loginUserUseCase = loginUserUseCase;
+        this.listUsersUseCase = listUsersUseCase;
+        this.getUserByIdUseCase = getUserByIdUseCase;
+        this.deleteUserUseCase = deleteUserUseCase;
+        this.updateUserUseCase = updateUserUseCase;
+        this.refreshTokenUseCase = refreshTokenUseCase;
+        this.revokeTokensUseCase = revokeTokensUseCase;
+        this.requestValidator = requestValidator;
+        this.validator = validator;
+        this.messageSource = messageSource;
+    }
+
+    public Mono<ServerResponse> create(ServerRequest request) {
+        return body(request, CreateUserRequest.class)
+                .flatMap(body -> {
+                    requestValidator.validate(body);
+                    return createUserUseCase.createUser(mapToCommand(body));
+                })
+                .flatMap(response -> ServerResponse.status(HttpStatus.CREATED).bodyValue(response))
+                .onErrorResume(BusinessException.class, ex -> error(request, ex));
+    }
+
+    public Mono<ServerResponse> login(ServerRequest request) {
+        String clientIp = request.remoteAddress()
+                .map(InetSocketAddress::getAddress)
+                .map(InetAddress::getHostAddress)
+                .orElse(null);
+        return body(request, LoginRequest.class)
+                .flatMap(body -> {
+                    String violation = firstViolation(body);
+                    if (violation != null) {
+                        return ServerResponse.badRequest().bodyValue(Map.of("mensaje", violation));
+                    }
+                    return loginUserUseCase.login(body.getEmail(), body.getPassword(), clientIp)
+                            .flatMap(response -> ServerResponse.ok().bodyValue(response));
+                })
+                .onErrorResume(BusinessException.class, ex -> error(request, ex));
+    }
+
+    public Mono<ServerResponse> getAllPaged(ServerRequest request) {
+        int page = intParam(request, "page", 0);
+        int size = intParam(request, "size", 10);
+        Optional<Boolean> exactTotal = request.queryParam("exactTotal").map(Boolean::parseBoolean);
+        String after = request.queryParam("after").orElse(null);
+        // same defaults as UserController: exact for numbered pages, estimated for cursor pages
+        return (after != null
+                ? listUsersUseCase.listUsersAfter(after, size, exactTotal.orElse(false))
+                : listUsersUseCase.listUsers(page, size, exactTotal.orElse(true)))
+                .flatMap(response -> ServerResponse.ok().bodyValue(response))
+                .onErrorResume(BusinessException.class, ex -> error(request, ex));
+    }
+
+    public Mono<ServerResponse> getById(ServerRequest request) {
+        return getUserByIdUseCase.getById(idParam(request))
+                .flatMap(response -> ServerResponse.ok().bodyValue(response))
+                .onErrorResume(BusinessException.class, ex -> error(request, ex));
+    }
+
+    public Mono<ServerResponse> delete(ServerRequest request) {
+        return deleteUserUseCase.deleteById(idParam(request))
+                .then(ServerResponse.noContent().build())
+                .onErrorResume(BusinessException.class, ex -> error(request, ex));
+    }
+
+    public Mono<ServerResponse> updateUser(ServerRequest request) {
+        UUID id = idParam(request);
+        return body(request, UpdateUserRequest.class)
+                .flatMap(body -> {
+                    requestValidator.validate(body);
+                    return updateUserUseCase.update(id, mapToUpdateCommand(body));
+                })
+                .flatMap(response -> ServerResponse.ok().bodyValue(response))
+                .onErrorResume(BusinessException.class, ex -> error(request, ex));
+    }
+
+    public Mono<ServerResponse> refresh(ServerRequest request) {
+        return body(request, RefreshTokenRequest.class)
+                .flatMap(body -> {
+                    String violation = firstViolation(body);
+                    if (violation != null) {
+                        return ServerResponse.badRequest().bodyValue(Map.of("mensaje", violation));
+                    }
+                    return refreshTokenUseCase.refresh(body.getRefreshToken())
+                            .flatMap(response -> ServerResponse.ok().bodyValue(response));
+                })
+                .onErrorResume(BusinessException.class, ex -> error(request, ex));
+    }
+
+    public Mono<ServerResponse> logout(ServerRequest request) {
+        // the security filter only lets bearer-authenticated requests this far
+        String authorization = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        return revokeTokensUseCase.logout(authorization.substring(BEARER.length()))
+                .then(ServerResponse.noContent().build())
+                .onErrorResume(BusinessException.class, ex -> error(request, ex));
+    }
+
+    public Mono<ServerResponse> revokeTokens(ServerRequest request) {
+        return revokeTokensUseCase.revokeUserTokens(idParam(request))
+                .then(ServerResponse.noContent().build())
+                .onErrorResume(BusinessException.class, ex -> error(request, ex));
+    }
+
+    /**
+     * Same statuses, headers and body as {@code RestExceptionHandler}, in the
+     * locale the exchange's {@code LocaleContextResolver} picks.
+     */
+    private Mono<ServerResponse> error(ServerRequest request, BusinessException ex) {
+        Locale locale = request.exchange().getLocaleContext().getLocale();
+        Map<String, String> body = Map.of("mensaje", messageSource.getMessage(
+                ex.getCode(), ex.getArgs(), locale != null ? locale : Locale.ENGLISH));
+        if (ex instanceof TooManyAttemptsException tooMany) {
+            return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(tooMany.getRetryAfterSeconds()))
+                    .bodyValue(body);
+        }
+        if (ex instanceof CapacityExceededException) {
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .bodyValue(body);
+        }
+        return ServerResponse.badRequest().bodyValue(body);
+    }
+
+    private static <T> Mono<T> body(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")));
+    }
+
+    private String firstViolation(Object body) {
+        return validator.validate(body).stream()
+                .findFirst()
+                .map(ConstraintViolation::getMessage)
+                .orElse(null);
+    }
+
+    private static UUID idParam(ServerRequest request) {
+        try {
+            return UUID.fromString(request.pathVariable("id"));
+        } catch (IllegalArgumentException ex) {
+            throw new ServerWebInputException("Invalid id: " + request.pathVariable("id"));
+        }
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        String value = request.queryParam(name).orElse(null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new ServerWebInputException("Invalid " + name + ": " + value);
+        }
+    }
+}
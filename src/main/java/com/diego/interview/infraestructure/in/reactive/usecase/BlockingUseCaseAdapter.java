@@ -0,0 +1,134 @@
+package com.diego.interview.infraestructure.in.reactive.usecase;
+
+import com.diego.interview.application.usecase.CreateUserUseCase;
+import com.diego.interview.application.usecase.DeleteUserUseCase;
+import com.diego.interview.application.usecase.GetUserByIdUseCase;
+import com.diego.interview.application.usecase.ListUsersUseCase;
+import com.diego.interview.application.usecase.LoginUserUseCase;
+import com.diego.interview.application.usecase.RefreshTokenUseCase;
+import com.diego.interview.application.usecase.RevokeTokensUseCase;
+import com.diego.interview.application.usecase.UpdateUserUseCase;
+import com.diego.interview.application.usecase.dto.CreateUserCommand;
+import com.diego.interview.application.usecase.dto.PagedResponse;
+import com.diego.interview.application.usecase.dto.TokenResponse;
+import com.diego.interview.application.usecase.dto.UpdateUserCommand;
+import com.diego.interview.application.usecase.dto.UserResponse;
+import com.diego.interview.domain.exception.CapacityExceededException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Reactive face of the blocking use cases. Every call runs on a bounded
+ * scheduler, so JPA never blocks a Netty event loop; password hashing inside
+ * the use cases still moves on to its own bounded pool. Login waits for that
+ * hash, so it runs on a scheduler of its own and a login flood cannot starve
+ * the other calls. When a scheduler's queue is full the call fails with
+ * {@code service.busy}, as a full hashing queue does.
+ */
+public class BlockingUseCaseAdapter implements ReactiveCreateUserUseCase, ReactiveLoginUserUseCase,
+        ReactiveListUsersUseCase, ReactiveGetUserByIdUseCase, ReactiveDeleteUserUseCase,
+        ReactiveUpdateUserUseCase, ReactiveRefreshTokenUseCase, ReactiveRevokeTokensUseCase {
+
+    private final CreateUserUseCase createUserUseCase;
+    private final LoginUserUseCase loginUserUseCase;
+    private final ListUsersUseCase listUsersUseCase;
+    private final GetUserByIdUseCase getUserByIdUseCase;
+    private final DeleteUserUseCase deleteUserUseCase;
+    private final UpdateUserUseCase updateUserUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
+    private final RevokeTokensUseCase revokeTokensUseCase;
+    private final Scheduler scheduler;
+    private final Scheduler loginScheduler;
+
+    public BlockingUseCaseAdapter(CreateUserUseCase createUserUseCase,
+                                  LoginUserUseCase loginUserUseCase,
+                                  ListUsersUseCase listUsersUseCase,
+                                  GetUserByIdUseCase getUserByIdUseCase,
+                                  DeleteUserUseCase deleteUserUseCase,
+                                  UpdateUserUseCase updateUserUseCase,
+                                  RefreshTokenUseCase refreshTokenUseCase,
+                                  RevokeTokensUseCase revokeTokensUseCase,
+                                  Scheduler scheduler,
+                                  Scheduler loginScheduler) {
+        this.createUserUseCase = createUserUseCase;
+        this.loginUserUseCase = loginUserUseCase;
+        this.listUsersUseCase = listUsersUseCase;
+        this.getUserByIdUseCase = getUserByIdUseCase;
+        this.deleteUserUseCase = deleteUserUseCase;
+        this.updateUserUseCase = updateUserUseCase;
+        this.refreshTokenUseCase = refreshTokenUseCase;
+        this.revokeTokensUseCase = revokeTokensUseCase;
+        this.scheduler = scheduler;
+        this.loginScheduler = loginScheduler;
+    }
+
+    @Override
+    public Mono<UserResponse> createUser(CreateUserCommand command) {
+        return offload(() -> createUserUseCase.createUser(command));
+    }
+
+    @Override
+    public Mono<UserResponse> login(String email, String password, String clientIp) {
+        return offload(() -> loginUserUseCase.login(email, password, clientIp), loginScheduler);
+    }
+
+    @Override
+    public Mono<PagedResponse<UserResponse>> listUsers(int page, int size, boolean exactTotal) {
+        return offload(() -> listUsersUseCase.listUsers(page, size, exactTotal));
+    }
+
+    @Override
+    public Mono<PagedResponse<UserResponse>> listUsersAfter(String after, int size, boolean exactTotal) {
+        return offload(() -> listUsersUseCase.listUsersAfter(after, size, exactTotal));
+    }
+
+    @Override
+    public Mono<UserResponse> getById(UUID id) {
+        return offload(() -> getUserByIdUseCase.getById(id));
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return offload(() -> deleteUserUseCase.deleteById(id));
+    }
+
+    @Override
+    public Mono<UserResponse> update(UUID id, UpdateUserCommand command) {
+        return offload(() -> updateUserUseCase.update(id, command));
+    }
+
+    @Override
+    public Mono<TokenResponse> refresh(String refreshToken) {
+        return offload(() -> refreshTokenUseCase.refresh(refreshToken));
+    }
+
+    @Override
+    public Mono<Void> logout(String token) {
+        return offload(() -> revokeTokensUseCase.logout(token));
+    }
+
+    @Override
+    public Mono<Void> revokeUserTokens(UUID userId) {
+        return offload(() -> revokeTokensUseCase.revokeUserTokens(userId));
+    }
+
+    private <T> Mono<T> offload(Callable<T> call) {
+        return offload(call, scheduler);
+    }
+
+    private <T> Mono<T> offload(Callable<T> call, Scheduler on) {
+        return Mono.fromCallable(call)
+                .subscribeOn(on)
+                .onErrorMap(RejectedExecutionException.class, ex -> new CapacityExceededException("service.busy"));
+    }
+
+    private Mono<Void> offload(Runnable call) {
+        return Mono.<Void>fromRunnable(call)
+                .subscribeOn(scheduler)
+                .onErrorMap(RejectedExecutionException.class, ex -> new CapacityExceededException("service.busy"));
+    }
+}
@@ -0,0 +1,9 @@
+package com.diego.interview.infraestructure.in.reactive.usecase;
+
+import com.diego.interview.application.usecase.dto.CreateUserCommand;
+import com.diego.interview.application.usecase.dto.UserResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCreateUserUseCase {
+    Mono<UserResponse> createUser(CreateUserCommand command);
+}
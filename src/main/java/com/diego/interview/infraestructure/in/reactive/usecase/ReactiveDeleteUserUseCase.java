@@ -0,0 +1,9 @@
+package com.diego.interview.infraestructure.in.reactive.usecase;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveDeleteUserUseCase {
+    Mono<Void> deleteById(UUID id);
+}
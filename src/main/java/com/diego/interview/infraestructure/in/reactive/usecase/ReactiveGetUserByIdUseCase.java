@@ -0,0 +1,10 @@
+package com.diego.interview.infraestructure.in.reactive.usecase;
+
+import com.diego.interview.application.usecase.dto.UserResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveGetUserByIdUseCase {
+    Mono<UserResponse> getById(UUID id);
+}
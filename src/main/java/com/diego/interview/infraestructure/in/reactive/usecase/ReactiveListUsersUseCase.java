@@ -0,0 +1,10 @@
+package com.diego.interview.infraestructure.in.reactive.usecase;
+
+import com.diego.interview.application.usecase.dto.PagedResponse;
+import com.diego.interview.application.usecase.dto.UserResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveListUsersUseCase {
+    Mono<PagedResponse<UserResponse>> listUsers(int page, int size, boolean exactTotal);
+    Mono<PagedResponse<UserResponse>> listUsersAfter(String after, int size, boolean exactTotal);
+}
@@ -0,0 +1,11 @@
+package com.diego.interview.infraestructure.in.reactive.usecase;
+
+import com.diego.interview.application.usecase.dto.UserResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveLoginUserUseCase {
+    /**
+     * @param clientIp address the attempt came from, used for throttling; null when unknown
+     */
+    Mono<UserResponse> login(String email, String password, String clientIp);
+}
@@ -0,0 +1,8 @@
+package com.diego.interview.infraestructure.in.reactive.usecase;
+
+import com.diego.interview.application.usecase.dto.TokenResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRefreshTokenUseCase {
+    Mono<TokenResponse> refresh(String refreshToken);
+}
@@ -0,0 +1,10 @@
+package com.diego.interview.infraestructure.in.reactive.usecase;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveRevokeTokensUseCase {
+    Mono<Void> logout(String token);
+    Mono<Void> revokeUserTokens(UUID userId);
+}
@@ -0,0 +1,11 @@
+package com.diego.interview.infraestructure.in.reactive.usecase;
+
+import com.diego.interview.application.usecase.dto.UpdateUserCommand;
+import com.diego.interview.application.usecase.dto.UserResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveUpdateUserUseCase {
+    Mono<UserResponse> update(UUID id, UpdateUserCommand command);
+}
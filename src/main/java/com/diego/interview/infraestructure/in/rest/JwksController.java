@@ -0,0 +1,70 @@
+package com.diego.interview.infraestructure.in.rest;
+
+import com.diego.interview.infraestructure.security.JwtSigningKeys;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigInteger;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes the keys that currently verify access tokens as a JSON Web Key
+ * Set, so other services can check our tokens without holding a secret or
+ * calling us per request.
+ */
+@RestController
+public class JwksController {
+
+    // P-256 coordinates are 32 bytes
+    private static final int P256_COORDINATE_BYTES = 32;
+
+    private final JwtSigningKeys signingKeys;
+
+    public JwksController(JwtSigningKeys signingKeys) {
+        this.signingKeys = signingKeys;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, String>>>> jwks() {
+        List<Map<String, String>> keys = new ArrayList<>();
+        for (Map.Entry<String, PublicKey> entry : signingKeys.publicKeys().entrySet()) {
+            if (entry.getValue() instanceof ECPublicKey ec) {
+                keys.add(toJwk(entry.getKey(), ec));
+            }
+        }
+        // a key is published at least this long before it signs, so a cached
+        // copy never misses the key of a token it is asked to verify
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JwtSigningKeys.PUBLIC_KEYS_MAX_AGE).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+
+    private static Map<String, String> toJwk(String kid, ECPublicKey key) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("alg", "ES256");
+        jwk.put("use", "sig");
+        jwk.put("kid", kid);
+        jwk.put("x", coordinate(key.getW().getAffineX()));
+        jwk.put("y", coordinate(key.getW().getAffineY()));
+        return jwk;
+    }
+
+    private static String coordinate(BigInteger value) {
+        // unsigned, left-padded to the field size as RFC 7518 requires
+        byte[] raw = value.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_BYTES];
+        int length = Math.min(raw.length, P256_COORDINATE_BYTES);
+        System.arraycopy(raw, raw.length - length, fixed, P256_COORDINATE_BYTES - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
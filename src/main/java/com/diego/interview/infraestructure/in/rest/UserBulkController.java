@@ -0,0 +1,91 @@
+package com.diego.interview.infraestructure.in.rest;
+
+import com.diego.interview.application.usecase.ExportUsersUseCase;
+import com.diego.interview.application.usecase.ImportUsersUseCase;
+import com.diego.interview.application.usecase.dto.ImportReport;
+import com.diego.interview.application.usecase.dto.UserResponse;
+import com.diego.interview.infraestructure.in.rest.bulk.UserImportReader;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class UserBulkController {
+
+    private final ImportUsersUseCase importUsersUseCase;
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final UserImportReader importReader;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter exportWriter;
+    private final MessageSource messageSource;
+
+    public UserBulkController(ImportUsersUseCase importUsersUseCase, ExportUsersUseCase exportUsersUseCase,
+                              ObjectMapper objectMapper, Validator validator, MessageSource messageSource) {
+        this.importUsersUseCase = importUsersUseCase;
+        this.exportUsersUseCase = exportUsersUseCase;
+        this.importReader = new UserImportReader(objectMapper, validator);
+        this.objectMapper = objectMapper;
+        // flushing per user would push every line to the socket on its own
+        this.exportWriter = objectMapper.writerFor(UserResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.messageSource = messageSource;
+    }
+
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping(path = "/import", consumes = {UserImportReader.NDJSON, UserImportReader.CSV})
+    public ResponseEntity<ImportReport> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                    InputStream body,
+                                                    Locale locale) {
+        ImportReport report = importUsersUseCase.importUsers(
+                importReader.read(MediaType.parseMediaType(contentType), body));
+        report.getLines().stream()
+                .filter(line -> line.getError() != null)
+                .forEach(line -> line.setMessage(
+                        messageSource.getMessage(line.getError(), null, line.getError(), locale)));
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Streams every user as one JSON object per line, written as it is read
+     * from the database; nothing is buffered beyond the response buffer.
+     */
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(path = "/export", produces = UserImportReader.NDJSON)
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        response.setContentType(UserImportReader.NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            // lines are terminated explicitly below; no separator between root values
+            generator.setRootValueSeparator(null);
+            exportUsersUseCase.exportUsers(user -> {
+                try {
+                    exportWriter.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+}
@@ -13,8 +13,11 @@ import com.diego.interview.application.usecase.dto.UserResponse;
 import com.diego.interview.infraestructure.in.rest.dto.CreateUserRequest;
 import com.diego.interview.infraestructure.in.rest.dto.LoginRequest;
 import com.diego.interview.infraestructure.in.rest.dto.UpdateUserRequest;
+import com.diego.interview.infraestructure.in.rest.validation.UserRequestValidator;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -36,6 +39,7 @@ import static com.diego.interview.infraestructure.in.rest.mapper.UserMapper.mapT
 
 @RestController
 @RequestMapping("/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserController {
 
     private final CreateUserUseCase createUserUseCase;
@@ -44,9 +48,11 @@ public class UserController {
     private final GetUserByIdUseCase getUserByIdUseCase;
     private final DeleteUserUseCase deleteUserUseCase;
     private final UpdateUserUseCase updateUserUseCase;
+    private final UserRequestValidator requestValidator;
     public UserController(CreateUserUseCase createUserUseCase, LoginUserUseCase loginUserUseCase,
                           ListUsersUseCase listUsersUseCase, GetUserByIdUseCase getUserByIdUseCase,
-                          DeleteUserUseCase deleteUserUseCase, UpdateUserUseCase updateUserUseCase
+                          DeleteUserUseCase deleteUserUseCase, UpdateUserUseCase updateUserUseCase,
+                          UserRequestValidator requestValidator
                           ) {
         this.createUserUseCase = createUserUseCase;
         this.loginUserUseCase = loginUserUseCase;
@@ -54,19 +60,23 @@ public class UserController {
         this.getUserByIdUseCase = getUserByIdUseCase;
         this.deleteUserUseCase = deleteUserUseCase;
         this.updateUserUseCase= updateUserUseCase;
+        this.requestValidator = requestValidator;
     }
 
     @PostMapping
-    public ResponseEntity<UserResponse> create(@RequestBody @Valid CreateUserRequest request) {
+    public ResponseEntity<UserResponse> create(@RequestBody CreateUserRequest request) {
+        requestValidator.validate(request);
         CreateUserCommand command = mapToCommand(request);
         UserResponse response = createUserUseCase.createUser(command);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     @PostMapping("/login")
-    public ResponseEntity<UserResponse> login(@RequestBody @Valid LoginRequest request) {
+    public ResponseEntity<UserResponse> login(@RequestBody @Valid LoginRequest request,
+                                              HttpServletRequest httpRequest) {
         UserResponse response = loginUserUseCase.login(
                 request.getEmail(),
-                request.getPassword()
+                request.getPassword(),
+                httpRequest.getRemoteAddr()
         );
         return ResponseEntity.ok(response);
     }
@@ -74,9 +84,14 @@ public class UserController {
     @GetMapping
     public ResponseEntity<PagedResponse<UserResponse>> getAllPaged(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Boolean exactTotal
     ) {
-        PagedResponse<UserResponse> response = listUsersUseCase.listUsers(page, size);
+        // cursor pages never need totalPages, so unless asked they skip the COUNT(*)
+        PagedResponse<UserResponse> response = after != null
+                ? listUsersUseCase.listUsersAfter(after, size, Boolean.TRUE.equals(exactTotal))
+                : listUsersUseCase.listUsers(page, size, !Boolean.FALSE.equals(exactTotal));
         return ResponseEntity.ok(response);
     }
 
@@ -98,8 +113,9 @@ public class UserController {
     @PatchMapping("/{id}")
     public ResponseEntity<UserResponse> updateUser(
             @PathVariable UUID id,
-            @RequestBody @Valid UpdateUserRequest request
+            @RequestBody UpdateUserRequest request
     ) {
+        requestValidator.validate(request);
         UpdateUserCommand command = mapToUpdateCommand(request);
         UserResponse response = updateUserUseCase.update(id, command);
         return ResponseEntity.ok(response);
@@ -0,0 +1,56 @@
+package com.diego.interview.infraestructure.in.rest;
+
+import com.diego.interview.application.usecase.RefreshTokenUseCase;
+import com.diego.interview.application.usecase.RevokeTokensUseCase;
+import com.diego.interview.application.usecase.dto.TokenResponse;
+import com.diego.interview.infraestructure.in.rest.dto.RefreshTokenRequest;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class UserTokenController {
+
+    private static final String BEARER = "Bearer ";
+
+    private final RevokeTokensUseCase revokeTokensUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
+
+    public UserTokenController(RevokeTokensUseCase revokeTokensUseCase, RefreshTokenUseCase refreshTokenUseCase) {
+        this.revokeTokensUseCase = revokeTokensUseCase;
+        this.refreshTokenUseCase = refreshTokenUseCase;
+    }
+
+    @PostMapping("/token/refresh")
+    public ResponseEntity<TokenResponse> refresh(@RequestBody @Valid RefreshTokenRequest request) {
+        return ResponseEntity.ok(refreshTokenUseCase.refresh(request.getRefreshToken()));
+    }
+
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        // the security filter only lets bearer-authenticated requests this far
+        revokeTokensUseCase.logout(authorization.substring(BEARER.length()));
+        return ResponseEntity.noContent().build();
+    }
+
+    @SecurityRequirement(name = "bearerAuth")
+    @DeleteMapping("/{id}/tokens")
+    public ResponseEntity<Void> revokeTokens(@PathVariable UUID id) {
+        revokeTokensUseCase.revokeUserTokens(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,7 +1,11 @@
 package com.diego.interview.infraestructure.in.rest.advice;
 
 import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.exception.CapacityExceededException;
+import com.diego.interview.domain.exception.TooManyAttemptsException;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -31,6 +35,34 @@ public class RestExceptionHandler {
                 .badRequest()
                 .body(Map.of("mensaje", translated));
     }
+    @ExceptionHandler(CapacityExceededException.class)
+    public ResponseEntity<Map<String, String>> handleCapacity(CapacityExceededException ex, Locale locale) {
+
+        String translated = messageSource.getMessage(
+                ex.getCode(),
+                ex.getArgs(),
+                locale
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("mensaje", translated));
+    }
+    @ExceptionHandler(TooManyAttemptsException.class)
+    public ResponseEntity<Map<String, String>> handleTooManyAttempts(TooManyAttemptsException ex, Locale locale) {
+
+        String translated = messageSource.getMessage(
+                ex.getCode(),
+                ex.getArgs(),
+                locale
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(Map.of("mensaje", translated));
+    }
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidation(MethodArgumentNotValidException ex) {
 
@@ -0,0 +1,210 @@
+package com.diego.interview.infraestructure.in.rest.bulk;
+
+import com.diego.interview.application.usecase.dto.ImportUserRow;
+import com.diego.interview.infraestructure.in.rest.dto.CreateUserRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.diego.interview.infraestructure.in.rest.mapper.UserMapper.mapToCommand;
+
+/**
+ * Turns an import body into {@link ImportUserRow}s one line at a time, so the
+ * request is never held in memory. Each record goes through the same bean
+ * validation as {@code POST /users}.
+ *
+ * NDJSON: one {@code CreateUserRequest} object per line.
+ * CSV: a header naming the {@code name,email,password,phones} columns, then one
+ * user per line, phones written as {@code numero:codigoCiudad:codigoPais}
+ * separated by {@code ;}. Fields may be double-quoted; a quoted field cannot
+ * span lines.
+ */
+public class UserImportReader {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private static final String MALFORMED = "user.import.malformed";
+
+    private final ObjectReader requestReader;
+    private final Validator validator;
+
+    public UserImportReader(ObjectMapper objectMapper, Validator validator) {
+        this.requestReader = objectMapper.readerFor(CreateUserRequest.class);
+        this.validator = validator;
+    }
+
+    public Iterator<ImportUserRow> read(MediaType contentType, InputStream body) {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        if (contentType.isCompatibleWith(MediaType.parseMediaType(CSV))) {
+            return new RowIterator(lines, new CsvParser());
+        }
+        return new RowIterator(lines, this::parseJson);
+    }
+
+    private ImportUserRow parseJson(long line, String text) {
+        CreateUserRequest request;
+        try {
+            request = requestReader.readValue(text);
+        } catch (JsonProcessingException ex) {
+            return ImportUserRow.rejected(line, null, MALFORMED);
+        }
+        return toRow(line, request);
+    }
+
+    private ImportUserRow toRow(long line, CreateUserRequest request) {
+        // sorted so a row with several problems always reports the same one
+        return validator.validate(request).stream()
+                .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(violation -> ImportUserRow.rejected(line, request.getEmail(), code(violation)))
+                .orElseGet(() -> ImportUserRow.valid(line, mapToCommand(request)));
+    }
+
+    private static String code(ConstraintViolation<?> violation) {
+        String template = violation.getMessageTemplate();
+        return template.startsWith("{") && template.endsWith("}")
+                ? template.substring(1, template.length() - 1)
+                : template;
+    }
+
+    private interface LineParser {
+        ImportUserRow parse(long line, String text);
+    }
+
+    private final class CsvParser implements LineParser {
+
+        private Map<String, Integer> columns;
+
+        @Override
+        public ImportUserRow parse(long line, String text) {
+            List<String> fields = splitCsv(text);
+            if (fields == null) {
+                return ImportUserRow.rejected(line, null, MALFORMED);
+            }
+            if (columns == null) {
+                columns = new HashMap<>();
+                for (int i = 0; i < fields.size(); i++) {
+                    columns.put(fields.get(i).trim().toLowerCase(), i);
+                }
+                return null;
+            }
+            if (fields.size() != columns.size()) {
+                return ImportUserRow.rejected(line, null, MALFORMED);
+            }
+            CreateUserRequest request = new CreateUserRequest();
+            request.setName(field(fields, "name"));
+            request.setEmail(field(fields, "email"));
+            request.setPassword(field(fields, "password"));
+            String phones = field(fields, "phones");
+            if (phones != null && !phones.isBlank()) {
+                List<CreateUserRequest.PhoneRequest> parsed = new ArrayList<>();
+                for (String phone : phones.split(";")) {
+                    String[] parts = phone.split(":", -1);
+                    if (parts.length != 3) {
+                        return ImportUserRow.rejected(line, request.getEmail(), MALFORMED);
+                    }
+                    CreateUserRequest.PhoneRequest phoneRequest = new CreateUserRequest.PhoneRequest();
+                    phoneRequest.setNumero(parts[0].trim());
+                    phoneRequest.setCodigoCiudad(parts[1].trim());
+                    phoneRequest.setCodigoPais(parts[2].trim());
+                    parsed.add(phoneRequest);
+                }
+                request.setPhones(parsed);
+            }
+            return toRow(line, request);
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            return index == null ? null : fields.get(index);
+        }
+    }
+
+    // RFC 4180 field splitting for a single line; null when a quote is left open
+    static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class RowIterator implements Iterator<ImportUserRow> {
+
+        private final BufferedReader lines;
+        private final LineParser parser;
+        private long lineNumber;
+        private ImportUserRow next;
+
+        private RowIterator(BufferedReader lines, LineParser parser) {
+            this.lines = lines;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                String text;
+                while (next == null && (text = lines.readLine()) != null) {
+                    lineNumber++;
+                    if (!text.isBlank()) {
+                        next = parser.parse(lineNumber, text);
+                    }
+                }
+                return next != null;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public ImportUserRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ImportUserRow row = next;
+            next = null;
+            return row;
+        }
+    }
+}
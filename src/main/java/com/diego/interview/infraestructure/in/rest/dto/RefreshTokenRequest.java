@@ -0,0 +1,13 @@
+package com.diego.interview.infraestructure.in.rest.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "{user.token.refresh.required}")
+    private String refreshToken;
+}
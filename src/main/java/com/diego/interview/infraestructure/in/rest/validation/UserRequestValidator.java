@@ -0,0 +1,146 @@
+package com.diego.interview.infraestructure.in.rest.validation;
+
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.CredentialRejection;
+import com.diego.interview.domain.port.CredentialPolicy;
+import com.diego.interview.infraestructure.in.rest.dto.CreateUserRequest;
+import com.diego.interview.infraestructure.in.rest.dto.UpdateUserRequest;
+import com.diego.interview.infraestructure.validation.ValidationMetrics;
+
+import java.util.List;
+
+/**
+ * Every format rule for {@code POST /users} and {@code PATCH /users/{id}},
+ * run once before the request reaches a use case. Rules are ordered by cost
+ * and the first failure wins: presence and length checks first, then the
+ * per-character scans of phone numbers, and the credential policy last.
+ * Failures surface as the same message codes the annotations used.
+ */
+public class UserRequestValidator {
+
+    private static final int PHONE_NUMBER_MAX_LENGTH = 10;
+
+    private final CredentialPolicy credentialPolicy;
+    private final ValidationMetrics metrics;
+
+    public UserRequestValidator(CredentialPolicy credentialPolicy, ValidationMetrics metrics) {
+        this.credentialPolicy = credentialPolicy;
+        this.metrics = metrics;
+    }
+
+    public void validate(CreateUserRequest request) {
+        long start = System.nanoTime();
+        String code = firstViolation(request);
+        finish(start, code, request.getEmail());
+    }
+
+    public void validate(UpdateUserRequest request) {
+        long start = System.nanoTime();
+        String code = firstViolation(request);
+        finish(start, code, request.getEmail());
+    }
+
+    private String firstViolation(CreateUserRequest request) {
+        if (isBlank(request.getName())) {
+            return "user.name.required";
+        }
+        if (isBlank(request.getEmail())) {
+            return "user.email.required";
+        }
+        if (isBlank(request.getPassword())) {
+            return "user.password.required";
+        }
+        List<CreateUserRequest.PhoneRequest> phones = request.getPhones();
+        if (phones == null) {
+            return "user.phones.required";
+        }
+        if (phones.isEmpty()) {
+            return "user.phones.min";
+        }
+        for (CreateUserRequest.PhoneRequest phone : phones) {
+            if (phone == null || isBlank(phone.getNumero())) {
+                return "user.phone.number.required";
+            }
+            if (isBlank(phone.getCodigoCiudad())) {
+                return "user.phone.city.required";
+            }
+            if (isBlank(phone.getCodigoPais())) {
+                return "user.phone.country.required";
+            }
+            if (phone.getNumero().length() > PHONE_NUMBER_MAX_LENGTH) {
+                return "user.phone.number.maxlength";
+            }
+        }
+        for (CreateUserRequest.PhoneRequest phone : phones) {
+            if (!isDigits(phone.getNumero())) {
+                return "user.phone.number.maxlength";
+            }
+        }
+        return credentialViolation(request.getEmail(), request.getPassword());
+    }
+
+    private String firstViolation(UpdateUserRequest request) {
+        List<UpdateUserRequest.PhoneRequest> phones = request.getPhones();
+        if (phones != null) {
+            for (UpdateUserRequest.PhoneRequest phone : phones) {
+                if (phone != null && phone.getNumero() != null
+                        && phone.getNumero().length() > PHONE_NUMBER_MAX_LENGTH) {
+                    return "user.phone.number.maxlength";
+                }
+            }
+            for (UpdateUserRequest.PhoneRequest phone : phones) {
+                if (phone != null && phone.getNumero() != null && !isDigits(phone.getNumero())) {
+                    return "user.phone.number.numeric";
+                }
+            }
+        }
+        // blank email or password means "leave unchanged", as in UpdateUserUseCaseImpl
+        return credentialViolation(
+                isBlank(request.getEmail()) ? null : request.getEmail(),
+                isBlank(request.getPassword()) ? null : request.getPassword());
+    }
+
+    private String credentialViolation(String email, String password) {
+        if (email != null) {
+            CredentialRejection rejection = credentialPolicy.checkEmail(email);
+            if (rejection != null) {
+                return rejection.getMessageCode();
+            }
+        }
+        if (password != null) {
+            CredentialRejection rejection = credentialPolicy.checkPassword(password);
+            if (rejection != null) {
+                return rejection.getMessageCode();
+            }
+        }
+        return null;
+    }
+
+    private void finish(long start, String code, String email) {
+        if (code == null) {
+            metrics.accepted(start);
+            return;
+        }
+        metrics.rejected(start, code);
+        throw "user.email.invalid".equals(code)
+                ? new BusinessException(code, email)
+                : new BusinessException(code);
+    }
+
+    private static boolean isDigits(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
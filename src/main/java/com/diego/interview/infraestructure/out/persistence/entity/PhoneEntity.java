@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,8 +18,13 @@ import lombok.Setter;
 @Getter
 @Setter
 public class PhoneEntity {
+
+    /** Ids handed out per phones_seq call; must match the sequence increment. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "phones_seq")
+    @SequenceGenerator(name = "phones_seq", sequenceName = "phones_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     private String number;
     @Column(name = "city_code")
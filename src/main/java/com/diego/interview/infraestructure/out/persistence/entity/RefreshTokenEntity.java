@@ -0,0 +1,31 @@
+package com.diego.interview.infraestructure.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "refresh_tokens")
+@Getter
+@Setter
+public class RefreshTokenEntity {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", length = 16)
+    private UUID userId;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+}
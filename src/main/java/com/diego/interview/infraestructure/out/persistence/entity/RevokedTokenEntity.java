@@ -0,0 +1,27 @@
+package com.diego.interview.infraestructure.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@Setter
+public class RevokedTokenEntity {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @Column(name = "revoked_up_to")
+    private LocalDateTime revokedUpTo;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+}
@@ -1,14 +1,22 @@
 package com.diego.interview.infraestructure.out.persistence.entity;
 
+import com.diego.interview.infraestructure.out.persistence.support.UuidV7;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,11 +26,12 @@ import java.util.UUID;
 @Table(name = "users")
 @Getter
 @Setter
-public class UserEntity {
+public class UserEntity implements Persistable<UUID> {
 
     @Id
-    @Column(length = 36)
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID id;
 
     private String name;
 
@@ -47,11 +56,28 @@ public class UserEntity {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PhoneEntity> phones;
 
+    // ids are assigned before saving, so Spring Data cannot tell a new user
+    // from a detached one; without this every insert would merge (SELECT first)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity;
+
     @PrePersist
     public void prePersist() {
         if (id == null) {
-            this.id = UUID.randomUUID().toString();
+            this.id = UuidV7.generate();
         }
     }
 
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
 }
@@ -4,6 +4,7 @@ import com.diego.interview.domain.model.Phone;
 import com.diego.interview.domain.model.User;
 import com.diego.interview.infraestructure.out.persistence.entity.PhoneEntity;
 import com.diego.interview.infraestructure.out.persistence.entity.UserEntity;
+import com.diego.interview.infraestructure.out.persistence.support.UuidV7;
 
 import java.util.List;
 import java.util.Objects;
@@ -13,9 +14,14 @@ import java.util.stream.Collectors;
 public class UserMapper{
     public static UserEntity toEntity(User user) {
         if (user == null) return null;
-        String id= Objects.isNull(user.getId())? UUID.randomUUID().toString() : user.getId().toString();
+        return toEntity(user, Objects.isNull(user.getId()));
+    }
+
+    // creating with an id set keeps that id: it was reserved to sign the token
+    public static UserEntity toEntity(User user, boolean creating) {
         UserEntity entity = new UserEntity();
-        entity.setId(id);
+        entity.setId(Objects.isNull(user.getId()) ? UuidV7.generate() : user.getId());
+        entity.setNewEntity(creating);
         entity.setName(user.getName());
         entity.setEmail(user.getEmail());
         entity.setPassword(user.getPassword());
@@ -55,7 +61,7 @@ public class UserMapper{
         if (entity == null) return null;
 
         User user =  User.builder()
-                .id(UUID.fromString(entity.getId()))
+                .id(entity.getId())
                 .name(entity.getName())
                 .email(entity.getEmail())
                 .password(entity.getPassword())
@@ -0,0 +1,296 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.domain.model.LoginUpdate;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.model.UserCursor;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Read-through cache for single-user lookups. Users are stored once, by id;
+ * the email index only maps an email to that id. Writes go to the delegate
+ * and then drop every index entry the user may be reachable by. Callers
+ * always get a copy, so use cases can mutate what they read.
+ *
+ * Other instances' writes are only seen after the TTL, so keep it short
+ * when running more than one node.
+ */
+public class CachingUserRepositoryAdapter implements UserRepositoryPort, MeterBinder {
+
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    private final UserRepositoryPort delegate;
+    private final AsyncCache<UUID, User> byId;
+    private final AsyncCache<String, UUID> idByEmail;
+    // ticks on every invalidation by id; each stripe remembers the last tick
+    // that touched one of its ids, so a load can tell whether it went stale
+    private final AtomicLong invalidationClock = new AtomicLong();
+    private final AtomicLongArray lastInvalidated = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    public CachingUserRepositoryAdapter(UserRepositoryPort delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.idByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .evictionListener((UUID id, User user, RemovalCause cause) -> {
+                    if (user != null) {
+                        idByEmail.synchronous().asMap().remove(user.getEmail(), id);
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byId, "users.by-id");
+        CaffeineCacheMetrics.monitor(registry, idByEmail, "users.by-email");
+        // Micrometer only reports loads for a LoadingCache; getOrLoad still
+        // feeds Caffeine's load stats, so publish them under the same names
+        monitorLoads(registry, byId, "users.by-id");
+        monitorLoads(registry, idByEmail, "users.by-email");
+    }
+
+    private static void monitorLoads(MeterRegistry registry, AsyncCache<?, ?> cache, String name) {
+        Cache<?, ?> stats = cache.synchronous();
+        TimeGauge.builder("cache.load.duration", stats, TimeUnit.NANOSECONDS, c -> c.stats().totalLoadTime())
+                .tag("cache", name)
+                .description("The time the cache has spent loading new values")
+                .register(registry);
+        FunctionCounter.builder("cache.load", stats, c -> c.stats().loadSuccessCount())
+                .tags("cache", name, "result", "success")
+                .description("The number of times cache lookup methods have successfully loaded a new value")
+                .register(registry);
+        FunctionCounter.builder("cache.load", stats, c -> c.stats().loadFailureCount())
+                .tags("cache", name, "result", "failure")
+                .description("The number of times cache lookup methods failed to load a new value")
+                .register(registry);
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        evict(user.getId(), user.getEmail());
+        evict(saved.getId(), saved.getEmail());
+        return saved;
+    }
+
+    @Override
+    public User create(User user) {
+        User saved = delegate.create(user);
+        idByEmail.synchronous().invalidate(saved.getEmail());
+        return saved;
+    }
+
+    @Override
+    public UUID nextId() {
+        return delegate.nextId();
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        // only new users go through here, so there is nothing cached by id yet
+        List<User> saved = delegate.saveAll(users);
+        saved.forEach(user -> idByEmail.synchronous().invalidate(user.getEmail()));
+        return saved;
+    }
+
+    @Override
+    public void recordLogins(Collection<LoginUpdate> updates) {
+        delegate.recordLogins(updates);
+        updates.forEach(update -> evict(update.getUserId(), null));
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        UUID id = getOrLoad(idByEmail, email, this::loadByEmail);
+        if (id == null) {
+            return Optional.empty();
+        }
+        User cached = byId.synchronous().getIfPresent(id);
+        if (cached != null && cached.getEmail().equals(email)) {
+            return Optional.of(copy(cached));
+        }
+        // the id entry expired first or the user changed email: fall back to the store once
+        idByEmail.synchronous().invalidate(email);
+        return delegate.findByEmail(email).map(this::copy);
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        User cached = getOrLoad(byId, id, this::loadById);
+        return Optional.ofNullable(cached).map(this::copy);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return byId.synchronous().getIfPresent(id) != null || delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        // a cached email may since have been changed or deleted on another
+        // node; answering from it would refuse a signup that should succeed
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+
+    @Override
+    public int deleteById(UUID id) {
+        User cached = byId.synchronous().getIfPresent(id);
+        int deleted = delegate.deleteById(id);
+        evict(id, cached != null ? cached.getEmail() : null);
+        return deleted;
+    }
+
+    @Override
+    public List<User> findAllPaged(int page, int size) {
+        return delegate.findAllPaged(page, size);
+    }
+
+    @Override
+    public List<User> findPageAfter(UserCursor after, int size) {
+        return delegate.findPageAfter(after, size);
+    }
+
+    @Override
+    public void forEachUser(Consumer<User> action) {
+        delegate.forEachUser(action);
+    }
+
+    @Override
+    public long countAll() {
+        return delegate.countAll();
+    }
+
+    @Override
+    public long estimateCount() {
+        return delegate.estimateCount();
+    }
+
+    @Override
+    public List<String> findEmailsAfter(String after, int size) {
+        return delegate.findEmailsAfter(after, size);
+    }
+
+    public CacheStats idStats() {
+        return byId.synchronous().stats();
+    }
+
+    public CacheStats emailStats() {
+        return idByEmail.synchronous().stats();
+    }
+
+    private User loadById(UUID id) {
+        return delegate.findById(id).orElse(null);
+    }
+
+    private UUID loadByEmail(String email) {
+        long startedAt = invalidationClock.get();
+        return delegate.findByEmail(email)
+                .map(user -> {
+                    cacheLoaded(user, startedAt);
+                    return user.getId();
+                })
+                .orElse(null);
+    }
+
+    /**
+     * Puts a user read by email into the id index, unless a save or delete
+     * of that id finished after the read began: the row may then predate the
+     * write, and the write's eviction has already run. Checking after the put
+     * covers an eviction that lands between the check and the put.
+     */
+    private void cacheLoaded(User user, long startedAt) {
+        CompletableFuture<User> loaded = CompletableFuture.completedFuture(user);
+        byId.put(user.getId(), loaded);
+        if (lastInvalidated.get(stripe(user.getId())) > startedAt) {
+            byId.asMap().remove(user.getId(), loaded);
+        }
+    }
+
+    private static int stripe(UUID id) {
+        return (id.hashCode() & Integer.MAX_VALUE) % INVALIDATION_STRIPES;
+    }
+
+    private void evict(UUID id, String email) {
+        if (id != null) {
+            lastInvalidated.accumulateAndGet(stripe(id), invalidationClock.incrementAndGet(), Math::max);
+            User previous = byId.synchronous().asMap().remove(id);
+            if (previous != null) {
+                idByEmail.synchronous().invalidate(previous.getEmail());
+            }
+        }
+        if (email != null) {
+            idByEmail.synchronous().invalidate(email);
+        }
+    }
+
+    /**
+     * Claims the entry with a pending future and loads on the calling thread
+     * once Caffeine's compute has returned. A loader run inside the compute
+     * would hold the map's bin lock while waiting for a JDBC connection, which
+     * pins a virtual thread to its carrier. Concurrent callers for the same key
+     * wait on the pending future; an eviction while it loads drops the future,
+     * so a stale load never lands in the cache. Null results are not kept.
+     */
+    private static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> claimed = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> claimed);
+        if (future == claimed) {
+            try {
+                claimed.complete(loader.apply(key));
+            } catch (RuntimeException ex) {
+                claimed.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private User copy(User user) {
+        return user.toBuilder()
+                .phones(user.getPhones() == null ? null : new ArrayList<>(user.getPhones()))
+                .build();
+    }
+}
@@ -0,0 +1,263 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.domain.model.LoginUpdate;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.model.UserCursor;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import com.diego.interview.infraestructure.out.persistence.support.EmailBloomFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Answers the signup and email-change existence checks ({@link #existsByEmail},
+ * {@link #findExistingEmails}) for unregistered emails without touching the
+ * store, using a Bloom filter of every registered email. A filter hit still
+ * goes to the delegate, and the unique constraint on users.email stays the
+ * real guard against duplicates.
+ *
+ * {@link #findByEmail} always goes to the store: login and the user cache
+ * rely on it, and the filter can miss emails registered by other instances,
+ * which would turn a valid login into "invalid credentials".
+ *
+ * Deleted or replaced emails cannot be removed from the filter; they only
+ * cost an extra lookup. The filter is rebuilt in the background once too
+ * many of those pile up or it outgrows its sizing.
+ */
+public class EmailFilterUserRepositoryAdapter implements UserRepositoryPort, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailFilterUserRepositoryAdapter.class);
+
+    private static final int SCAN_BATCH = 1000;
+
+    private final UserRepositoryPort delegate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder passed = new LongAdder();
+    // one rebuild at a time, off the common pool since it blocks on JDBC;
+    // the thread exits when idle and a request arriving mid-rebuild is dropped
+    private final ThreadPoolExecutor rebuilder = new ThreadPoolExecutor(
+            0, 1, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1),
+            runnable -> {
+                Thread thread = new Thread(runnable, "email-filter-rebuild");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    private volatile EmailBloomFilter filter;
+    // filter being built; writes are mirrored into it so none are lost on swap
+    private volatile EmailBloomFilter next;
+
+    public EmailFilterUserRepositoryAdapter(UserRepositoryPort delegate,
+                                            long expectedInsertions,
+                                            double falsePositiveRate) {
+        this.delegate = delegate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("users.email-filter.lookups", skipped, LongAdder::sum)
+                .tag("result", "skipped")
+                .description("email lookups answered by the filter alone")
+                .register(registry);
+        FunctionCounter.builder("users.email-filter.lookups", passed, LongAdder::sum)
+                .tag("result", "passed")
+                .description("email lookups forwarded to the store")
+                .register(registry);
+    }
+
+    /**
+     * Scans every registered email into a fresh filter and swaps it in.
+     * Returns immediately if another rebuild is already running.
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            long size = Math.max(expectedInsertions, delegate.estimateCount() * 2);
+            EmailBloomFilter fresh = new EmailBloomFilter(size, falsePositiveRate);
+            next = fresh;
+
+            long count = 0;
+            String after = "";
+            List<String> batch;
+            do {
+                batch = delegate.findEmailsAfter(after, SCAN_BATCH);
+                batch.forEach(fresh::put);
+                count += batch.size();
+                if (!batch.isEmpty()) {
+                    after = batch.get(batch.size() - 1);
+                }
+            } while (batch.size() == SCAN_BATCH);
+
+            filter = fresh;
+            inserted.set(count);
+            stale.set(0);
+            log.info("Email filter rebuilt. emails={}, capacity={}, bits={}, elapsedMs={}",
+                    count, size, fresh.bitCount(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            next = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        register(saved.getEmail());
+        return saved;
+    }
+
+    @Override
+    public User create(User user) {
+        User saved = delegate.create(user);
+        register(saved.getEmail());
+        return saved;
+    }
+
+    @Override
+    public UUID nextId() {
+        return delegate.nextId();
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> saved = delegate.saveAll(users);
+        saved.forEach(user -> register(user.getEmail()));
+        return saved;
+    }
+
+    @Override
+    public void recordLogins(Collection<LoginUpdate> updates) {
+        delegate.recordLogins(updates);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        EmailBloomFilter current = filter;
+        if (current != null && !current.mightContain(email)) {
+            skipped.increment();
+            return false;
+        }
+        passed.increment();
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        EmailBloomFilter current = filter;
+        if (current == null) {
+            return delegate.findExistingEmails(emails);
+        }
+        List<String> candidates = emails.stream().filter(current::mightContain).toList();
+        skipped.add(emails.size() - candidates.size());
+        passed.add(candidates.size());
+        return candidates.isEmpty() ? Set.of() : delegate.findExistingEmails(candidates);
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public int deleteById(UUID id) {
+        int deleted = delegate.deleteById(id);
+        EmailBloomFilter current = filter;
+        if (deleted > 0 && current != null && stale.addAndGet(deleted) > current.capacity() / 10) {
+            rebuildAsync();
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<User> findAllPaged(int page, int size) {
+        return delegate.findAllPaged(page, size);
+    }
+
+    @Override
+    public List<User> findPageAfter(UserCursor after, int size) {
+        return delegate.findPageAfter(after, size);
+    }
+
+    @Override
+    public void forEachUser(Consumer<User> action) {
+        delegate.forEachUser(action);
+    }
+
+    @Override
+    public long countAll() {
+        return delegate.countAll();
+    }
+
+    @Override
+    public long estimateCount() {
+        return delegate.estimateCount();
+    }
+
+    @Override
+    public List<String> findEmailsAfter(String after, int size) {
+        return delegate.findEmailsAfter(after, size);
+    }
+
+    private void register(String email) {
+        // next before filter: rebuild publishes next before its scan, swaps
+        // filter, and only then clears next, so whichever order the two
+        // writes interleave with these reads, the email reaches the filter
+        // that ends up current or is already in the scanned rows
+        EmailBloomFilter building = next;
+        EmailBloomFilter current = filter;
+        if (current != null && !current.mightContain(email)) {
+            current.put(email);
+            if (inserted.incrementAndGet() > current.capacity()) {
+                rebuildAsync();
+            }
+        }
+        if (building != null) {
+            building.put(email);
+        }
+    }
+
+    private void rebuildAsync() {
+        CompletableFuture.runAsync(this::rebuild, rebuilder)
+                .exceptionally(ex -> {
+                    log.warn("Email filter rebuild failed; keeping the current one", ex);
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,29 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.infraestructure.out.persistence.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshTokenEntity r where r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshTokenEntity r where r.userId = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshTokenEntity r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
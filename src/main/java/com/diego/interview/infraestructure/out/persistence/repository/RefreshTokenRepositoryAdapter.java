@@ -0,0 +1,54 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.domain.model.RefreshToken;
+import com.diego.interview.domain.port.RefreshTokenRepositoryPort;
+import com.diego.interview.infraestructure.out.persistence.entity.RefreshTokenEntity;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+public class RefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort {
+
+    private final RefreshTokenJpaRepository jpa;
+
+    public RefreshTokenRepositoryAdapter(RefreshTokenJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        RefreshTokenEntity entity = new RefreshTokenEntity();
+        entity.setTokenHash(refreshToken.getTokenHash());
+        entity.setUserId(refreshToken.getUserId());
+        entity.setExpiresAt(LocalDateTime.ofInstant(refreshToken.getExpiresAt(), ZoneOffset.UTC));
+        jpa.save(entity);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByHash(String tokenHash) {
+        return jpa.findById(tokenHash)
+                .map(entity -> RefreshToken.builder()
+                        .tokenHash(entity.getTokenHash())
+                        .userId(entity.getUserId())
+                        .expiresAt(entity.getExpiresAt().toInstant(ZoneOffset.UTC))
+                        .build());
+    }
+
+    @Override
+    public boolean deleteByHash(String tokenHash) {
+        return jpa.deleteByTokenHash(tokenHash) > 0;
+    }
+
+    @Override
+    public void deleteByUserId(UUID userId) {
+        jpa.deleteByUserId(userId);
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return jpa.deleteExpired(LocalDateTime.ofInstant(now, ZoneOffset.UTC));
+    }
+}
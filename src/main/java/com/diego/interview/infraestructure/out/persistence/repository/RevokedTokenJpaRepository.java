@@ -0,0 +1,21 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.infraestructure.out.persistence.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+    List<RevokedTokenEntity> findByExpiresAtAfter(LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RevokedTokenEntity r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
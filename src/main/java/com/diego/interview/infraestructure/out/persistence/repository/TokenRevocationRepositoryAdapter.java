@@ -0,0 +1,53 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.domain.model.TokenRevocation;
+import com.diego.interview.domain.port.TokenRevocationRepositoryPort;
+import com.diego.interview.infraestructure.out.persistence.entity.RevokedTokenEntity;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+public class TokenRevocationRepositoryAdapter implements TokenRevocationRepositoryPort {
+
+    private final RevokedTokenJpaRepository jpa;
+
+    public TokenRevocationRepositoryAdapter(RevokedTokenJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    @Override
+    public void save(TokenRevocation revocation) {
+        RevokedTokenEntity entity = new RevokedTokenEntity();
+        entity.setTokenId(revocation.getTokenId());
+        entity.setRevokedUpTo(toDateTime(revocation.getRevokedUpTo()));
+        entity.setExpiresAt(toDateTime(revocation.getExpiresAt()));
+        jpa.save(entity);
+    }
+
+    @Override
+    public List<TokenRevocation> findActive(Instant now) {
+        return jpa.findByExpiresAtAfter(toDateTime(now)).stream()
+                .map(entity -> TokenRevocation.builder()
+                        .tokenId(entity.getTokenId())
+                        .revokedUpTo(toInstant(entity.getRevokedUpTo()))
+                        .expiresAt(toInstant(entity.getExpiresAt()))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return jpa.deleteExpired(toDateTime(now));
+    }
+
+    // stored in UTC so revocations survive a change of server time zone
+    private static LocalDateTime toDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC);
+    }
+}
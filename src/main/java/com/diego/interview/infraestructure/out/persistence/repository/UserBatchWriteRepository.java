@@ -0,0 +1,26 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.domain.model.LoginUpdate;
+import com.diego.interview.infraestructure.out.persistence.entity.UserEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC write paths for bulk imports and login bookkeeping, bypassing the
+ * persistence context so rows don't pile up as managed entities and an update
+ * touches only the columns it changes.
+ */
+public interface UserBatchWriteRepository {
+
+    /**
+     * Inserts the users and their phones with JDBC batches in one transaction.
+     * User ids must already be set; phone ids are assigned here.
+     */
+    void insertAll(List<UserEntity> users);
+
+    /**
+     * Sets last_login and token for each user with one batched UPDATE.
+     */
+    void updateLogins(Collection<LoginUpdate> updates);
+}
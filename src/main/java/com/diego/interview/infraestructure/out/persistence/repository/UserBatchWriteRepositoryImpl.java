@@ -0,0 +1,105 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.domain.model.LoginUpdate;
+import com.diego.interview.infraestructure.out.persistence.entity.PhoneEntity;
+import com.diego.interview.infraestructure.out.persistence.entity.UserEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class UserBatchWriteRepositoryImpl implements UserBatchWriteRepository {
+
+    private static final String INSERT_USER = "INSERT INTO users"
+            + " (id, name, email, password, created_at, updated_at, last_login, token, active)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PHONE = "INSERT INTO phones"
+            + " (id, user_id, number, city_code, country_code)"
+            + " VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_LOGIN = "UPDATE users SET last_login = ?, token = ? WHERE id = ?";
+    // same pooled sequence Hibernate uses: each value reserves the block ending at it
+    private static final String NEXT_PHONE_BLOCK = "SELECT NEXT VALUE FOR phones_seq";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+
+    public UserBatchWriteRepositoryImpl(DataSource dataSource,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${app.users.import.jdbc-batch-size:500}") int batchSize) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void insertAll(List<UserEntity> users) {
+        List<PhoneEntity> phones = users.stream()
+                .flatMap(user -> user.getPhones() == null ? Stream.<PhoneEntity>empty() : user.getPhones().stream())
+                .toList();
+        transaction.executeWithoutResult(status -> {
+            assignPhoneIds(phones);
+            jdbc.batchUpdate(INSERT_USER, users, batchSize, (ps, user) -> {
+                ps.setBytes(1, toBytes(user.getId()));
+                ps.setString(2, user.getName());
+                ps.setString(3, user.getEmail());
+                ps.setString(4, user.getPassword());
+                ps.setTimestamp(5, toTimestamp(user.getCreatedAt()));
+                ps.setTimestamp(6, toTimestamp(user.getUpdatedAt()));
+                ps.setTimestamp(7, toTimestamp(user.getLastLogin()));
+                ps.setString(8, user.getToken());
+                ps.setBoolean(9, user.isActive());
+            });
+            jdbc.batchUpdate(INSERT_PHONE, phones, batchSize, (ps, phone) -> {
+                ps.setLong(1, phone.getId());
+                ps.setBytes(2, toBytes(phone.getUser().getId()));
+                ps.setString(3, phone.getNumber());
+                ps.setString(4, phone.getCityCode());
+                ps.setString(5, phone.getCountryCode());
+            });
+        });
+    }
+
+    @Override
+    public void updateLogins(Collection<LoginUpdate> updates) {
+        transaction.executeWithoutResult(status ->
+                jdbc.batchUpdate(UPDATE_LOGIN, updates, batchSize, (ps, update) -> {
+                    ps.setTimestamp(1, toTimestamp(update.getLastLogin()));
+                    ps.setString(2, update.getToken());
+                    ps.setBytes(3, toBytes(update.getUserId()));
+                }));
+    }
+
+    private void assignPhoneIds(List<PhoneEntity> phones) {
+        long nextId = 0;
+        long lastId = -1;
+        for (PhoneEntity phone : phones) {
+            if (nextId > lastId) {
+                lastId = jdbc.queryForObject(NEXT_PHONE_BLOCK, Long.class);
+                nextId = lastId - PhoneEntity.ID_ALLOCATION_SIZE + 1;
+            }
+            phone.setId(nextId++);
+        }
+    }
+
+    // same layout Hibernate writes for the BINARY(16) id: most significant bits first
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
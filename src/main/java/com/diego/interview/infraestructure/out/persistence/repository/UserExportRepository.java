@@ -0,0 +1,14 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.domain.model.User;
+
+import java.util.function.Consumer;
+
+/**
+ * Full-table read for exports. Reads users joined with their phones through
+ * a plain JDBC cursor, so no entity is ever managed and heap use stays flat.
+ */
+public interface UserExportRepository {
+
+    void streamAll(Consumer<User> action);
+}
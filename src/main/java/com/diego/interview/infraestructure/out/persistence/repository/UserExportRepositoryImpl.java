@@ -0,0 +1,107 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.domain.model.Phone;
+import com.diego.interview.domain.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class UserExportRepositoryImpl implements UserExportRepository {
+
+    // ordered by the primary key so a user's rows arrive together without a sort
+    private static final String SELECT_ALL = "SELECT u.id, u.name, u.email, u.password, u.created_at,"
+            + " u.updated_at, u.last_login, u.token, u.active,"
+            + " p.id AS phone_id, p.number, p.city_code, p.country_code"
+            + " FROM users u LEFT JOIN phones p ON p.user_id = u.id"
+            + " ORDER BY u.id, p.id";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transaction;
+
+    public UserExportRepositoryImpl(DataSource dataSource,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.users.export.fetch-size:500}") int fetchSize) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(fetchSize);
+        this.transaction = new TransactionTemplate(transactionManager);
+        // some drivers (PostgreSQL) only stream with a fetch size inside a transaction
+        this.transaction.setReadOnly(true);
+    }
+
+    @Override
+    public void streamAll(Consumer<User> action) {
+        transaction.executeWithoutResult(status -> {
+            UserAssembler assembler = new UserAssembler(action);
+            jdbc.query(SELECT_ALL, assembler);
+            assembler.finish();
+        });
+    }
+
+    // folds consecutive join rows of the same user into one User
+    private static final class UserAssembler implements RowCallbackHandler {
+
+        private final Consumer<User> action;
+        private User current;
+
+        private UserAssembler(Consumer<User> action) {
+            this.action = action;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            UUID id = toUuid(rs.getBytes("id"));
+            if (current == null || !current.getId().equals(id)) {
+                finish();
+                current = User.builder()
+                        .id(id)
+                        .name(rs.getString("name"))
+                        .email(rs.getString("email"))
+                        .password(rs.getString("password"))
+                        .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                        .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                        .lastLogin(toLocalDateTime(rs.getTimestamp("last_login")))
+                        .token(rs.getString("token"))
+                        .active(rs.getBoolean("active"))
+                        .phones(new ArrayList<>())
+                        .build();
+            }
+            long phoneId = rs.getLong("phone_id");
+            if (!rs.wasNull()) {
+                current.getPhones().add(Phone.builder()
+                        .id(phoneId)
+                        .number(rs.getString("number"))
+                        .cityCode(rs.getString("city_code"))
+                        .countryCode(rs.getString("country_code"))
+                        .build());
+            }
+        }
+
+        private void finish() {
+            if (current != null) {
+                action.accept(current);
+                current = null;
+            }
+        }
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime();
+    }
+}
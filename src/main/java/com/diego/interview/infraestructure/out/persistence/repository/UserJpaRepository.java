@@ -1,10 +1,59 @@
 package com.diego.interview.infraestructure.out.persistence.repository;
 
 import com.diego.interview.infraestructure.out.persistence.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface UserJpaRepository extends JpaRepository<UserEntity, String> {
+public interface UserJpaRepository extends JpaRepository<UserEntity, UUID>, UserBatchWriteRepository, UserExportRepository {
+    // single-user reads fetch phones with the user: the domain mapping reads
+    // them after the repository call, where only open-in-view keeps a session
+    // (servlet requests); reactive handlers and the user cache have none
+    @EntityGraph(attributePaths = "phones")
     Optional<UserEntity> findByEmail(String email);
+
+    @Override
+    @EntityGraph(attributePaths = "phones")
+    Optional<UserEntity> findById(UUID id);
+
+    boolean existsByEmail(String email);
+
+    // bulk delete: phones go through the ON DELETE CASCADE on fk_phones_users
+    @Modifying
+    @Transactional
+    @Query("delete from UserEntity u where u.id = :id")
+    int deleteUserById(@Param("id") UUID id);
+
+    @Query("select u.id from UserEntity u order by u.createdAt, u.id")
+    List<UUID> findPageIds(Pageable pageable);
+
+    // written as a range on created_at so the (created_at, id) index can be used
+    @Query("select u.id from UserEntity u"
+            + " where u.createdAt >= :createdAt"
+            + " and (u.createdAt > :createdAt or u.id > :id)"
+            + " order by u.createdAt, u.id")
+    List<UUID> findPageIdsAfter(@Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") UUID id,
+                                  Pageable pageable);
+
+    // walks uk_users_email, so each batch is an index range scan
+    @Query("select u.email from UserEntity u where u.email > :after order by u.email")
+    List<String> findEmailsAfter(@Param("after") String after, Pageable pageable);
+
+    @Query("select u.email from UserEntity u where u.email in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @EntityGraph(attributePaths = "phones")
+    @Query("select u from UserEntity u where u.id in :ids")
+    List<UserEntity> findAllWithPhonesByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -1,34 +1,110 @@
 package com.diego.interview.infraestructure.out.persistence.repository;
 
+import com.diego.interview.domain.exception.BusinessException;
 import com.diego.interview.domain.port.UserRepositoryPort;
+import com.diego.interview.domain.model.LoginUpdate;
 import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.model.UserCursor;
 import com.diego.interview.infraestructure.out.persistence.entity.UserEntity;
 import com.diego.interview.infraestructure.out.persistence.mapper.UserMapper;
+import com.diego.interview.infraestructure.out.persistence.support.UuidV7;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.diego.interview.infraestructure.out.persistence.mapper.UserMapper.toDomain;
 import static com.diego.interview.infraestructure.out.persistence.mapper.UserMapper.toEntity;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 public class UserRepositoryAdapter implements UserRepositoryPort {
 
+    private static final Duration DEFAULT_COUNT_REFRESH = Duration.ofMinutes(1);
+    private static final String EMAIL_CONSTRAINT = "UK_USERS_EMAIL";
+
     private final UserJpaRepository jpa;
+    private final long countRefreshNanos;
+    private final AtomicLong userCount = new AtomicLong();
+    private volatile long countSyncedAt;
+    private volatile boolean countSynced;
 
     public UserRepositoryAdapter(UserJpaRepository jpa) {
+        this(jpa, DEFAULT_COUNT_REFRESH);
+    }
+
+    public UserRepositoryAdapter(UserJpaRepository jpa, Duration countRefresh) {
         this.jpa = jpa;
+        this.countRefreshNanos = countRefresh.toNanos();
     }
 
     @Override
     public User save(User user) {
-        UserEntity entity = toEntity(user);
-        UserEntity saved = jpa.save(entity);
+        return write(user, user.getId() == null);
+    }
+
+    @Override
+    public User create(User user) {
+        return write(user, true);
+    }
+
+    @Override
+    public UUID nextId() {
+        return UuidV7.generate();
+    }
+
+    private User write(User user, boolean creating) {
+        UserEntity entity = toEntity(user, creating);
+        UserEntity saved;
+        try {
+            // flushed here so a duplicate email surfaces from this call, not at some later commit
+            saved = jpa.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException ex) {
+            if (isEmailConstraint(ex)) {
+                throw new BusinessException("user.email.exists", user.getEmail());
+            }
+            throw ex;
+        }
+        if (creating) {
+            userCount.incrementAndGet();
+        }
         return toDomain(saved);
     }
 
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<UserEntity> entities = users.stream().map(user -> toEntity(user, true)).toList();
+        try {
+            jpa.insertAll(entities);
+        } catch (DataIntegrityViolationException ex) {
+            if (isEmailConstraint(ex)) {
+                // the batch does not say which row clashed
+                throw new BusinessException("user.email.exists");
+            }
+            throw ex;
+        }
+        userCount.addAndGet(entities.size());
+        return entities.stream().map(UserMapper::toDomain).toList();
+    }
+
+    @Override
+    public void recordLogins(Collection<LoginUpdate> updates) {
+        if (!updates.isEmpty()) {
+            jpa.updateLogins(updates);
+        }
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         return jpa.findByEmail(email).map(UserMapper::toDomain);
@@ -36,26 +112,95 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
 
     @Override
     public Optional<User> findById(UUID id) {
-        return jpa.findById(id.toString()).map(UserMapper::toDomain);
+        return jpa.findById(id).map(UserMapper::toDomain);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return jpa.existsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return jpa.existsByEmail(email);
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpa.deleteById(id.toString());
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpa.findEmailsIn(emails));
+    }
+
+    @Override
+    public int deleteById(UUID id) {
+        int deleted = jpa.deleteUserById(id);
+        userCount.addAndGet(-deleted);
+        return deleted;
     }
 
 
     @Override
     public List<User> findAllPaged(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return jpa.findAll(pageable)
-                .map(UserMapper::toDomain)
-                .toList();
+        List<UUID> ids = jpa.findPageIds(pageable);
+        return loadInOrder(ids);
+    }
+
+    @Override
+    public List<User> findPageAfter(UserCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        List<UUID> ids = after == null
+                ? jpa.findPageIds(limit)
+                : jpa.findPageIdsAfter(after.getCreatedAt(), after.getId(), limit);
+        return loadInOrder(ids);
+    }
+
+    @Override
+    public void forEachUser(Consumer<User> action) {
+        jpa.streamAll(action);
     }
 
     @Override
     public long countAll() {
-        return jpa.count();
+        long exact = jpa.count();
+        userCount.set(exact);
+        countSyncedAt = System.nanoTime();
+        countSynced = true;
+        return exact;
+    }
+
+    @Override
+    public long estimateCount() {
+        if (!countSynced || System.nanoTime() - countSyncedAt > countRefreshNanos) {
+            return countAll();
+        }
+        return Math.max(0L, userCount.get());
+    }
+
+    @Override
+    public List<String> findEmailsAfter(String after, int size) {
+        return jpa.findEmailsAfter(after, PageRequest.of(0, size));
+    }
+
+    private static boolean isEmailConstraint(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toUpperCase().contains(EMAIL_CONSTRAINT);
+    }
+
+    // Second query of the two-query listing: users of the page plus all their phones
+    private List<User> loadInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, UserEntity> byId = jpa.findAllWithPhonesByIdIn(ids).stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(UserMapper::toDomain)
+                .toList();
     }
 
 }
@@ -0,0 +1,239 @@
+package com.diego.interview.infraestructure.out.persistence.repository;
+
+import com.diego.interview.domain.model.LoginUpdate;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.model.UserCursor;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Defers login bookkeeping: {@link #recordLogins} only remembers the latest
+ * last_login/token per user, and a background task writes whatever is pending
+ * as one batch every flush interval, or sooner once {@code maxPending} users
+ * are waiting. Reads through this adapter see pending values, so the deferral
+ * is invisible to callers of this instance.
+ *
+ * Pending updates are lost if the process dies without {@link #close()};
+ * the only cost is a stale last_login and an old token in the row.
+ */
+public class WriteBehindLoginUserRepositoryAdapter implements UserRepositoryPort, MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindLoginUserRepositoryAdapter.class);
+
+    private final UserRepositoryPort delegate;
+    private final int maxPending;
+    private final ConcurrentMap<UUID, LoginUpdate> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private final ScheduledExecutorService flusher;
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    public WriteBehindLoginUserRepositoryAdapter(UserRepositoryPort delegate, Duration flushInterval, int maxPending) {
+        this.delegate = delegate;
+        this.maxPending = maxPending;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "login-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.login-writes.pending", pending, ConcurrentMap::size)
+                .description("users whose login update is waiting to be written")
+                .register(registry);
+        FunctionCounter.builder("users.login-writes", recorded, LongAdder::sum)
+                .tag("stage", "recorded")
+                .description("login updates received")
+                .register(registry);
+        FunctionCounter.builder("users.login-writes", written, LongAdder::sum)
+                .tag("stage", "written")
+                .description("rows written; the gap to recorded is what merging saved")
+                .register(registry);
+    }
+
+    @Override
+    public void recordLogins(Collection<LoginUpdate> updates) {
+        for (LoginUpdate update : updates) {
+            pending.merge(update.getUserId(), update, WriteBehindLoginUserRepositoryAdapter::latest);
+        }
+        recorded.add(updates.size());
+        if (pending.size() >= maxPending && flushQueued.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Writes every pending update now. Updates recorded while this runs are
+     * left for the next flush.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushQueued.set(false);
+            if (pending.isEmpty()) {
+                return;
+            }
+            // entries stay visible to reads until written; a newer login for the
+            // same user replaces its entry and survives the conditional remove
+            List<LoginUpdate> batch = new ArrayList<>(pending.values());
+            delegate.recordLogins(batch);
+            batch.forEach(update -> pending.remove(update.getUserId(), update));
+            written.add(batch.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the background task and writes what is still pending.
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Login write-behind task did not stop in time");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("Login write-behind stopped. recorded={}, written={}", recorded.sum(), written.sum());
+    }
+
+    @Override
+    public User save(User user) {
+        return overlay(delegate.save(user));
+    }
+
+    @Override
+    public User create(User user) {
+        return delegate.create(user);
+    }
+
+    @Override
+    public UUID nextId() {
+        return delegate.nextId();
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        return delegate.saveAll(users);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return delegate.findByEmail(email).map(this::overlay);
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return delegate.findById(id).map(this::overlay);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+
+    @Override
+    public int deleteById(UUID id) {
+        pending.remove(id);
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public List<User> findAllPaged(int page, int size) {
+        return overlayAll(delegate.findAllPaged(page, size));
+    }
+
+    @Override
+    public List<User> findPageAfter(UserCursor after, int size) {
+        return overlayAll(delegate.findPageAfter(after, size));
+    }
+
+    @Override
+    public void forEachUser(Consumer<User> action) {
+        delegate.forEachUser(user -> action.accept(overlay(user)));
+    }
+
+    @Override
+    public long countAll() {
+        return delegate.countAll();
+    }
+
+    @Override
+    public long estimateCount() {
+        return delegate.estimateCount();
+    }
+
+    @Override
+    public List<String> findEmailsAfter(String after, int size) {
+        return delegate.findEmailsAfter(after, size);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Login write-behind flush failed; will retry. pending={}", pending.size(), ex);
+        }
+    }
+
+    private User overlay(User user) {
+        LoginUpdate update = pending.get(user.getId());
+        if (update != null) {
+            user.setLastLogin(update.getLastLogin());
+            user.setToken(update.getToken());
+        }
+        return user;
+    }
+
+    private List<User> overlayAll(List<User> users) {
+        if (!pending.isEmpty()) {
+            users.forEach(this::overlay);
+        }
+        return users;
+    }
+
+    private static LoginUpdate latest(LoginUpdate current, LoginUpdate candidate) {
+        return candidate.getLastLogin().isBefore(current.getLastLogin()) ? current : candidate;
+    }
+}
@@ -1,24 +0,0 @@
-package com.diego.interview.infraestructure.security;
-
-import com.diego.interview.domain.port.PasswordEncoderPort;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-
-public class BCryptPasswordEncoderAdapter implements PasswordEncoderPort {
-
-    private final PasswordEncoder delegate;
-
-    public BCryptPasswordEncoderAdapter() {
-        this.delegate = new BCryptPasswordEncoder();
-    }
-
-    @Override
-    public String encode(String rawPassword) {
-        return delegate.encode(rawPassword);
-    }
-
-    @Override
-    public boolean matches(String rawPassword, String encodedPassword) {
-        return delegate.matches(rawPassword, encodedPassword);
-    }
-}
@@ -0,0 +1,106 @@
+package com.diego.interview.infraestructure.security;
+
+import com.diego.interview.domain.exception.CapacityExceededException;
+import com.diego.interview.domain.port.AsyncPasswordEncoderPort;
+import com.diego.interview.domain.port.PasswordEncoderPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a fixed-size pool with a bounded queue so a burst
+ * of signups or logins cannot occupy every request thread. When the queue is
+ * full the call fails immediately instead of waiting.
+ */
+public class BoundedPasswordEncoderAdapter implements AsyncPasswordEncoderPort {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedPasswordEncoderAdapter.class);
+
+    private final PasswordEncoderPort delegate;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoderAdapter(PasswordEncoderPort delegate, int poolSize, int queueCapacity) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        return delegate.needsRehash(encodedPassword);
+    }
+
+    @Override
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Password hashing queue is full. active={}, queued={}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            return CompletableFuture.failedFuture(new CapacityExceededException("service.busy"));
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            // always platform threads, also with spring.threads.virtual.enabled: hashing is
+            // CPU-bound, and the pool size is what caps how many cores it may take
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
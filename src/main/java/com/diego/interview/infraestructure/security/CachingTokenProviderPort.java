@@ -0,0 +1,123 @@
+package com.diego.interview.infraestructure.security;
+
+import com.diego.interview.domain.model.TokenClaims;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.TokenProviderPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Keeps recently verified tokens so repeated requests with the same bearer
+ * token skip the HMAC check and claim parsing. Entries live until the
+ * token's own expiry; invalid tokens are never cached.
+ */
+public class CachingTokenProviderPort implements TokenProviderPort, MeterBinder {
+
+    private final TokenProviderPort delegate;
+    private final Cache<TokenDigest, TokenClaims> verified;
+
+    public CachingTokenProviderPort(TokenProviderPort delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verified, "jwt.verified-tokens");
+    }
+
+    @Override
+    public String generateToken(User user) {
+        return delegate.generateToken(user);
+    }
+
+    @Override
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    @Override
+    public String getEmailFromToken(String token) {
+        return parseToken(token)
+                .map(TokenClaims::getSubject)
+                .orElseGet(() -> delegate.getEmailFromToken(token));
+    }
+
+    @Override
+    public Optional<TokenClaims> parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        TokenClaims cached = verified.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<TokenClaims> claims = delegate.parseToken(token);
+        claims.filter(c -> c.getExpiresAt() != null)
+                .ifPresent(c -> verified.put(digest, c));
+        return claims;
+    }
+
+    public CacheStats stats() {
+        return verified.stats();
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<TokenDigest, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, TokenClaims claims, long currentTime) {
+            long millis = claims.getExpiresAt().toEpochMilli() - Instant.now().toEpochMilli();
+            return Math.max(0L, millis) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, TokenClaims claims, long currentTime,
+                                      long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, TokenClaims claims, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * SHA-256 of the raw token folded into four longs, so the cache never
+     * holds bearer tokens themselves.
+     */
+    private record TokenDigest(long w0, long w1, long w2, long w3) {
+
+        static TokenDigest of(String token) {
+            ByteBuffer hash = ByteBuffer.wrap(sha256().digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 not available", ex);
+            }
+        }
+    }
+}
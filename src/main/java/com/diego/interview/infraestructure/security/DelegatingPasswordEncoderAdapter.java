@@ -0,0 +1,127 @@
+package com.diego.interview.infraestructure.security;
+
+import com.diego.interview.domain.port.PasswordEncoderPort;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Encodes with the configured algorithm and stores the algorithm id as a
+ * {@code {id}} prefix, so hashes from earlier settings still verify and can
+ * be upgraded on the next successful login. Hashes written before the
+ * prefix existed are plain BCrypt and are matched as such.
+ *
+ * PBKDF2 hashes do not record their iteration count, so it goes into the id:
+ * {@code {pbkdf2@310000}}. Changing the setting then leaves old hashes
+ * verifiable and due for a rehash. {@code {pbkdf2}} hashes from before were
+ * written with the configured count and are matched with it.
+ */
+public class DelegatingPasswordEncoderAdapter implements PasswordEncoderPort {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    // Pbkdf2PasswordEncoder always derives 256 bits; the rest of a hash is salt
+    private static final int PBKDF2_HASH_BYTES = 32;
+
+    private final DelegatingPasswordEncoder delegate;
+    private final int pbkdf2Iterations;
+    private final ConcurrentMap<Pbkdf2Params, Pbkdf2PasswordEncoder> pbkdf2Verifiers = new ConcurrentHashMap<>();
+
+    public DelegatingPasswordEncoderAdapter(String algorithm, PasswordHashingSettings settings) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(settings.bcryptStrength());
+        String pbkdf2Id = PBKDF2 + "@" + settings.pbkdf2Iterations();
+
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, new Argon2PasswordEncoder(
+                        settings.argon2SaltLength(),
+                        settings.argon2HashLength(),
+                        settings.argon2Parallelism(),
+                        settings.argon2MemoryKb(),
+                        settings.argon2Iterations()),
+                pbkdf2Id, pbkdf2(settings.pbkdf2SaltLength(), settings.pbkdf2Iterations()));
+
+        String idForEncode = PBKDF2.equals(algorithm) ? pbkdf2Id : algorithm;
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalArgumentException("Unsupported password algorithm: " + algorithm);
+        }
+
+        this.delegate = new DelegatingPasswordEncoder(idForEncode, encoders);
+        this.delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+        this.pbkdf2Iterations = settings.pbkdf2Iterations();
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (encodedPassword != null && encodedPassword.startsWith("{" + PBKDF2)) {
+            return matchesPbkdf2(rawPassword, encodedPassword);
+        }
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        // any id but the one for encoding, {pbkdf2} and {pbkdf2@<other count>} included, asks for one
+        return encodedPassword != null && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // the salt length is not recorded either, but follows from the hash length
+    private boolean matchesPbkdf2(String rawPassword, String encodedPassword) {
+        int end = encodedPassword.indexOf('}');
+        if (end < 0) {
+            return false;
+        }
+        String id = encodedPassword.substring(1, end);
+        String hash = encodedPassword.substring(end + 1);
+        int iterations;
+        if (id.equals(PBKDF2)) {
+            iterations = pbkdf2Iterations;
+        } else if (id.startsWith(PBKDF2 + "@")) {
+            try {
+                iterations = Integer.parseInt(id.substring(PBKDF2.length() + 1));
+            } catch (NumberFormatException ex) {
+                return false;
+            }
+        } else {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        int saltLength = hash.length() / 2 - PBKDF2_HASH_BYTES;
+        if (iterations <= 0 || saltLength <= 0) {
+            return false;
+        }
+        return pbkdf2Verifiers
+                .computeIfAbsent(new Pbkdf2Params(saltLength, iterations), p -> pbkdf2(p.saltLength(), p.iterations()))
+                .matches(rawPassword, hash);
+    }
+
+    private static Pbkdf2PasswordEncoder pbkdf2(int saltLength, int iterations) {
+        return new Pbkdf2PasswordEncoder(
+                "", saltLength, iterations, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+
+    private record Pbkdf2Params(int saltLength, int iterations) {
+    }
+
+    public record PasswordHashingSettings(int bcryptStrength,
+                                          int argon2SaltLength,
+                                          int argon2HashLength,
+                                          int argon2Parallelism,
+                                          int argon2MemoryKb,
+                                          int argon2Iterations,
+                                          int pbkdf2SaltLength,
+                                          int pbkdf2Iterations) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.diego.interview.infraestructure.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.Map;
+
+/**
+ * One shared HS256 secret that both signs and verifies. Tokens carry no kid.
+ */
+public class HmacSigningKeys implements JwtSigningKeys {
+
+    private final SigningKey signingKey;
+
+    public HmacSigningKeys(String secret) {
+        this.signingKey = new SigningKey(
+                null, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256);
+    }
+
+    @Override
+    public SigningKey signingKey() {
+        return signingKey;
+    }
+
+    @Override
+    public Key verificationKey(String kid) {
+        return kid == null ? signingKey.key() : null;
+    }
+
+    @Override
+    public Map<String, PublicKey> publicKeys() {
+        return Map.of();
+    }
+}
@@ -1,6 +1,8 @@
 package com.diego.interview.infraestructure.security;
 
+import com.diego.interview.domain.model.TokenClaims;
 import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.domain.port.TokenRevocationPort;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,13 +15,16 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProviderPort tokenProviderPort;
+    private final TokenRevocationPort tokenRevocationPort;
 
-    public JwtAuthenticationFilter(TokenProviderPort tokenProviderPort) {
+    public JwtAuthenticationFilter(TokenProviderPort tokenProviderPort, TokenRevocationPort tokenRevocationPort) {
         this.tokenProviderPort = tokenProviderPort;
+        this.tokenRevocationPort = tokenRevocationPort;
     }
 
     @Override
@@ -30,8 +35,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (token != null && tokenProviderPort.validateToken(token)) {
-            String email = tokenProviderPort.getEmailFromToken(token);
+        Optional<TokenClaims> claims = token != null
+                ? tokenProviderPort.parseToken(token)
+                : Optional.empty();
+
+        if (claims.isPresent() && !tokenRevocationPort.isRevoked(claims.get())) {
+            String email = claims.get().getSubject();
 
             var auth = new UsernamePasswordAuthenticationToken(
                     email,
@@ -0,0 +1,43 @@
+package com.diego.interview.infraestructure.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Keys used to sign and verify access tokens. Tokens name the key that signed
+ * them in their {@code kid} header, so several keys can verify at once while
+ * only the newest one signs.
+ */
+public interface JwtSigningKeys {
+
+    /**
+     * How long other services may cache {@link #publicKeys()}. A new key has
+     * to be published at least this long before it signs.
+     */
+    Duration PUBLIC_KEYS_MAX_AGE = Duration.ofMinutes(5);
+
+    SigningKey signingKey();
+
+    /**
+     * The key that verifies tokens carrying {@code kid}, or null when it is
+     * unknown or already retired. Implementations may reload their keys
+     * before giving up on a kid they have not seen yet.
+     */
+    Key verificationKey(String kid);
+
+    /**
+     * Public keys that can be handed to other services, by kid. Empty for
+     * shared-secret keys, which must never be published.
+     */
+    Map<String, PublicKey> publicKeys();
+
+    /**
+     * @param kid null when tokens carry no key id
+     */
+    record SigningKey(String kid, Key key, SignatureAlgorithm algorithm) {
+    }
+}
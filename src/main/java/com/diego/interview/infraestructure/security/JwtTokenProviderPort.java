@@ -1,61 +1,104 @@
 package com.diego.interview.infraestructure.security;
 
+import com.diego.interview.domain.model.TokenClaims;
 import com.diego.interview.domain.model.User;
 import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.infraestructure.security.JwtSigningKeys.SigningKey;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 
 import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
 public class JwtTokenProviderPort implements TokenProviderPort {
 
-    private final Key key;
+    private final JwtSigningKeys keys;
     private final long expirationInSeconds;
+    // JwtParser is immutable and thread-safe, so one instance serves every request
+    private final JwtParser parser;
 
     public JwtTokenProviderPort(String secret, long expirationInSeconds) {
-        this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this(new HmacSigningKeys(secret), expirationInSeconds);
+    }
+
+    public JwtTokenProviderPort(JwtSigningKeys keys, long expirationInSeconds) {
+        this.keys = keys;
         this.expirationInSeconds = expirationInSeconds;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KidResolver(keys))
+                .build();
     }
 
     @Override
     public String generateToken(User user) {
         Instant now = Instant.now();
         Instant expiry = now.plusSeconds(expirationInSeconds);
+        SigningKey signingKey = keys.signingKey();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder();
+        if (signingKey.kid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid());
+        }
+        return builder
                 .setSubject(user.getEmail())
                 .setId(user.getId() != null ? user.getId().toString() : null)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(expiry))
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(signingKey.key(), signingKey.algorithm())
                 .compact();
     }
 
     @Override
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException ex) {
-            return false;
-        }
+        return parseToken(token).isPresent();
     }
 
     @Override
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
+    }
+
+    @Override
+    public Optional<TokenClaims> parseToken(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            return Optional.of(TokenClaims.builder()
+                    .subject(claims.getSubject())
+                    .tokenId(claims.getId())
+                    .issuedAt(claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null)
+                    .expiresAt(claims.getExpiration() != null ? claims.getExpiration().toInstant() : null)
+                    .build());
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private static final class KidResolver extends SigningKeyResolverAdapter {
+
+        private final JwtSigningKeys keys;
+
+        private KidResolver(JwtSigningKeys keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            Key key = keys.verificationKey(header.getKeyId());
+            if (key == null) {
+                throw new JwtException("Unknown signing key: " + header.getKeyId());
+            }
+            return key;
+        }
     }
 }
@@ -0,0 +1,177 @@
+package com.diego.interview.infraestructure.security;
+
+import com.diego.interview.domain.model.CredentialRejection;
+import com.diego.interview.domain.port.CredentialPolicy;
+
+/**
+ * Checks emails and passwords in a single scan over their characters, using
+ * lookup tables built once from the settings. The lookahead-based password
+ * regex this replaces walks the input once per required character class and
+ * needs a new {@code Matcher} per call; here each character is classified
+ * with one array read and nothing is allocated.
+ *
+ * Only ASCII letters, digits and the configured symbols are accepted, as in
+ * the regexes. With no length limits and neither {@code emailStrictDots} nor
+ * {@code emailDomainRequiresDot} (the shipped settings) it accepts exactly
+ * what the default regexes do; each of those options rejects more.
+ */
+public class OnePassCredentialPolicy implements CredentialPolicy {
+
+    private static final byte LOWER = 1;
+    private static final byte UPPER = 2;
+    private static final byte DIGIT = 4;
+    private static final byte SYMBOL = 8;
+
+    private final Settings settings;
+    private final byte[] passwordClasses = new byte[128];
+    private final int requiredClasses;
+    private final boolean[] localChars = new boolean[128];
+    private final boolean[] domainChars = new boolean[128];
+
+    public OnePassCredentialPolicy(Settings settings) {
+        this.settings = settings;
+        for (char c = 'a'; c <= 'z'; c++) {
+            passwordClasses[c] = LOWER;
+            passwordClasses[Character.toUpperCase(c)] = UPPER;
+            localChars[c] = localChars[Character.toUpperCase(c)] = true;
+            domainChars[c] = domainChars[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            passwordClasses[c] = DIGIT;
+            localChars[c] = domainChars[c] = true;
+        }
+        for (char c : settings.passwordSymbols().toCharArray()) {
+            if (c < 128 && !Character.isLetterOrDigit(c)) {
+                passwordClasses[c] = SYMBOL;
+            }
+        }
+        for (char c : settings.emailLocalSymbols().toCharArray()) {
+            if (c < 128) {
+                localChars[c] = true;
+            }
+        }
+        domainChars['.'] = domainChars['-'] = true;
+
+        this.requiredClasses = (settings.requireLowercase() ? LOWER : 0)
+                | (settings.requireUppercase() ? UPPER : 0)
+                | (settings.requireDigit() ? DIGIT : 0)
+                | (settings.requireSymbol() ? SYMBOL : 0);
+    }
+
+    @Override
+    public CredentialRejection checkPassword(String password) {
+        if (password == null || password.length() < settings.passwordMinLength()) {
+            return CredentialRejection.PASSWORD_TOO_SHORT;
+        }
+        int length = password.length();
+        if (settings.passwordMaxLength() > 0 && length > settings.passwordMaxLength()) {
+            return CredentialRejection.PASSWORD_TOO_LONG;
+        }
+
+        int seen = 0;
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+            int charClass = c < 128 ? passwordClasses[c] : 0;
+            if (charClass == 0) {
+                return CredentialRejection.PASSWORD_DISALLOWED_CHARACTER;
+            }
+            seen |= charClass;
+        }
+
+        int missing = requiredClasses & ~seen;
+        if (missing == 0) {
+            return null;
+        }
+        if ((missing & LOWER) != 0) {
+            return CredentialRejection.PASSWORD_MISSING_LOWERCASE;
+        }
+        if ((missing & UPPER) != 0) {
+            return CredentialRejection.PASSWORD_MISSING_UPPERCASE;
+        }
+        if ((missing & DIGIT) != 0) {
+            return CredentialRejection.PASSWORD_MISSING_DIGIT;
+        }
+        return CredentialRejection.PASSWORD_MISSING_SYMBOL;
+    }
+
+    @Override
+    public CredentialRejection checkEmail(String email) {
+        if (email == null) {
+            return CredentialRejection.EMAIL_MISSING_AT;
+        }
+        int length = email.length();
+        if (settings.emailMaxLength() > 0 && length > settings.emailMaxLength()) {
+            return CredentialRejection.EMAIL_TOO_LONG;
+        }
+
+        int at = -1;
+        boolean strictDots = settings.emailStrictDots();
+        boolean domainHasDot = false;
+        char previous = 0;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return CredentialRejection.EMAIL_DOMAIN_INVALID;
+                }
+                if (i == 0
+                        || (settings.emailLocalMaxLength() > 0 && i > settings.emailLocalMaxLength())
+                        || (strictDots && previous == '.')) {
+                    return CredentialRejection.EMAIL_LOCAL_PART_INVALID;
+                }
+                at = i;
+            } else if (at < 0) {
+                if (c >= 128 || !localChars[c]
+                        || (strictDots && c == '.' && (i == 0 || previous == '.'))) {
+                    return CredentialRejection.EMAIL_LOCAL_PART_INVALID;
+                }
+            } else {
+                if (c >= 128 || !domainChars[c]) {
+                    return CredentialRejection.EMAIL_DOMAIN_INVALID;
+                }
+                if (c == '.') {
+                    domainHasDot = true;
+                }
+                // labels may not be empty, nor start or end with a hyphen
+                if (strictDots && (c == '.' || c == '-')
+                        && (previous == '@' || previous == '.' || (c == '.' && previous == '-'))) {
+                    return CredentialRejection.EMAIL_DOMAIN_INVALID;
+                }
+            }
+            previous = c;
+        }
+
+        if (at < 0) {
+            return CredentialRejection.EMAIL_MISSING_AT;
+        }
+        if (at == length - 1
+                || (strictDots && (previous == '.' || previous == '-'))
+                || (settings.emailDomainRequiresDot() && !domainHasDot)) {
+            return CredentialRejection.EMAIL_DOMAIN_INVALID;
+        }
+        return null;
+    }
+
+    /**
+     * @param passwordMaxLength     0 for no limit
+     * @param emailMaxLength        0 for no limit
+     * @param emailLocalMaxLength   0 for no limit on the part before the @
+     * @param passwordSymbols       the only non-alphanumeric characters a password may use
+     * @param emailLocalSymbols     characters besides letters and digits allowed before the @
+     * @param emailStrictDots       rejects empty labels and leading, trailing or doubled dots
+     * @param emailDomainRequiresDot rejects single-label domains such as {@code user@localhost}
+     */
+    public record Settings(int passwordMinLength,
+                           int passwordMaxLength,
+                           boolean requireLowercase,
+                           boolean requireUppercase,
+                           boolean requireDigit,
+                           boolean requireSymbol,
+                           String passwordSymbols,
+                           int emailMaxLength,
+                           int emailLocalMaxLength,
+                           String emailLocalSymbols,
+                           boolean emailStrictDots,
+                           boolean emailDomainRequiresDot) {
+    }
+}
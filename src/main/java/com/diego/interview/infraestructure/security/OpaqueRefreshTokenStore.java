@@ -0,0 +1,119 @@
+package com.diego.interview.infraestructure.security;
+
+import com.diego.interview.domain.model.RefreshToken;
+import com.diego.interview.domain.port.RefreshTokenPort;
+import com.diego.interview.domain.port.RefreshTokenRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh tokens are 256 random bits handed out as URL-safe base64. Only their
+ * SHA-256 is stored: the value has far too much entropy to brute-force, so a
+ * slow password hash would buy nothing and cost a hash per refresh. Each token
+ * is single use; {@link #consume} deletes it and the caller issues the next one.
+ */
+public class OpaqueRefreshTokenStore implements RefreshTokenPort, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OpaqueRefreshTokenStore.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepositoryPort repository;
+    private final Duration tokenTtl;
+    private final SecureRandom random = new SecureRandom();
+    private final ScheduledExecutorService pruner;
+
+    public OpaqueRefreshTokenStore(RefreshTokenRepositoryPort repository, Duration tokenTtl, Duration pruneInterval) {
+        this.repository = repository;
+        this.tokenTtl = tokenTtl;
+        this.pruner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-prune");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = pruneInterval.toMillis();
+        pruner.scheduleWithFixedDelay(this::pruneQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String issue(UUID userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        repository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .userId(userId)
+                .expiresAt(Instant.now().plus(tokenTtl))
+                .build());
+        return token;
+    }
+
+    @Override
+    public Optional<UUID> consume(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return Optional.empty();
+        }
+        String tokenHash = hash(refreshToken);
+        Optional<RefreshToken> stored = repository.findByHash(tokenHash);
+        // whoever deletes the row owns the token, so two requests racing with
+        // the same value cannot both get a new pair
+        if (stored.isEmpty() || !repository.deleteByHash(tokenHash)) {
+            return Optional.empty();
+        }
+        if (!stored.get().getExpiresAt().isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(stored.get().getUserId());
+    }
+
+    @Override
+    public void revokeAll(UUID userId) {
+        repository.deleteByUserId(userId);
+        log.info("Refresh tokens revoked. userId={}", userId);
+    }
+
+    /**
+     * Deletes refresh tokens that expired unused by {@code now}.
+     */
+    public void prune(Instant now) {
+        int deleted = repository.deleteExpired(now);
+        log.debug("Pruned expired refresh tokens. deleted={}", deleted);
+    }
+
+    @Override
+    public void close() {
+        pruner.shutdown();
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            // every JVM is required to provide SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void pruneQuietly() {
+        try {
+            prune(Instant.now());
+        } catch (RuntimeException ex) {
+            log.warn("Pruning refresh tokens failed; will retry", ex);
+        }
+    }
+}
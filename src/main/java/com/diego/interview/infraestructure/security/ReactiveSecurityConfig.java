@@ -0,0 +1,91 @@
+package com.diego.interview.infraestructure.security;
+
+import com.diego.interview.domain.model.TokenClaims;
+import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.domain.port.TokenRevocationPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.WebFilter;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * {@link SecurityConfig} for the WebFlux stack: same public paths, same bearer
+ * token check, and 403 for unauthenticated requests as the servlet chain
+ * answers.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    private final TokenProviderPort tokenProviderPort;
+    private final TokenRevocationPort tokenRevocationPort;
+
+    public ReactiveSecurityConfig(TokenProviderPort tokenProviderPort, TokenRevocationPort tokenRevocationPort) {
+        this.tokenProviderPort = tokenProviderPort;
+        this.tokenRevocationPort = tokenRevocationPort;
+    }
+
+    @Bean
+    public SecurityWebFilterChain reactiveFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+                .authorizeExchange(auth -> auth
+                        .pathMatchers(HttpMethod.POST, "/users").permitAll()
+                        .pathMatchers("/users/login/**").permitAll()
+                        .pathMatchers(HttpMethod.POST, "/users/token/refresh").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(jwtFilter(), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private WebFilter jwtFilter() {
+        return (exchange, chain) -> {
+            String token = resolveToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+
+            // parsing is CPU only and revocation is an in-memory lookup, so
+            // this stays on the event loop
+            Optional<TokenClaims> claims = token != null
+                    ? tokenProviderPort.parseToken(token)
+                    : Optional.empty();
+
+            if (claims.isPresent() && !tokenRevocationPort.isRevoked(claims.get())) {
+                var auth = new UsernamePasswordAuthenticationToken(
+                        claims.get().getSubject(),
+                        null,
+                        Collections.emptyList()
+                );
+                return chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth));
+            }
+            return chain.filter(exchange);
+        };
+    }
+
+    private static String resolveToken(String bearer) {
+        if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
+            return bearer.substring(7);
+        }
+        return null;
+    }
+}
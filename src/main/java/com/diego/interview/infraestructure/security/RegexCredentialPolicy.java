@@ -0,0 +1,36 @@
+package com.diego.interview.infraestructure.security;
+
+import com.diego.interview.domain.model.CredentialRejection;
+import com.diego.interview.domain.port.CredentialPolicy;
+
+import java.util.regex.Pattern;
+
+/**
+ * The original rules: {@code app.security.email-regex} and
+ * {@code app.security.password-regex}. A regex cannot say which rule failed,
+ * so every rejection is reported with the most general reason.
+ */
+public class RegexCredentialPolicy implements CredentialPolicy {
+
+    private final Pattern emailPattern;
+    private final Pattern passwordPattern;
+
+    public RegexCredentialPolicy(Pattern emailPattern, Pattern passwordPattern) {
+        this.emailPattern = emailPattern;
+        this.passwordPattern = passwordPattern;
+    }
+
+    @Override
+    public CredentialRejection checkEmail(String email) {
+        return email != null && emailPattern.matcher(email).matches()
+                ? null
+                : CredentialRejection.EMAIL_LOCAL_PART_INVALID;
+    }
+
+    @Override
+    public CredentialRejection checkPassword(String password) {
+        return password != null && passwordPattern.matcher(password).matches()
+                ? null
+                : CredentialRejection.PASSWORD_DISALLOWED_CHARACTER;
+    }
+}
@@ -0,0 +1,289 @@
+package com.diego.interview.infraestructure.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * ES256 key pairs kept as PEM files in a local directory, one
+ * {@code <kid>.key} / {@code <kid>.pub} pair per key. The kid is the key's
+ * creation time to the second plus a random suffix, so instances creating a
+ * key in the same second never overwrite each other.
+ *
+ * {@link #refresh(Instant)} re-reads the directory and adds a new key once the
+ * newest is older than the rotation interval. The new key is published (JWKS
+ * and local verification) straight away but only signs once it is older than
+ * the publish lead, the longer of the check interval and
+ * {@link #PUBLIC_KEYS_MAX_AGE}: by then every instance sharing the directory
+ * has reloaded it and every cached JWKS holds it. A key is deleted once its
+ * successor has been signing for longer than the token lifetime, when no
+ * unexpired token can name it. Rotating therefore never invalidates a session.
+ * A token naming a newer kid than any loaded triggers an early reload.
+ */
+public class RotatingEcSigningKeys implements JwtSigningKeys, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RotatingEcSigningKeys.class);
+    private static final DateTimeFormatter KID_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final String PRIVATE_SUFFIX = ".key";
+    private static final String PUBLIC_SUFFIX = ".pub";
+    private static final char SUFFIX_SEPARATOR = '-';
+    private static final Duration UNKNOWN_KID_RELOAD_INTERVAL = Duration.ofSeconds(1);
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Comparator<StoredKey> BY_AGE =
+            Comparator.comparing(StoredKey::createdAt).thenComparing(StoredKey::kid);
+
+    private final Path directory;
+    private final Duration rotationInterval;
+    private final Duration tokenTtl;
+    private final Duration publishLead;
+    private final ScheduledExecutorService rotator;
+    // nanoTime of the last reload caused by an unknown kid, so forged kids cannot hammer the disk
+    private final AtomicLong lastUnknownKidReload =
+            new AtomicLong(System.nanoTime() - UNKNOWN_KID_RELOAD_INTERVAL.toNanos());
+    // replaced as a whole on refresh, so readers never see a half-updated set
+    private volatile KeySet keys;
+
+    public RotatingEcSigningKeys(Path directory, Duration rotationInterval, Duration tokenTtl, Duration checkInterval) {
+        this.directory = directory;
+        this.rotationInterval = rotationInterval;
+        this.tokenTtl = tokenTtl;
+        this.publishLead = checkInterval.compareTo(PUBLIC_KEYS_MAX_AGE) > 0 ? checkInterval : PUBLIC_KEYS_MAX_AGE;
+        refresh(Instant.now());
+        this.rotator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-key-rotation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = checkInterval.toMillis();
+        rotator.scheduleWithFixedDelay(this::refreshQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public SigningKey signingKey() {
+        return keys.signing();
+    }
+
+    @Override
+    public Key verificationKey(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        Key key = keys.verification().get(kid);
+        if (key == null && isNewerThanLoaded(kid) && reloadAllowed()) {
+            // another instance may have published it since our last check
+            refreshQuietly();
+            key = keys.verification().get(kid);
+        }
+        return key;
+    }
+
+    @Override
+    public Map<String, PublicKey> publicKeys() {
+        return keys.verification();
+    }
+
+    /**
+     * Reloads the directory, rotating and retiring keys as of {@code now}.
+     */
+    public synchronized void refresh(Instant now) {
+        try {
+            Files.createDirectories(directory);
+            List<StoredKey> stored = new ArrayList<>(readKeys());
+            stored.sort(BY_AGE);
+
+            StoredKey newest = stored.isEmpty() ? null : stored.get(stored.size() - 1);
+            if (newest == null || !newest.createdAt().plus(rotationInterval).isAfter(now)) {
+                StoredKey created = generate(now);
+                stored.add(created);
+                log.info("JWT signing key published; signs from {}. kid={}",
+                        created.createdAt().plus(publishLead), created.kid());
+            }
+
+            List<StoredKey> active = new ArrayList<>();
+            for (int i = 0; i < stored.size(); i++) {
+                StoredKey key = stored.get(i);
+                boolean retired = i + 1 < stored.size()
+                        && !stored.get(i + 1).createdAt().plus(publishLead).plus(tokenTtl).isAfter(now);
+                if (retired) {
+                    delete(key.kid());
+                    log.info("JWT signing key retired. kid={}", key.kid());
+                } else {
+                    active.add(key);
+                }
+            }
+            keys = KeySet.of(active, now.minus(publishLead));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read JWT keys from " + directory, ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        rotator.shutdown();
+    }
+
+    private List<StoredKey> readKeys() throws IOException {
+        List<StoredKey> stored = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path privateFile : files.filter(f -> f.getFileName().toString().endsWith(PRIVATE_SUFFIX)).toList()) {
+                String name = privateFile.getFileName().toString();
+                String kid = name.substring(0, name.length() - PRIVATE_SUFFIX.length());
+                Path publicFile = directory.resolve(kid + PUBLIC_SUFFIX);
+                Instant createdAt = parseKid(kid);
+                if (createdAt == null || !Files.exists(publicFile)) {
+                    log.warn("Ignoring unexpected file in JWT key directory. file={}", name);
+                    continue;
+                }
+                stored.add(new StoredKey(kid, createdAt, new KeyPair(
+                        readPublic(publicFile), readPrivate(privateFile))));
+            }
+        }
+        return stored;
+    }
+
+    private StoredKey generate(Instant now) throws IOException {
+        String kid = KID_FORMAT.format(now) + SUFFIX_SEPARATOR + HexFormat.of().toHexDigits(RANDOM.nextInt());
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        Path privateFile = directory.resolve(kid + PRIVATE_SUFFIX);
+        // public key first: a private key without it is ignored, so a crash
+        // half-way never leaves a key that signs but cannot be published
+        writePem(directory.resolve(kid + PUBLIC_SUFFIX), "PUBLIC KEY", pair.getPublic().getEncoded());
+        writePem(privateFile, "PRIVATE KEY", pair.getPrivate().getEncoded());
+        restrictToOwner(privateFile);
+        return new StoredKey(kid, parseKid(kid), pair);
+    }
+
+    private void delete(String kid) throws IOException {
+        Files.deleteIfExists(directory.resolve(kid + PRIVATE_SUFFIX));
+        Files.deleteIfExists(directory.resolve(kid + PUBLIC_SUFFIX));
+    }
+
+    private boolean isNewerThanLoaded(String kid) {
+        Instant createdAt = parseKid(kid);
+        return createdAt != null && !createdAt.isBefore(keys.newest());
+    }
+
+    private boolean reloadAllowed() {
+        long now = System.nanoTime();
+        long last = lastUnknownKidReload.get();
+        return now - last >= UNKNOWN_KID_RELOAD_INTERVAL.toNanos()
+                && lastUnknownKidReload.compareAndSet(last, now);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh(Instant.now());
+        } catch (RuntimeException ex) {
+            log.warn("Refreshing JWT signing keys failed; will retry", ex);
+        }
+    }
+
+    private static Instant parseKid(String kid) {
+        int separator = kid.indexOf(SUFFIX_SEPARATOR);
+        try {
+            // kids written before the random suffix was added have none
+            return Instant.from(KID_FORMAT.parse(separator < 0 ? kid : kid.substring(0, separator)));
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private static PublicKey readPublic(Path file) throws IOException {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(readPem(file)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Invalid EC public key in " + file, ex);
+        }
+    }
+
+    private static PrivateKey readPrivate(Path file) throws IOException {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(readPem(file)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Invalid EC private key in " + file, ex);
+        }
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        String body = Files.readString(file, StandardCharsets.US_ASCII)
+                .replaceAll("-----[A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+
+    private static void writePem(Path file, String type, byte[] der) throws IOException {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[]{'\n'}).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+        Files.writeString(file, pem, StandardCharsets.US_ASCII);
+    }
+
+    private static void restrictToOwner(Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException ex) {
+            // not a POSIX file system; rely on the directory's permissions
+        }
+    }
+
+    private record StoredKey(String kid, Instant createdAt, KeyPair pair) {
+    }
+
+    private record KeySet(SigningKey signing, Map<String, PublicKey> verification, Instant newest) {
+
+        /**
+         * The newest key created no later than {@code publishedBefore} signs;
+         * when none is that old yet (an empty directory) the oldest one does.
+         */
+        static KeySet of(List<StoredKey> active, Instant publishedBefore) {
+            Map<String, PublicKey> verification = new LinkedHashMap<>();
+            StoredKey signing = active.get(0);
+            for (StoredKey key : active) {
+                verification.put(key.kid(), key.pair().getPublic());
+                if (!key.createdAt().isAfter(publishedBefore)) {
+                    signing = key;
+                }
+            }
+            return new KeySet(
+                    new SigningKey(signing.kid(), signing.pair().getPrivate(), SignatureAlgorithm.ES256),
+                    Collections.unmodifiableMap(verification),
+                    active.get(active.size() - 1).createdAt());
+        }
+    }
+}
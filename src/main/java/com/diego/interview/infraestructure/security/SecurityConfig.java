@@ -1,6 +1,8 @@
 package com.diego.interview.infraestructure.security;
 
 import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.domain.port.TokenRevocationPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -10,18 +12,21 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
 
     private final TokenProviderPort tokenProviderPort;
+    private final TokenRevocationPort tokenRevocationPort;
 
-    public SecurityConfig(TokenProviderPort tokenProviderPort) {
+    public SecurityConfig(TokenProviderPort tokenProviderPort, TokenRevocationPort tokenRevocationPort) {
         this.tokenProviderPort = tokenProviderPort;
+        this.tokenRevocationPort = tokenRevocationPort;
     }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
-        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(tokenProviderPort);
+        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(tokenProviderPort, tokenRevocationPort);
 
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -41,6 +46,8 @@ public class SecurityConfig {
 
                         .requestMatchers(HttpMethod.POST, "/users").permitAll()
                         .requestMatchers("/users/login/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/users/token/refresh").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,158 @@
+package com.diego.interview.infraestructure.security;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-key event counts over a sliding window, estimated from the current and
+ * previous fixed windows: {@code previous * (1 - elapsed) + current}. That
+ * needs three numbers per key instead of a timestamp per event.
+ *
+ * Keys are spread over independently locked stripes, each an LRU map with a
+ * fixed capacity, so memory stays bounded however many distinct keys an
+ * attacker sends and contention stays low under concurrent logins. Stripes
+ * use a {@link ReentrantLock} rather than a monitor: on a contended monitor
+ * a virtual thread blocks its carrier, on a lock it unmounts.
+ */
+final class SlidingWindowCounters {
+
+    private final Stripe[] stripes;
+    private final long windowMillis;
+
+    SlidingWindowCounters(int stripeCount, int maxKeys, Duration window) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        int perStripe = Math.max(1, maxKeys / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.windowMillis = window.toMillis();
+    }
+
+    Count read(String key, long nowMillis) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Window window = stripe.get(key);
+            return window == null
+                    ? Count.NONE
+                    : new Count(window.estimate(nowMillis, windowMillis), window.lastEvent);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Counts one event and returns the new estimate.
+     */
+    double increment(String key, long nowMillis) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Window window = stripe.get(key);
+            if (window == null) {
+                window = new Window(nowMillis - nowMillis % windowMillis);
+                stripe.put(key, window);
+            }
+            window.roll(nowMillis, windowMillis);
+            window.current++;
+            window.lastEvent = nowMillis;
+            return window.estimate(nowMillis, windowMillis);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    void reset(String key) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Window> {
+
+        private final int capacity;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    /**
+     * @param lastEventMillis when the key was last incremented, 0 if never
+     */
+    record Count(double estimate, long lastEventMillis) {
+
+        static final Count NONE = new Count(0.0, 0L);
+    }
+
+    private static final class Window {
+
+        private long start;
+        private int previous;
+        private int current;
+        private long lastEvent;
+
+        Window(long start) {
+            this.start = start;
+        }
+
+        void roll(long nowMillis, long windowMillis) {
+            long elapsed = (nowMillis - start) / windowMillis;
+            if (elapsed == 1) {
+                previous = current;
+                current = 0;
+                start += windowMillis;
+            } else if (elapsed > 1) {
+                previous = 0;
+                current = 0;
+                start = nowMillis - nowMillis % windowMillis;
+            }
+        }
+
+        double estimate(long nowMillis, long windowMillis) {
+            long elapsed = nowMillis - start;
+            if (elapsed >= 2 * windowMillis) {
+                return 0.0;
+            }
+            if (elapsed >= windowMillis) {
+                // read-only view of roll(): current becomes the previous window
+                double weight = 1.0 - (double) (elapsed - windowMillis) / windowMillis;
+                return current * weight;
+            }
+            double weight = 1.0 - (double) elapsed / windowMillis;
+            return previous * weight + current;
+        }
+    }
+}
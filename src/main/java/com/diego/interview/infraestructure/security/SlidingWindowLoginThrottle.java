@@ -0,0 +1,150 @@
+package com.diego.interview.infraestructure.security;
+
+import com.diego.interview.domain.exception.TooManyAttemptsException;
+import com.diego.interview.domain.port.LoginThrottlePort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts failed logins per email and per client address over a sliding
+ * window. Past {@code delayAfter} failures the next attempt is only accepted
+ * once a delay has passed since the last failure, doubling per extra failure
+ * up to a cap; past {@code rejectAfter} it is refused outright. Either way a
+ * refused attempt gets a 429 with the remaining wait as Retry-After, so the
+ * password encoder never runs, no request thread sleeps, and a stuffing
+ * attack costs us a map lookup per request.
+ */
+public class SlidingWindowLoginThrottle implements LoginThrottlePort, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(SlidingWindowLoginThrottle.class);
+
+    private final Settings settings;
+    private final SlidingWindowCounters emails;
+    private final SlidingWindowCounters clients;
+    private final LongSupplier clock;
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder rejectedByEmail = new LongAdder();
+    private final LongAdder rejectedByClient = new LongAdder();
+
+    public SlidingWindowLoginThrottle(Settings settings) {
+        this(settings, System::currentTimeMillis);
+    }
+
+    public SlidingWindowLoginThrottle(Settings settings, LongSupplier clock) {
+        this.settings = settings;
+        this.emails = new SlidingWindowCounters(settings.stripes(), settings.maxTrackedKeys(), settings.window());
+        this.clients = new SlidingWindowCounters(settings.stripes(), settings.maxTrackedKeys(), settings.window());
+        this.clock = clock;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("login.attempts.failed", failed, LongAdder::sum)
+                .description("logins rejected for wrong credentials")
+                .register(registry);
+        FunctionCounter.builder("login.attempts.delayed", delayed, LongAdder::sum)
+                .description("logins refused until the delay after repeated failures has passed")
+                .register(registry);
+        FunctionCounter.builder("login.attempts.throttled", rejectedByEmail, LongAdder::sum)
+                .tag("by", "email")
+                .description("logins refused before checking the password")
+                .register(registry);
+        FunctionCounter.builder("login.attempts.throttled", rejectedByClient, LongAdder::sum)
+                .tag("by", "client")
+                .description("logins refused before checking the password")
+                .register(registry);
+        Gauge.builder("login.attempts.tracked", this, throttle -> throttle.emails.size() + throttle.clients.size())
+                .description("emails and client addresses with recent failures")
+                .register(registry);
+    }
+
+    @Override
+    public void beforeAttempt(String email, String clientIp) {
+        long now = clock.getAsLong();
+        SlidingWindowCounters.Count emailCount = emails.read(emailKey(email), now);
+        SlidingWindowCounters.Count clientCount = clientIp == null
+                ? SlidingWindowCounters.Count.NONE
+                : clients.read(clientIp, now);
+        double emailFailures = emailCount.estimate();
+        double clientFailures = clientCount.estimate();
+
+        if (emailFailures >= settings.emailRejectAfter()) {
+            rejectedByEmail.increment();
+            log.debug("Login refused: too many failures for email. email={}", email);
+            throw tooMany();
+        }
+        if (clientFailures >= settings.clientRejectAfter()) {
+            rejectedByClient.increment();
+            log.debug("Login refused: too many failures from client. clientIp={}", clientIp);
+            throw tooMany();
+        }
+
+        long waitMs = Math.max(
+                remainingDelay(emailCount, settings.emailDelayAfter(), now),
+                remainingDelay(clientCount, settings.clientDelayAfter(), now));
+        if (waitMs > 0) {
+            delayed.increment();
+            log.debug("Login refused: retried too soon after a failure. email={}, clientIp={}, waitMs={}",
+                    email, clientIp, waitMs);
+            throw new TooManyAttemptsException((waitMs + 999) / 1000, "user.login.tooManyAttempts");
+        }
+    }
+
+    @Override
+    public void recordFailure(String email, String clientIp) {
+        failed.increment();
+        long now = clock.getAsLong();
+        emails.increment(emailKey(email), now);
+        if (clientIp != null) {
+            clients.increment(clientIp, now);
+        }
+    }
+
+    @Override
+    public void recordSuccess(String email, String clientIp) {
+        emails.reset(emailKey(email));
+    }
+
+    private long remainingDelay(SlidingWindowCounters.Count count, int delayAfter, long now) {
+        long delayMs = delayFor(count.estimate(), delayAfter);
+        return delayMs == 0 ? 0L : delayMs - (now - count.lastEventMillis());
+    }
+
+    private long delayFor(double failures, int delayAfter) {
+        if (failures < delayAfter) {
+            return 0L;
+        }
+        int doublings = (int) Math.min(20, failures - delayAfter);
+        return Math.min(settings.maxDelay().toMillis(), settings.baseDelay().toMillis() << doublings);
+    }
+
+    private TooManyAttemptsException tooMany() {
+        // the window estimate decays continuously; a full window is a safe upper bound
+        return new TooManyAttemptsException(settings.window().toSeconds(), "user.login.tooManyAttempts");
+    }
+
+    private static String emailKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public record Settings(Duration window,
+                           int emailDelayAfter,
+                           int emailRejectAfter,
+                           int clientDelayAfter,
+                           int clientRejectAfter,
+                           Duration baseDelay,
+                           Duration maxDelay,
+                           int maxTrackedKeys,
+                           int stripes) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.diego.interview.infraestructure.security;
+
+import com.diego.interview.domain.model.TokenClaims;
+import com.diego.interview.domain.model.TokenRevocation;
+import com.diego.interview.domain.port.TokenRevocationPort;
+import com.diego.interview.domain.port.TokenRevocationRepositoryPort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Revoked token ids held in memory as two epoch seconds per id, so the check
+ * on every authenticated request is a single map lookup that allocates
+ * nothing. Each revocation is written to the store before it takes effect and
+ * the store is read back by {@link #load()} at startup. Entries are pruned
+ * once every token they cover has expired.
+ *
+ * Token timestamps have second precision: a token issued in the same second
+ * as a revocation of its id is revoked too.
+ */
+public class TokenRevocationList implements TokenRevocationPort, MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private final TokenRevocationRepositoryPort repository;
+    private final Duration tokenTtl;
+    private final ConcurrentMap<String, Revoked> revoked = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    private final ScheduledExecutorService pruner;
+
+    public TokenRevocationList(TokenRevocationRepositoryPort repository, Duration tokenTtl, Duration pruneInterval) {
+        this.repository = repository;
+        this.tokenTtl = tokenTtl;
+        this.pruner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-prune");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = pruneInterval.toMillis();
+        pruner.scheduleWithFixedDelay(this::pruneQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.revocations", revoked, ConcurrentMap::size)
+                .description("revoked token ids that can still match an unexpired token")
+                .register(registry);
+        FunctionCounter.builder("jwt.revocations.rejected", rejected, LongAdder::sum)
+                .description("requests whose token had been revoked")
+                .register(registry);
+    }
+
+    /**
+     * Replaces the in-memory list with the revocations in the store that have
+     * not expired yet.
+     */
+    public void load() {
+        revoked.clear();
+        for (TokenRevocation revocation : repository.findActive(Instant.now())) {
+            revoked.merge(revocation.getTokenId(), Revoked.of(revocation), Revoked::widest);
+        }
+        log.info("Token revocation list loaded. entries={}", revoked.size());
+    }
+
+    @Override
+    public void revoke(TokenClaims claims) {
+        if (claims.getTokenId() == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        record(claims.getTokenId(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt() : now,
+                claims.getExpiresAt() != null ? claims.getExpiresAt() : now.plus(tokenTtl));
+    }
+
+    @Override
+    public void revokeAll(UUID userId) {
+        Instant now = Instant.now();
+        record(userId.toString(), now, now.plus(tokenTtl));
+    }
+
+    @Override
+    public boolean isRevoked(TokenClaims claims) {
+        String tokenId = claims.getTokenId();
+        if (tokenId == null || revoked.isEmpty()) {
+            return false;
+        }
+        Revoked entry = revoked.get(tokenId);
+        if (entry == null) {
+            return false;
+        }
+        Instant issuedAt = claims.getIssuedAt();
+        if (issuedAt != null && issuedAt.getEpochSecond() > entry.revokedUpTo()) {
+            return false;
+        }
+        rejected.increment();
+        return true;
+    }
+
+    /**
+     * Drops revocations whose tokens have all expired by {@code now}, here and
+     * in the store.
+     */
+    public void prune(Instant now) {
+        long nowSecond = now.getEpochSecond();
+        revoked.values().removeIf(entry -> entry.expiresAt() <= nowSecond);
+        int deleted = repository.deleteExpired(now);
+        log.debug("Pruned expired token revocations. deleted={} remaining={}", deleted, revoked.size());
+    }
+
+    @Override
+    public void close() {
+        pruner.shutdown();
+    }
+
+    private void record(String tokenId, Instant revokedUpTo, Instant expiresAt) {
+        Revoked requested = new Revoked(revokedUpTo.getEpochSecond(), expiresAt.getEpochSecond());
+        // the write happens inside compute so concurrent revocations of one id
+        // reach the store in the same order as the map; if it fails nothing changes
+        revoked.compute(tokenId, (id, current) -> {
+            Revoked widest = current == null ? requested : current.widest(requested);
+            repository.save(widest.toRevocation(id));
+            return widest;
+        });
+        log.info("Token revoked. tokenId={}", tokenId);
+    }
+
+    private void pruneQuietly() {
+        try {
+            prune(Instant.now());
+        } catch (RuntimeException ex) {
+            log.warn("Pruning token revocations failed; will retry", ex);
+        }
+    }
+
+    private record Revoked(long revokedUpTo, long expiresAt) {
+
+        static Revoked of(TokenRevocation revocation) {
+            return new Revoked(revocation.getRevokedUpTo().getEpochSecond(), revocation.getExpiresAt().getEpochSecond());
+        }
+
+        Revoked widest(Revoked other) {
+            return new Revoked(Math.max(revokedUpTo, other.revokedUpTo), Math.max(expiresAt, other.expiresAt));
+        }
+
+        TokenRevocation toRevocation(String tokenId) {
+            return TokenRevocation.builder()
+                    .tokenId(tokenId)
+                    .revokedUpTo(Instant.ofEpochSecond(revokedUpTo))
+                    .expiresAt(Instant.ofEpochSecond(expiresAt))
+                    .build();
+        }
+    }
+}
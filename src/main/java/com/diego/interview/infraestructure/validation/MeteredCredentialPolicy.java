@@ -0,0 +1,40 @@
+package com.diego.interview.infraestructure.validation;
+
+import com.diego.interview.domain.model.CredentialRejection;
+import com.diego.interview.domain.port.CredentialPolicy;
+
+/**
+ * Reports the checks a use case runs itself as the {@code usecase}
+ * validation layer.
+ */
+public class MeteredCredentialPolicy implements CredentialPolicy {
+
+    private final CredentialPolicy delegate;
+    private final ValidationMetrics metrics;
+
+    public MeteredCredentialPolicy(CredentialPolicy delegate, ValidationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CredentialRejection checkEmail(String email) {
+        long start = System.nanoTime();
+        return record(start, delegate.checkEmail(email));
+    }
+
+    @Override
+    public CredentialRejection checkPassword(String password) {
+        long start = System.nanoTime();
+        return record(start, delegate.checkPassword(password));
+    }
+
+    private CredentialRejection record(long start, CredentialRejection rejection) {
+        if (rejection == null) {
+            metrics.accepted(start);
+        } else {
+            metrics.rejected(start, rejection.getMessageCode());
+        }
+        return rejection;
+    }
+}
@@ -0,0 +1,124 @@
+package com.diego.interview.infraestructure.validation;
+
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ParameterNameProvider;
+import jakarta.validation.TraversableResolver;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorContext;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+
+import java.util.Set;
+
+/**
+ * The validator factory handed to Hibernate, so the Bean Validation pass it
+ * runs on persist and update is reported as the {@code persistence}
+ * validation layer. With {@code jakarta.persistence.validation.mode=none}
+ * Hibernate never asks for a validator and nothing is recorded.
+ */
+public class MeteredValidatorFactory implements ValidatorFactory {
+
+    private final ValidatorFactory delegate;
+    private final ValidationMetrics metrics;
+
+    public MeteredValidatorFactory(ValidatorFactory delegate, ValidationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new MeteredValidator(delegate.getValidator());
+    }
+
+    @Override
+    public ValidatorContext usingContext() {
+        return delegate.usingContext();
+    }
+
+    @Override
+    public MessageInterpolator getMessageInterpolator() {
+        return delegate.getMessageInterpolator();
+    }
+
+    @Override
+    public TraversableResolver getTraversableResolver() {
+        return delegate.getTraversableResolver();
+    }
+
+    @Override
+    public ConstraintValidatorFactory getConstraintValidatorFactory() {
+        return delegate.getConstraintValidatorFactory();
+    }
+
+    @Override
+    public ParameterNameProvider getParameterNameProvider() {
+        return delegate.getParameterNameProvider();
+    }
+
+    @Override
+    public ClockProvider getClockProvider() {
+        return delegate.getClockProvider();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return delegate.unwrap(type);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private final class MeteredValidator implements Validator {
+
+        private final Validator validator;
+
+        private MeteredValidator(Validator validator) {
+            this.validator = validator;
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+            long start = System.nanoTime();
+            Set<ConstraintViolation<T>> violations = validator.validate(object, groups);
+            if (violations.isEmpty()) {
+                metrics.accepted(start);
+            } else {
+                metrics.rejected(start, violations.iterator().next().getMessageTemplate());
+            }
+            return violations;
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+            return validator.validateProperty(object, propertyName, groups);
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value,
+                                                            Class<?>... groups) {
+            return validator.validateValue(beanType, propertyName, value, groups);
+        }
+
+        @Override
+        public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+            return validator.getConstraintsForClass(clazz);
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            return validator.unwrap(type);
+        }
+
+        @Override
+        public ExecutableValidator forExecutables() {
+            return validator.forExecutables();
+        }
+    }
+}
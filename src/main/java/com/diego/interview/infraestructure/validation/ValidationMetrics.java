@@ -0,0 +1,49 @@
+package com.diego.interview.infraestructure.validation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time spent validating input at one layer ({@code request}, {@code usecase}
+ * or {@code persistence}), split by outcome. The rejection rate of a layer is
+ * {@code validation.checks{outcome=rejected}} over all its checks;
+ * {@code validation.rejections} breaks rejections down by message code.
+ */
+public class ValidationMetrics {
+
+    private final MeterRegistry registry;
+    private final String layer;
+    private final Timer accepted;
+    private final Timer rejected;
+
+    public ValidationMetrics(MeterRegistry registry, String layer) {
+        this.registry = registry;
+        this.layer = layer;
+        this.accepted = timer(registry, layer, "accepted");
+        this.rejected = timer(registry, layer, "rejected");
+    }
+
+    public void accepted(long startNanos) {
+        accepted.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void rejected(long startNanos, String code) {
+        rejected.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("validation.rejections")
+                .tag("layer", layer)
+                .tag("code", code)
+                .register(registry)
+                .increment();
+    }
+
+    private static Timer timer(MeterRegistry registry, String layer, String outcome) {
+        return Timer.builder("validation.checks")
+                .tag("layer", layer)
+                .tag("outcome", outcome)
+                .description("input validation per layer")
+                .register(registry);
+    }
+}
@@ -6,9 +6,12 @@ import com.diego.interview.application.usecase.impl.CreateUserUseCaseImpl;
 import com.diego.interview.domain.exception.BusinessException;
 import com.diego.interview.domain.model.Phone;
 import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.CredentialPolicy;
 import com.diego.interview.domain.port.PasswordEncoderPort;
+import com.diego.interview.domain.port.RefreshTokenPort;
 import com.diego.interview.domain.port.TokenProviderPort;
 import com.diego.interview.domain.port.UserRepositoryPort;
+import com.diego.interview.infraestructure.security.RegexCredentialPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,7 +21,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
@@ -26,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,20 +43,22 @@ class CreateUserUseCaseImplTest {
     @Mock
     private PasswordEncoderPort passwordEncoderPort;   // 👈 NUEVO MOCK
 
-    private Pattern emailPattern;
-    private Pattern passwordPattern;
+    @Mock
+    private RefreshTokenPort refreshTokenPort;
+
+    private CredentialPolicy credentialPolicy;
 
     private CreateUserUseCaseImpl service;
 
     @BeforeEach
     void setUp() {
-        emailPattern = Pattern.compile("^[^@]+@[^@]+\\.[^@]+$");
-        passwordPattern = Pattern.compile("^.{8,}$");
+        credentialPolicy = new RegexCredentialPolicy(
+                Pattern.compile("^[^@]+@[^@]+\\.[^@]+$"),
+                Pattern.compile("^.{8,}$"));
 
         service = new CreateUserUseCaseImpl(
                 userRepositoryPort,
-                emailPattern,
-                passwordPattern,
+                credentialPolicy,
                 tokenProviderPort,
                 passwordEncoderPort       // 👈 INYECTAMOS ENCODER
         );
@@ -80,11 +85,12 @@ class CreateUserUseCaseImplTest {
                 .phones(List.of(phoneCommand))
                 .build();
 
-        when(userRepositoryPort.findByEmail(email)).thenReturn(Optional.empty());
+        when(userRepositoryPort.existsByEmail(email)).thenReturn(false);
         when(passwordEncoderPort.encode(rawPassword)).thenReturn(encodedPassword); // 👈 mock encode
         when(tokenProviderPort.generateToken(any(User.class))).thenReturn("dummy-token");
 
         UUID generatedId = UUID.randomUUID();
+        when(userRepositoryPort.nextId()).thenReturn(generatedId);
         LocalDateTime now = LocalDateTime.now();
 
         User savedUser = User.builder()
@@ -106,17 +112,19 @@ class CreateUserUseCaseImplTest {
                 .token("dummy-token")
                 .build();
 
-        when(userRepositoryPort.save(any(User.class))).thenReturn(savedUser);
+        when(userRepositoryPort.create(any(User.class))).thenReturn(savedUser);
 
         UserResponse response = service.createUser(command);
 
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepositoryPort, times(1)).save(userCaptor.capture());
-        verify(userRepositoryPort, times(1)).findByEmail(email);
+        verify(userRepositoryPort, times(1)).create(userCaptor.capture());
+        verify(userRepositoryPort, times(1)).existsByEmail(email);
         verify(passwordEncoderPort, times(1)).encode(rawPassword);        // 👈 se llamó al encoder
-        verify(tokenProviderPort, times(1)).generateToken(any(User.class));
+        // signed with the id the user is stored under, so the token can be revoked
+        verify(tokenProviderPort, times(1)).generateToken(argThat(user -> generatedId.equals(user.getId())));
 
         User userSentToRepo = userCaptor.getValue();
+        assertThat(userSentToRepo.getId()).isEqualTo(generatedId);
         assertThat(userSentToRepo.getEmail()).isEqualTo(email);
         assertThat(userSentToRepo.getName()).isEqualTo(name);
         assertThat(userSentToRepo.getPhones()).hasSize(1);
@@ -132,6 +140,54 @@ class CreateUserUseCaseImplTest {
         assertThat(response.getPhones().get(0).getNumber()).isEqualTo("1234567");
     }
 
+    @Test
+    void createUser_shouldReturnButNotStoreToken_whenTokensAreStateless() {
+        CreateUserUseCaseImpl stateless = new CreateUserUseCaseImpl(
+                userRepositoryPort, credentialPolicy, tokenProviderPort, passwordEncoderPort, false);
+        CreateUserCommand command = CreateUserCommand.builder()
+                .email("jane@test.com")
+                .password("Password123")
+                .name("Jane")
+                .phones(List.of())
+                .build();
+        when(userRepositoryPort.existsByEmail("jane@test.com")).thenReturn(false);
+        when(passwordEncoderPort.encode("Password123")).thenReturn("encoded");
+        when(tokenProviderPort.generateToken(any(User.class))).thenReturn("issued-token");
+        when(userRepositoryPort.create(any(User.class))).thenAnswer(inv -> {
+            User user = inv.getArgument(0);
+            assertThat(user.getToken()).isNull();
+            return user.toBuilder().id(UUID.randomUUID()).build();
+        });
+
+        UserResponse response = stateless.createUser(command);
+
+        assertThat(response.getToken()).isEqualTo("issued-token");
+    }
+
+    @Test
+    void createUser_shouldIssueARefreshTokenForTheNewUser_whenEnabled() {
+        CreateUserUseCaseImpl withRefresh = new CreateUserUseCaseImpl(
+                userRepositoryPort, credentialPolicy, tokenProviderPort, passwordEncoderPort, true, refreshTokenPort);
+        CreateUserCommand command = CreateUserCommand.builder()
+                .email("jane@test.com")
+                .password("Password123")
+                .name("Jane")
+                .phones(List.of())
+                .build();
+        UUID id = UUID.randomUUID();
+        when(userRepositoryPort.nextId()).thenReturn(id);
+        when(passwordEncoderPort.encode("Password123")).thenReturn("encoded");
+        when(tokenProviderPort.generateToken(any(User.class))).thenReturn("issued-token");
+        when(userRepositoryPort.create(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(refreshTokenPort.issue(id)).thenReturn("refresh-token");
+
+        UserResponse response = withRefresh.createUser(command);
+
+        // the access token is short-lived, so a signup needs a way to renew it too
+        assertThat(response.getToken()).isEqualTo("issued-token");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
+    }
+
     @Test
     void createUser_shouldThrowBusinessException_whenEmailIsInvalid() {
         String invalidEmail = "invalid-email";
@@ -149,8 +205,8 @@ class CreateUserUseCaseImplTest {
                     assertThat(be.getCode()).isEqualTo("user.email.invalid");
                 });
 
-        verify(userRepositoryPort, never()).save(any());
-        verify(userRepositoryPort, never()).findByEmail(anyString());
+        verify(userRepositoryPort, never()).create(any());
+        verify(userRepositoryPort, never()).existsByEmail(anyString());
         verify(passwordEncoderPort, never()).encode(any());
         verify(tokenProviderPort, never()).generateToken(any());
     }
@@ -174,8 +230,8 @@ class CreateUserUseCaseImplTest {
                     assertThat(be.getCode()).isEqualTo("user.password.invalid");
                 });
 
-        verify(userRepositoryPort, never()).save(any());
-        verify(userRepositoryPort, never()).findByEmail(anyString());
+        verify(userRepositoryPort, never()).create(any());
+        verify(userRepositoryPort, never()).existsByEmail(anyString());
         verify(passwordEncoderPort, never()).encode(any());
         verify(tokenProviderPort, never()).generateToken(any());
     }
@@ -191,13 +247,8 @@ class CreateUserUseCaseImplTest {
                 .phones(List.of())
                 .build();
 
-        User existing = User.builder()
-                .id(UUID.randomUUID())
-                .email(email)
-                .name("Existing User")
-                .build();
 
-        when(userRepositoryPort.findByEmail(email)).thenReturn(Optional.of(existing));
+        when(userRepositoryPort.existsByEmail(email)).thenReturn(true);
 
         assertThatThrownBy(() -> service.createUser(command))
                 .isInstanceOf(BusinessException.class)
@@ -206,8 +257,8 @@ class CreateUserUseCaseImplTest {
                     assertThat(be.getCode()).isEqualTo("user.email.exists");
                 });
 
-        verify(userRepositoryPort, times(1)).findByEmail(email);
-        verify(userRepositoryPort, never()).save(any());
+        verify(userRepositoryPort, times(1)).existsByEmail(email);
+        verify(userRepositoryPort, never()).create(any());
         verify(passwordEncoderPort, never()).encode(any());
         verify(tokenProviderPort, never()).generateToken(any());
     }
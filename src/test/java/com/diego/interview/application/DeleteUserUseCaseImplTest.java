@@ -1,7 +1,6 @@
 package com.diego.interview.application.usecase.impl;
 
 import com.diego.interview.domain.exception.BusinessException;
-import com.diego.interview.domain.model.User;
 import com.diego.interview.domain.port.UserRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,12 +8,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,27 +35,26 @@ class DeleteUserUseCaseImplTest {
     void deleteById_shouldDeleteWhenUserExists() {
         UUID id = UUID.randomUUID();
 
-        when(userRepository.findById(id)).thenReturn(Optional.of(User.builder().id(id).build()));
+        when(userRepository.deleteById(id)).thenReturn(1);
 
         assertDoesNotThrow(() -> useCase.deleteById(id));
 
-        verify(userRepository, times(1)).findById(id);
         verify(userRepository, times(1)).deleteById(id);
+        verify(userRepository, never()).findById(id);
     }
 
     @Test
     void deleteById_shouldThrowBusinessExceptionWhenUserNotFound() {
         UUID id = UUID.randomUUID();
 
-        when(userRepository.findById(id)).thenReturn(Optional.empty());
+        when(userRepository.deleteById(id)).thenReturn(0);
 
         BusinessException ex = assertThrows(
                 BusinessException.class,
                 () -> useCase.deleteById(id)
         );
 
-        verify(userRepository, times(1)).findById(id);
-        verify(userRepository, times(0)).deleteById(id);
+        verify(userRepository, times(1)).deleteById(id);
 
         assertThat(ex.getCode()).isEqualTo("user.notFound");
         assertThat(ex.getArgs()).isNotNull();
@@ -0,0 +1,46 @@
+package com.diego.interview.application;
+
+import com.diego.interview.application.usecase.dto.UserResponse;
+import com.diego.interview.application.usecase.impl.ExportUsersUseCaseImpl;
+import com.diego.interview.domain.model.Phone;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ExportUsersUseCaseImplTest {
+
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+
+    @Test
+    void exportUsers_shouldMapEachUserAsItArrives() {
+        doAnswer(inv -> {
+            Consumer<User> action = inv.getArgument(0);
+            action.accept(User.builder().id(UUID.randomUUID()).email("a@test.com")
+                    .phones(List.of(Phone.builder().number("123").cityCode("1").countryCode("57").build()))
+                    .build());
+            action.accept(User.builder().id(UUID.randomUUID()).email("b@test.com").phones(List.of()).build());
+            return null;
+        }).when(userRepositoryPort).forEachUser(any());
+        List<UserResponse> exported = new ArrayList<>();
+
+        long count = new ExportUsersUseCaseImpl(userRepositoryPort).exportUsers(exported::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).extracting(UserResponse::getEmail).containsExactly("a@test.com", "b@test.com");
+        assertThat(exported.get(0).getPhones()).hasSize(1);
+    }
+}
@@ -0,0 +1,165 @@
+package com.diego.interview.application;
+
+import com.diego.interview.application.usecase.dto.CreateUserCommand;
+import com.diego.interview.application.usecase.dto.ImportReport;
+import com.diego.interview.application.usecase.dto.ImportReport.LineResult;
+import com.diego.interview.application.usecase.dto.ImportReport.Status;
+import com.diego.interview.application.usecase.dto.ImportUserRow;
+import com.diego.interview.application.usecase.impl.ImportUsersUseCaseImpl;
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.exception.CapacityExceededException;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.AsyncPasswordEncoderPort;
+import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import com.diego.interview.infraestructure.security.RegexCredentialPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportUsersUseCaseImplTest {
+
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+
+    @Mock
+    private TokenProviderPort tokenProviderPort;
+
+    @Mock
+    private AsyncPasswordEncoderPort passwordEncoderPort;
+
+    private ImportUsersUseCaseImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImportUsersUseCaseImpl(
+                userRepositoryPort,
+                new RegexCredentialPolicy(
+                        Pattern.compile("^[^@]+@[^@]+\\.[^@]+$"),
+                        Pattern.compile("^.{8,}$")),
+                tokenProviderPort,
+                passwordEncoderPort,
+                2,
+                2
+        );
+    }
+
+    @Test
+    void importUsers_shouldCreateValidRowsInChunks() {
+        when(userRepositoryPort.findExistingEmails(any())).thenReturn(Set.of());
+        when(passwordEncoderPort.encodeAsync(anyString()))
+                .thenAnswer(inv -> CompletableFuture.completedFuture("hash-" + inv.getArgument(0)));
+        when(tokenProviderPort.generateToken(any())).thenReturn("token");
+        when(userRepositoryPort.nextId()).thenAnswer(inv -> UUID.randomUUID());
+        when(userRepositoryPort.saveAll(anyList())).thenAnswer(inv -> withIds(inv.getArgument(0)));
+
+        ImportReport report = service.importUsers(List.of(
+                row(1, "a@test.com"), row(2, "b@test.com"), row(3, "c@test.com")).iterator());
+
+        assertThat(report.getTotal()).isEqualTo(3);
+        assertThat(report.getCreated()).isEqualTo(3);
+        assertThat(report.getLines()).extracting(LineResult::getStatus).containsOnly(Status.CREATED);
+        assertThat(report.getLines()).extracting(LineResult::getId).doesNotContainNull();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userRepositoryPort, times(2)).saveAll(saved.capture());
+        assertThat(saved.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(saved.getAllValues().get(0).get(0).getPassword()).isEqualTo("hash-Password123");
+        assertThat(saved.getAllValues().get(0).get(0).getToken()).isEqualTo("token");
+        // every token is signed after the user got its id, so it can be revoked
+        verify(tokenProviderPort, times(3)).generateToken(argThat(user -> user.getId() != null));
+    }
+
+    @Test
+    void importUsers_shouldRejectInvalidDuplicatedAndExistingRows() {
+        when(userRepositoryPort.findExistingEmails(any())).thenReturn(Set.of("taken@test.com"));
+        when(passwordEncoderPort.encodeAsync(anyString())).thenReturn(CompletableFuture.completedFuture("hash"));
+        when(userRepositoryPort.saveAll(anyList())).thenAnswer(inv -> withIds(inv.getArgument(0)));
+
+        ImportReport report = service.importUsers(List.of(
+                row(1, "ok@test.com"),
+                row(2, "not-an-email"),
+                row(3, "ok@test.com"),
+                row(4, "taken@test.com"),
+                ImportUserRow.rejected(5, null, "user.import.malformed")).iterator());
+
+        assertThat(report.getCreated()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(4);
+        assertThat(report.getLines()).extracting(LineResult::getLine).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(report.getLines()).extracting(LineResult::getError).containsExactly(
+                null, "user.email.invalid", "user.import.duplicate", "user.email.exists", "user.import.malformed");
+    }
+
+    @Test
+    void importUsers_shouldRetryRowByRowWhenTheBatchHitsATakenEmail() {
+        when(userRepositoryPort.findExistingEmails(any())).thenReturn(Set.of());
+        when(passwordEncoderPort.encodeAsync(anyString())).thenReturn(CompletableFuture.completedFuture("hash"));
+        when(userRepositoryPort.saveAll(anyList())).thenAnswer(inv -> {
+            List<User> users = inv.getArgument(0);
+            if (users.size() > 1 || users.get(0).getEmail().equals("raced@test.com")) {
+                throw new BusinessException("user.email.exists");
+            }
+            return withIds(users);
+        });
+
+        ImportReport report = service.importUsers(List.of(
+                row(1, "raced@test.com"), row(2, "fine@test.com")).iterator());
+
+        assertThat(report.getLines()).extracting(LineResult::getStatus)
+                .containsExactly(Status.REJECTED, Status.CREATED);
+        assertThat(report.getLines().get(0).getError()).isEqualTo("user.email.exists");
+    }
+
+    @Test
+    void importUsers_shouldReportRowsTheEncoderHadNoRoomFor() {
+        when(userRepositoryPort.findExistingEmails(any())).thenReturn(Set.of());
+        when(passwordEncoderPort.encodeAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture("hash"))
+                .thenReturn(CompletableFuture.failedFuture(new CapacityExceededException("service.busy")));
+        when(userRepositoryPort.saveAll(anyList())).thenAnswer(inv -> withIds(inv.getArgument(0)));
+
+        ImportReport report = service.importUsers(List.of(
+                row(1, "a@test.com"), row(2, "b@test.com")).iterator());
+
+        assertThat(report.getCreated()).isEqualTo(1);
+        assertThat(report.getLines().get(1).getError()).isEqualTo("service.busy");
+    }
+
+    private static ImportUserRow row(long line, String email) {
+        return ImportUserRow.valid(line, CreateUserCommand.builder()
+                .name("User " + line)
+                .email(email)
+                .password("Password123")
+                .phones(List.of(CreateUserCommand.PhoneCommand.builder()
+                        .number("1234567")
+                        .cityCode("1")
+                        .countryCode("57")
+                        .build()))
+                .build());
+    }
+
+    private static List<User> withIds(Collection<User> users) {
+        return users.stream().map(u -> u.toBuilder().id(UUID.randomUUID()).build()).toList();
+    }
+}
@@ -3,8 +3,11 @@ package com.diego.interview.application;
 import com.diego.interview.application.usecase.dto.PagedResponse;
 import com.diego.interview.application.usecase.dto.UserResponse;
 import com.diego.interview.application.usecase.impl.ListUsersUseCaseImpl;
+import com.diego.interview.application.usecase.mapper.UserCursorCodec;
+import com.diego.interview.domain.exception.BusinessException;
 import com.diego.interview.domain.model.Phone;
 import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.model.UserCursor;
 import com.diego.interview.domain.port.UserRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +21,11 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -70,7 +78,7 @@ class ListUsersUseCaseImplTest {
         when(userRepository.findAllPaged(page, size)).thenReturn(List.of(u1, u2));
         when(userRepository.countAll()).thenReturn(5L); // total elementos
 
-        PagedResponse<UserResponse> response = useCase.listUsers(page, size);
+        PagedResponse<UserResponse> response = useCase.listUsers(page, size, true);
 
         verify(userRepository, times(1)).findAllPaged(page, size);
         verify(userRepository, times(1)).countAll();
@@ -109,7 +117,7 @@ class ListUsersUseCaseImplTest {
         when(userRepository.findAllPaged(expectedPage, expectedSize)).thenReturn(List.of());
         when(userRepository.countAll()).thenReturn(0L);
 
-        PagedResponse<UserResponse> response = useCase.listUsers(page, size);
+        PagedResponse<UserResponse> response = useCase.listUsers(page, size, true);
 
         ArgumentCaptor<Integer> pageCaptor = ArgumentCaptor.forClass(Integer.class);
         ArgumentCaptor<Integer> sizeCaptor = ArgumentCaptor.forClass(Integer.class);
@@ -135,7 +143,7 @@ class ListUsersUseCaseImplTest {
         when(userRepository.findAllPaged(page, size)).thenReturn(List.of());
         when(userRepository.countAll()).thenReturn(0L);
 
-        PagedResponse<UserResponse> response = useCase.listUsers(page, size);
+        PagedResponse<UserResponse> response = useCase.listUsers(page, size, true);
 
         verify(userRepository, times(1)).findAllPaged(page, size);
         verify(userRepository, times(1)).countAll();
@@ -144,4 +152,68 @@ class ListUsersUseCaseImplTest {
         assertThat(response.getTotalElements()).isEqualTo(0L);
         assertThat(response.getTotalPages()).isEqualTo(0);
     }
+
+    @Test
+    void listUsers_shouldReturnNextCursorWhenPageIsFull() {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 10, 0);
+        User last = User.builder()
+                .id(UUID.randomUUID())
+                .email("user1@test.com")
+                .createdAt(created)
+                .phones(List.of())
+                .build();
+
+        when(userRepository.findAllPaged(0, 1)).thenReturn(List.of(last));
+        when(userRepository.countAll()).thenReturn(3L);
+
+        PagedResponse<UserResponse> response = useCase.listUsers(0, 1, true);
+
+        assertThat(response.getNextCursor()).isNotNull();
+        UserCursor cursor = UserCursorCodec.decode(response.getNextCursor());
+        assertThat(cursor.getCreatedAt()).isEqualTo(created);
+        assertThat(cursor.getId()).isEqualTo(last.getId());
+    }
+
+    @Test
+    void listUsersAfter_shouldDecodeCursorAndQueryByKeyset() {
+        UUID lastId = UUID.randomUUID();
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 10, 0);
+        String after = UserCursorCodec.encode(User.builder().id(lastId).createdAt(created).build());
+
+        when(userRepository.findPageAfter(any(UserCursor.class), eq(2))).thenReturn(List.of());
+        when(userRepository.countAll()).thenReturn(0L);
+
+        PagedResponse<UserResponse> response = useCase.listUsersAfter(after, 2, true);
+
+        ArgumentCaptor<UserCursor> cursorCaptor = ArgumentCaptor.forClass(UserCursor.class);
+        verify(userRepository).findPageAfter(cursorCaptor.capture(), eq(2));
+        assertThat(cursorCaptor.getValue().getId()).isEqualTo(lastId);
+        assertThat(cursorCaptor.getValue().getCreatedAt()).isEqualTo(created);
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    void listUsersAfter_shouldRejectMalformedCursor() {
+        BusinessException ex = assertThrows(
+                BusinessException.class,
+                () -> useCase.listUsersAfter("not-a-cursor", 2, true)
+        );
+
+        assertThat(ex.getCode()).isEqualTo("user.cursor.invalid");
+        verify(userRepository, never()).findPageAfter(any(), anyInt());
+    }
+
+    @Test
+    void listUsers_shouldUseEstimatedCountWhenExactTotalIsNotRequested() {
+        when(userRepository.findAllPaged(0, 10)).thenReturn(List.of());
+        when(userRepository.estimateCount()).thenReturn(42L);
+
+        PagedResponse<UserResponse> response = useCase.listUsers(0, 10, false);
+
+        assertThat(response.getTotalElements()).isEqualTo(42L);
+        assertThat(response.getTotalPages()).isEqualTo(5);
+        assertThat(response.isTotalEstimated()).isTrue();
+        verify(userRepository, never()).countAll();
+    }
 }
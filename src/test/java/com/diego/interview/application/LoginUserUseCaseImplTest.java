@@ -2,10 +2,16 @@ package com.diego.interview.application;
 import com.diego.interview.application.usecase.dto.UserResponse;
 import com.diego.interview.application.usecase.impl.LoginUserUseCaseImpl;
 import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.exception.TooManyAttemptsException;
+import com.diego.interview.domain.model.LoginUpdate;
 import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.LoginThrottlePort;
 import com.diego.interview.domain.port.PasswordEncoderPort;
+import com.diego.interview.domain.port.RefreshTokenPort;
 import com.diego.interview.domain.port.TokenProviderPort;
 import com.diego.interview.domain.port.UserRepositoryPort;
+import com.diego.interview.infraestructure.security.DelegatingPasswordEncoderAdapter;
+import com.diego.interview.infraestructure.security.DelegatingPasswordEncoderAdapter.PasswordHashingSettings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,12 +20,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +45,12 @@ class LoginUserUseCaseImplTest {
     @Mock
     private PasswordEncoderPort passwordEncoder;   // 👈 nuevo mock
 
+    @Mock
+    private RefreshTokenPort refreshTokens;
+
+    @Mock
+    private LoginThrottlePort throttle;
+
     private LoginUserUseCaseImpl useCase;
 
     @BeforeEach
@@ -70,23 +85,23 @@ class LoginUserUseCaseImplTest {
         // el encoder debe decir que la contraseña es correcta
         when(passwordEncoder.matches(rawPassword, encodedPassword)).thenReturn(true);
         when(tokenProvider.generateToken(user)).thenReturn("new-jwt-token");
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserResponse response = useCase.login(email, rawPassword);
 
         verify(userRepository, times(1)).findByEmail(email);
         verify(passwordEncoder, times(1)).matches(rawPassword, encodedPassword);
         verify(tokenProvider, times(1)).generateToken(user);
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, never()).save(any(User.class));
 
-        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository).save(userCaptor.capture());
-        User savedUser = userCaptor.getValue();
+        // solo last_login y token, sin guardar el usuario completo
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<LoginUpdate>> updatesCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository).recordLogins(updatesCaptor.capture());
+        LoginUpdate update = updatesCaptor.getValue().iterator().next();
 
-        // lastLogin actualizado y token seteado
-        assertThat(savedUser.getLastLogin()).isNotNull();
-        assertThat(savedUser.getLastLogin()).isAfter(oldLastLogin);
-        assertThat(savedUser.getToken()).isEqualTo("new-jwt-token");
+        assertThat(update.getUserId()).isEqualTo(id);
+        assertThat(update.getLastLogin()).isAfter(oldLastLogin);
+        assertThat(update.getToken()).isEqualTo("new-jwt-token");
 
         // response correcto
         assertThat(response).isNotNull();
@@ -97,7 +112,7 @@ class LoginUserUseCaseImplTest {
         assertThat(response.getToken()).isEqualTo("new-jwt-token");
         assertThat(response.getCreated()).isEqualTo(created);
         assertThat(response.getModified()).isEqualTo(updated);
-        assertThat(response.getLastLogin()).isEqualTo(savedUser.getLastLogin());
+        assertThat(response.getLastLogin()).isEqualTo(update.getLastLogin());
     }
 
     @Test
@@ -151,4 +166,133 @@ class LoginUserUseCaseImplTest {
         assertThat(ex.getCode()).isEqualTo("user.login.invalidCredentials");
         assertThat(ex.getArgs()).containsExactly(email);
     }
-}
\ No newline at end of file
+
+    @Test
+    void login_shouldRehashPassword_whenStoredHashIsOutdated() {
+        String email = "john.doe@test.com";
+        String rawPassword = "secret";
+        String legacyHash = "legacy-hash";
+
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email(email)
+                .password(legacyHash)
+                .active(true)
+                .build();
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(rawPassword, legacyHash)).thenReturn(true);
+        when(passwordEncoder.needsRehash(legacyHash)).thenReturn(true);
+        when(passwordEncoder.encode(rawPassword)).thenReturn("{bcrypt}upgraded-hash");
+        when(tokenProvider.generateToken(user)).thenReturn("new-jwt-token");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        useCase.login(email, rawPassword);
+
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(userCaptor.capture());
+        assertThat(userCaptor.getValue().getPassword()).isEqualTo("{bcrypt}upgraded-hash");
+        assertThat(userCaptor.getValue().getToken()).isEqualTo("new-jwt-token");
+        verify(userRepository, never()).recordLogins(any());
+    }
+
+    @Test
+    void login_shouldRehashPbkdf2Password_whenIterationsWereChanged() {
+        String oldHash = new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.PBKDF2,
+                new PasswordHashingSettings(4, 16, 32, 1, 1024, 1, 16, 1000)).encode("secret");
+        LoginUserUseCaseImpl raised = new LoginUserUseCaseImpl(userRepository, tokenProvider,
+                new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.PBKDF2,
+                        new PasswordHashingSettings(4, 16, 32, 1, 1024, 1, 16, 2000)));
+        User user = User.builder().id(UUID.randomUUID()).email("john@test.com").password(oldHash).active(true).build();
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
+        when(tokenProvider.generateToken(user)).thenReturn("new-jwt-token");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        raised.login("john@test.com", "secret");
+
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(userCaptor.capture());
+        assertThat(userCaptor.getValue().getPassword()).startsWith("{pbkdf2@2000}");
+    }
+
+    @Test
+    void login_shouldNotWriteAnything_whenTokensAreStatelessAndLastLoginIsNotSampled() {
+        LoginUserUseCaseImpl stateless = new LoginUserUseCaseImpl(userRepository, tokenProvider, passwordEncoder, false, 0.0);
+        User user = User.builder().id(UUID.randomUUID()).email("john@test.com").password("hash").active(true).build();
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", "hash")).thenReturn(true);
+        when(tokenProvider.generateToken(user)).thenReturn("new-jwt-token");
+
+        UserResponse response = stateless.login("john@test.com", "secret");
+
+        assertThat(response.getToken()).isEqualTo("new-jwt-token");
+        assertThat(response.getLastLogin()).isNotNull();
+        verify(userRepository, never()).recordLogins(any());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void login_shouldWriteOnlyLastLogin_whenTokensAreStatelessAndSampled() {
+        LoginUserUseCaseImpl stateless = new LoginUserUseCaseImpl(userRepository, tokenProvider, passwordEncoder, false, 1.0);
+        User user = User.builder().id(UUID.randomUUID()).email("john@test.com").password("hash").active(true).build();
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", "hash")).thenReturn(true);
+        when(tokenProvider.generateToken(user)).thenReturn("new-jwt-token");
+
+        stateless.login("john@test.com", "secret");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<LoginUpdate>> updatesCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository).recordLogins(updatesCaptor.capture());
+        LoginUpdate update = updatesCaptor.getValue().iterator().next();
+        assertThat(update.getLastLogin()).isNotNull();
+        assertThat(update.getToken()).isNull();
+    }
+
+    @Test
+    void login_shouldIssueARefreshToken_whenRefreshTokensAreEnabled() {
+        LoginUserUseCaseImpl withRefresh = new LoginUserUseCaseImpl(
+                userRepository, tokenProvider, passwordEncoder, true, 1.0, refreshTokens, null);
+        UUID id = UUID.randomUUID();
+        User user = User.builder().id(id).email("john@test.com").password("hash").active(true).build();
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", "hash")).thenReturn(true);
+        when(tokenProvider.generateToken(user)).thenReturn("new-jwt-token");
+        when(refreshTokens.issue(id)).thenReturn("opaque-refresh");
+
+        UserResponse response = withRefresh.login("john@test.com", "secret");
+
+        assertThat(response.getToken()).isEqualTo("new-jwt-token");
+        assertThat(response.getRefreshToken()).isEqualTo("opaque-refresh");
+    }
+
+    @Test
+    void login_shouldNotCheckThePassword_whenTheThrottleRefusesTheAttempt() {
+        LoginUserUseCaseImpl throttled = new LoginUserUseCaseImpl(
+                userRepository, tokenProvider, passwordEncoder, true, 1.0, null, throttle);
+        doThrow(new TooManyAttemptsException(900, "user.login.tooManyAttempts"))
+                .when(throttle).beforeAttempt("john@test.com", "203.0.113.7");
+
+        assertThrows(TooManyAttemptsException.class,
+                () -> throttled.login("john@test.com", "secret", "203.0.113.7"));
+
+        verify(userRepository, never()).findByEmail(any());
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    void login_shouldReportFailuresAndSuccessesToTheThrottle() {
+        LoginUserUseCaseImpl throttled = new LoginUserUseCaseImpl(
+                userRepository, tokenProvider, passwordEncoder, true, 1.0, null, throttle);
+        User user = User.builder().id(UUID.randomUUID()).email("john@test.com").password("hash").active(true).build();
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("wrong", "hash")).thenReturn(false);
+        when(passwordEncoder.matches("secret", "hash")).thenReturn(true);
+
+        assertThrows(BusinessException.class, () -> throttled.login("john@test.com", "wrong", "203.0.113.7"));
+        throttled.login("john@test.com", "secret", "203.0.113.7");
+
+        verify(throttle).recordFailure("john@test.com", "203.0.113.7");
+        verify(throttle).recordSuccess("john@test.com", "203.0.113.7");
+    }
+}
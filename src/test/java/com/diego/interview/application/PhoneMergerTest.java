@@ -0,0 +1,69 @@
+package com.diego.interview.application;
+
+import com.diego.interview.application.usecase.mapper.PhoneMerger;
+import com.diego.interview.domain.model.Phone;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhoneMergerTest {
+
+    @Test
+    void merge_shouldKeepStoredPhonesWhenSameNumbersAreSent() {
+        Phone a = phone(1L, "111");
+        Phone b = phone(2L, "222");
+
+        List<Phone> merged = PhoneMerger.merge(List.of(a, b), List.of(phone(null, "222"), phone(null, "111")));
+
+        assertThat(merged).containsExactly(b, a);
+    }
+
+    @Test
+    void merge_shouldReuseIdsOfReplacedPhonesAndInsertTheRest() {
+        Phone a = phone(1L, "111");
+        Phone b = phone(2L, "222");
+
+        List<Phone> merged = PhoneMerger.merge(List.of(a, b),
+                List.of(phone(null, "111"), phone(null, "333"), phone(null, "444")));
+
+        assertThat(merged).hasSize(3);
+        assertThat(merged.get(0)).isSameAs(a);
+        assertThat(merged.get(1).getId()).isEqualTo(2L);
+        assertThat(merged.get(1).getNumber()).isEqualTo("333");
+        assertThat(merged.get(2).getId()).isNull();
+        assertThat(merged.get(2).getNumber()).isEqualTo("444");
+    }
+
+    @Test
+    void merge_shouldDropStoredPhonesMissingFromIncoming() {
+        Phone a = phone(1L, "111");
+        Phone b = phone(2L, "222");
+
+        List<Phone> merged = PhoneMerger.merge(List.of(a, b), List.of(phone(null, "222")));
+
+        assertThat(merged).containsExactly(b);
+    }
+
+    @Test
+    void merge_shouldMatchDuplicatesOneToOne() {
+        Phone a = phone(1L, "111");
+        Phone b = phone(2L, "111");
+
+        List<Phone> merged = PhoneMerger.merge(List.of(a, b), List.of(phone(null, "111"), phone(null, "111")));
+
+        assertThat(merged).containsExactly(a, b);
+    }
+
+    @Test
+    void merge_shouldReturnIncomingWhenNothingStored() {
+        List<Phone> incoming = List.of(phone(null, "111"));
+
+        assertThat(PhoneMerger.merge(null, incoming)).containsExactlyElementsOf(incoming);
+    }
+
+    private static Phone phone(Long id, String number) {
+        return Phone.builder().id(id).number(number).cityCode("1").countryCode("57").build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.diego.interview.application;
+
+import com.diego.interview.application.usecase.dto.TokenResponse;
+import com.diego.interview.application.usecase.impl.RefreshTokenUseCaseImpl;
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.RefreshTokenPort;
+import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenUseCaseImplTest {
+
+    @Mock
+    private RefreshTokenPort refreshTokens;
+
+    @Mock
+    private TokenProviderPort tokenProvider;
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    private RefreshTokenUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RefreshTokenUseCaseImpl(refreshTokens, tokenProvider, userRepository);
+    }
+
+    @Test
+    void refresh_shouldMintANewAccessTokenAndRotateTheRefreshToken() {
+        UUID id = UUID.randomUUID();
+        User user = User.builder().id(id).email("john@test.com").build();
+        when(refreshTokens.consume("old-refresh")).thenReturn(Optional.of(id));
+        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+        when(tokenProvider.generateToken(user)).thenReturn("new-jwt");
+        when(refreshTokens.issue(id)).thenReturn("new-refresh");
+
+        TokenResponse response = useCase.refresh("old-refresh");
+
+        assertThat(response.getToken()).isEqualTo("new-jwt");
+        assertThat(response.getRefreshToken()).isEqualTo("new-refresh");
+    }
+
+    @Test
+    void refresh_shouldThrowWhenTheRefreshTokenIsNotAccepted() {
+        when(refreshTokens.consume("used")).thenReturn(Optional.empty());
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> useCase.refresh("used"));
+
+        assertThat(ex.getCode()).isEqualTo("user.token.refresh.invalid");
+        verify(tokenProvider, never()).generateToken(any());
+        verify(refreshTokens, never()).issue(any());
+    }
+
+    @Test
+    void refresh_shouldThrowWhenTheUserNoLongerExists() {
+        UUID id = UUID.randomUUID();
+        when(refreshTokens.consume("refresh")).thenReturn(Optional.of(id));
+        when(userRepository.findById(id)).thenReturn(Optional.empty());
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> useCase.refresh("refresh"));
+
+        assertThat(ex.getCode()).isEqualTo("user.token.refresh.invalid");
+        verify(refreshTokens, never()).issue(any());
+    }
+}
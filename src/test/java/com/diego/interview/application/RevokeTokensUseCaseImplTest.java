@@ -0,0 +1,155 @@
+package com.diego.interview.application;
+
+import com.diego.interview.application.usecase.dto.CreateUserCommand;
+import com.diego.interview.application.usecase.impl.CreateUserUseCaseImpl;
+import com.diego.interview.application.usecase.impl.RevokeTokensUseCaseImpl;
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.TokenClaims;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.PasswordEncoderPort;
+import com.diego.interview.domain.port.RefreshTokenPort;
+import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.domain.port.TokenRevocationPort;
+import com.diego.interview.domain.port.TokenRevocationRepositoryPort;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import com.diego.interview.infraestructure.security.JwtTokenProviderPort;
+import com.diego.interview.infraestructure.security.RegexCredentialPolicy;
+import com.diego.interview.infraestructure.security.TokenRevocationList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RevokeTokensUseCaseImplTest {
+
+    @Mock
+    private TokenProviderPort tokenProvider;
+
+    @Mock
+    private TokenRevocationPort tokenRevocation;
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private RefreshTokenPort refreshTokens;
+
+    @Mock
+    private TokenRevocationRepositoryPort revocationRepository;
+
+    @Mock
+    private PasswordEncoderPort passwordEncoder;
+
+    private RevokeTokensUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RevokeTokensUseCaseImpl(tokenProvider, tokenRevocation, userRepository, refreshTokens);
+    }
+
+    @Test
+    void logout_shouldRevokeTheCallersTokenAndRefreshTokens() {
+        UUID id = UUID.randomUUID();
+        TokenClaims claims = TokenClaims.builder()
+                .subject("john@test.com")
+                .tokenId(id.toString())
+                .issuedAt(Instant.now())
+                .build();
+        when(tokenProvider.parseToken("jwt")).thenReturn(Optional.of(claims));
+
+        useCase.logout("jwt");
+
+        verify(tokenRevocation).revoke(claims);
+        verify(refreshTokens).revokeAll(id);
+    }
+
+    @Test
+    void logout_shouldThrowWhenTokenIsInvalid() {
+        when(tokenProvider.parseToken("bad")).thenReturn(Optional.empty());
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> useCase.logout("bad"));
+
+        assertThat(ex.getCode()).isEqualTo("user.token.invalid");
+        verify(tokenRevocation, never()).revoke(any());
+    }
+
+    @Test
+    void logout_shouldFailWhenTokenHasNoId() {
+        TokenClaims claims = TokenClaims.builder()
+                .subject("john@test.com")
+                .issuedAt(Instant.now())
+                .build();
+        when(tokenProvider.parseToken("jwt")).thenReturn(Optional.of(claims));
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> useCase.logout("jwt"));
+
+        assertThat(ex.getCode()).isEqualTo("user.token.notRevocable");
+        verify(tokenRevocation, never()).revoke(any());
+        verify(refreshTokens, never()).revokeAll(any());
+    }
+
+    @Test
+    void logout_shouldRejectTheTokenIssuedAtSignup() {
+        JwtTokenProviderPort jwt = new JwtTokenProviderPort("0123456789_0123456789_0123456789_01", 3600L);
+        TokenRevocationList revocations = new TokenRevocationList(
+                revocationRepository, Duration.ofHours(1), Duration.ofHours(1));
+        CreateUserUseCaseImpl signup = new CreateUserUseCaseImpl(
+                userRepository,
+                new RegexCredentialPolicy(Pattern.compile("^[^@]+@[^@]+\\.[^@]+$"), Pattern.compile("^.{8,}$")),
+                jwt,
+                passwordEncoder);
+        when(userRepository.nextId()).thenAnswer(inv -> UUID.randomUUID());
+        when(passwordEncoder.encode("Password123")).thenReturn("hash");
+        when(userRepository.create(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        String token = signup.createUser(CreateUserCommand.builder()
+                .name("John")
+                .email("john@test.com")
+                .password("Password123")
+                .phones(List.of())
+                .build()).getToken();
+        new RevokeTokensUseCaseImpl(jwt, revocations, userRepository, refreshTokens).logout(token);
+
+        assertThat(revocations.isRevoked(jwt.parseToken(token).orElseThrow())).isTrue();
+        revocations.close();
+    }
+
+    @Test
+    void revokeUserTokens_shouldRevokeAllTokensOfAnExistingUser() {
+        UUID id = UUID.randomUUID();
+        when(userRepository.existsById(id)).thenReturn(true);
+
+        useCase.revokeUserTokens(id);
+
+        verify(tokenRevocation).revokeAll(id);
+        verify(refreshTokens).revokeAll(id);
+    }
+
+    @Test
+    void revokeUserTokens_shouldThrowWhenUserNotFound() {
+        UUID id = UUID.randomUUID();
+        when(userRepository.existsById(id)).thenReturn(false);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> useCase.revokeUserTokens(id));
+
+        assertThat(ex.getCode()).isEqualTo("user.notFound");
+        assertThat(ex.getArgs()).containsExactly(id.toString());
+        verify(tokenRevocation, never()).revokeAll(any());
+    }
+}
@@ -6,7 +6,9 @@ import com.diego.interview.application.usecase.impl.UpdateUserUseCaseImpl;
 import com.diego.interview.domain.exception.BusinessException;
 import com.diego.interview.domain.model.Phone;
 import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.CredentialPolicy;
 import com.diego.interview.domain.port.UserRepositoryPort;
+import com.diego.interview.infraestructure.security.RegexCredentialPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,17 +35,15 @@ class UpdateUserUseCaseImplTest {
     @Mock
     private UserRepositoryPort userRepository;
 
-    private Pattern emailPattern;
-    private Pattern passwordPattern;
-
     private UpdateUserUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        emailPattern = Pattern.compile("^[^@]+@[^@]+\\.[^@]+$");
-        passwordPattern = Pattern.compile("^.{8,}$"); // mínimo 8 caracteres
+        CredentialPolicy credentialPolicy = new RegexCredentialPolicy(
+                Pattern.compile("^[^@]+@[^@]+\\.[^@]+$"),
+                Pattern.compile("^.{8,}$")); // mínimo 8 caracteres
 
-        useCase = new UpdateUserUseCaseImpl(userRepository, emailPattern, passwordPattern);
+        useCase = new UpdateUserUseCaseImpl(userRepository, credentialPolicy);
     }
 
     @Test
@@ -68,7 +68,7 @@ class UpdateUserUseCaseImplTest {
                 .build();
 
         when(userRepository.findById(id)).thenReturn(Optional.of(existing));
-        when(userRepository.findByEmail("new.email@test.com")).thenReturn(Optional.empty());
+        when(userRepository.existsByEmail("new.email@test.com")).thenReturn(false);
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UpdateUserCommand command = UpdateUserCommand.builder()
@@ -88,7 +88,7 @@ class UpdateUserUseCaseImplTest {
         UserResponse response = useCase.update(id, command);
 
         verify(userRepository, times(1)).findById(id);
-        verify(userRepository, times(1)).findByEmail("new.email@test.com");
+        verify(userRepository, times(1)).existsByEmail("new.email@test.com");
         verify(userRepository, times(1)).save(any(User.class));
 
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
@@ -150,7 +150,7 @@ class UpdateUserUseCaseImplTest {
         );
 
         verify(userRepository, times(1)).findById(id);
-        verify(userRepository, times(0)).findByEmail("invalid-email-format");
+        verify(userRepository, times(0)).existsByEmail("invalid-email-format");
         verify(userRepository, times(0)).save(any(User.class));
 
         assertThat(ex.getCode()).isEqualTo("user.email.invalid");
@@ -166,13 +166,9 @@ class UpdateUserUseCaseImplTest {
                 .email("old.email@test.com")
                 .build();
 
-        User another = User.builder()
-                .id(UUID.randomUUID())
-                .email("new.email@test.com")
-                .build();
 
         when(userRepository.findById(id)).thenReturn(Optional.of(existing));
-        when(userRepository.findByEmail("new.email@test.com")).thenReturn(Optional.of(another));
+        when(userRepository.existsByEmail("new.email@test.com")).thenReturn(true);
 
         UpdateUserCommand command = UpdateUserCommand.builder()
                 .email("new.email@test.com")
@@ -184,7 +180,7 @@ class UpdateUserUseCaseImplTest {
         );
 
         verify(userRepository, times(1)).findById(id);
-        verify(userRepository, times(1)).findByEmail("new.email@test.com");
+        verify(userRepository, times(1)).existsByEmail("new.email@test.com");
         verify(userRepository, times(0)).save(any(User.class));
 
         assertThat(ex.getCode()).isEqualTo("user.email.exists");
@@ -0,0 +1,72 @@
+package com.diego.interview.benchmark;
+
+import com.diego.interview.domain.port.CredentialPolicy;
+import com.diego.interview.infraestructure.security.OnePassCredentialPolicy;
+import com.diego.interview.infraestructure.security.RegexCredentialPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of checking one signup's email and password: the application.yaml
+ * regexes (a new Matcher per call, one lookahead pass per character class)
+ * against the one-pass engine configured to accept the same inputs.
+ * {@code invalid} inputs fail on the last rule each engine checks, which is
+ * the slow path for both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CredentialValidationBenchmark {
+
+    private static final String PASSWORD_REGEX =
+            "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&._-])[A-Za-z\\d@$!%*?&._-]{8,}$";
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$";
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private CredentialPolicy regex;
+    private CredentialPolicy onePass;
+    private String email;
+    private String password;
+
+    @Setup
+    public void setUp() {
+        regex = new RegexCredentialPolicy(Pattern.compile(EMAIL_REGEX), Pattern.compile(PASSWORD_REGEX));
+        onePass = new OnePassCredentialPolicy(new OnePassCredentialPolicy.Settings(
+                8, 0, true, true, true, true, "@$!%*?&._-",
+                Integer.MAX_VALUE, Integer.MAX_VALUE, "+_.-", false, false));
+        if ("valid".equals(input)) {
+            email = "john.doe+signup@mail.example.com";
+            password = "Sup3rSecret.Passw0rd";
+        } else {
+            email = "john.doe+signup@mail.example.com#";
+            password = "supersecretpassword1";
+        }
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return regex.checkEmail(email) == null & regex.checkPassword(password) == null;
+    }
+
+    @Benchmark
+    public boolean onePass() {
+        return onePass.checkEmail(email) == null & onePass.checkPassword(password) == null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.diego.interview.benchmark;
+
+import com.diego.interview.domain.model.User;
+import com.diego.interview.infraestructure.security.JwtTokenProviderPort;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.Key;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token: the old filter path
+ * (validate + extract, two parsers, two HMAC checks) against parseToken.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "0123456789_0123456789_0123456789_01";
+
+    private JwtTokenProviderPort provider;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProviderPort(SECRET, 3600L);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        token = provider.generateToken(User.builder()
+                .id(UUID.randomUUID())
+                .email("john.doe@test.com")
+                .build());
+    }
+
+    @Benchmark
+    public String validateThenExtract() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token)
+                .getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String parseOnce() {
+        return provider.parseToken(token).orElseThrow().getSubject();
+    }
+}
@@ -0,0 +1,152 @@
+package com.diego.interview.benchmark;
+
+import com.diego.interview.InterviewApplication;
+import com.diego.interview.application.usecase.LoginUserUseCase;
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.exception.TooManyAttemptsException;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.PasswordEncoderPort;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import com.sun.management.OperatingSystemMXBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simulated credential stuffing: every attempt uses a wrong password for a
+ * registered email, from one of a handful of client addresses. Besides
+ * attempts per second, each iteration prints how many cores the whole process
+ * kept busy, since bcrypt runs on the hashing pool rather than the calling
+ * thread. Without the throttle every attempt is a full bcrypt verify; with it
+ * the addresses are refused after a bounded number of failures and CPU drops
+ * to near idle. Bcrypt runs at the default strength 10 so the cost is what
+ * production pays. The benchmark threads stand in for request threads, so
+ * each iteration also prints how many attempts were refused and the longest
+ * time a refused and any other attempt held its thread: a throttled attempt
+ * must hand its thread back at once rather than hold it for the backoff.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(4)
+public class LoginStuffingBenchmark {
+
+    private static final int USERS = 1000;
+    private static final int ATTACKER_ADDRESSES = 8;
+    private static final String PASSWORD = "Abcdef12@";
+
+    @Param({"true", "false"})
+    public boolean throttle;
+
+    private ConfigurableApplicationContext context;
+    private LoginUserUseCase login;
+    private final OperatingSystemMXBean os =
+            ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+    private long iterationCpuNanos;
+    private long iterationWallNanos;
+    private final LongAccumulator longestAttemptNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAccumulator longestRefusedNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder refused = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(InterviewApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:stuffing-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--app.security.login-throttle.enabled=" + throttle);
+        login = context.getBean(LoginUserUseCase.class);
+
+        String hash = context.getBean(PasswordEncoderPort.class).encode(PASSWORD);
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .name("Victim " + i)
+                    .email("victim" + i + "@test.com")
+                    .password(hash)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .lastLogin(now)
+                    .active(true)
+                    .phones(List.of())
+                    .build());
+        }
+        context.getBean(UserRepositoryPort.class).saveAll(users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startCpuClock() {
+        iterationCpuNanos = os.getProcessCpuTime();
+        iterationWallNanos = System.nanoTime();
+        longestAttemptNanos.reset();
+        longestRefusedNanos.reset();
+        attempts.reset();
+        refused.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportCpu() {
+        double busyCores = (double) (os.getProcessCpuTime() - iterationCpuNanos)
+                / (System.nanoTime() - iterationWallNanos);
+        System.out.printf("%n  throttle=%s process CPU: %.2f cores busy, refused %d of %d attempts,"
+                        + " longest refused: %.3f ms, longest attempt: %.1f ms%n",
+                throttle, busyCores, refused.sum(), attempts.sum(),
+                longestRefusedNanos.get() / 1e6, longestAttemptNanos.get() / 1e6);
+    }
+
+    @Benchmark
+    public Object stuffing() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long started = System.nanoTime();
+        try {
+            return login.login(
+                    "victim" + random.nextInt(USERS) + "@test.com",
+                    "Wrong" + random.nextInt() + "@",
+                    "198.51.100." + random.nextInt(ATTACKER_ADDRESSES));
+        } catch (TooManyAttemptsException ex) {
+            refused.increment();
+            longestRefusedNanos.accumulate(System.nanoTime() - started);
+            return ex;
+        } catch (BusinessException ex) {
+            // invalid credentials: the expected outcome
+            return ex;
+        } finally {
+            attempts.increment();
+            longestAttemptNanos.accumulate(System.nanoTime() - started);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.diego.interview.benchmark;
+
+import com.diego.interview.InterviewApplication;
+import com.diego.interview.application.usecase.LoginUserUseCase;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.PasswordEncoderPort;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logins per second with tokens stored on every login (stateful) versus
+ * stateless tokens, with last_login written on every login or never.
+ * Write-behind is off so each stored login is a row write, and bcrypt is
+ * turned down to strength 4 so the write is not hidden behind hashing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(4)
+public class LoginThroughputBenchmark {
+
+    private static final int USERS = 1000;
+    private static final String PASSWORD = "Abcdef12@";
+
+    @Param({"stateful", "stateless"})
+    public String tokenMode;
+
+    @Param({"1.0", "0.0"})
+    public double lastLoginSampleRate;
+
+    private ConfigurableApplicationContext context;
+    private LoginUserUseCase login;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(InterviewApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:login-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--app.security.password-hashing.bcrypt.strength=4",
+                "--app.users.login-write-behind.enabled=false",
+                "--app.users.token-mode=" + tokenMode,
+                "--app.users.login.last-login-sample-rate=" + lastLoginSampleRate);
+        login = context.getBean(LoginUserUseCase.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+
+        String hash = context.getBean(PasswordEncoderPort.class).encode(PASSWORD);
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .name("Login " + i)
+                    .email("login" + i + "@test.com")
+                    .password(hash)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .lastLogin(now)
+                    .active(true)
+                    .phones(List.of())
+                    .build());
+        }
+        context.getBean(UserRepositoryPort.class).saveAll(users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // binds an EntityManager around the call like the open-in-view interceptor
+    // does for every web request, so lazy phones load as they do in production
+    @Benchmark
+    public Object login() {
+        int user = ThreadLocalRandom.current().nextInt(USERS);
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            return login.login("login" + user + "@test.com", PASSWORD);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+}
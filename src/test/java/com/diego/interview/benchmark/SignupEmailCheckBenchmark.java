@@ -0,0 +1,101 @@
+package com.diego.interview.benchmark;
+
+import com.diego.interview.InterviewApplication;
+import com.diego.interview.application.usecase.CreateUserUseCase;
+import com.diego.interview.application.usecase.dto.CreateUserCommand;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signup throughput through CreateUserUseCase with the email Bloom filter
+ * on and off, against a table already holding {@code existingUsers} rows.
+ * Password hashing is turned down to bcrypt strength 4 so the email check
+ * is not drowned out by it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class SignupEmailCheckBenchmark {
+
+    @Param({"false", "true"})
+    public boolean emailFilter;
+
+    @Param({"10000"})
+    public int existingUsers;
+
+    private ConfigurableApplicationContext context;
+    private CreateUserUseCase createUser;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // passed as arguments: builder properties would lose to application.yaml
+        context = new SpringApplicationBuilder(InterviewApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:signup-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--app.security.password-hashing.bcrypt.strength=4",
+                "--app.users.cache.enabled=false",
+                "--app.users.email-filter.enabled=" + emailFilter);
+        createUser = context.getBean(CreateUserUseCase.class);
+
+        UserRepositoryPort repository = context.getBean(UserRepositoryPort.class);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < existingUsers; i++) {
+            repository.save(User.builder()
+                    .name("Existing " + i)
+                    .email("existing" + i + "@test.com")
+                    .password("{bcrypt}unused")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .lastLogin(now)
+                    .token("token")
+                    .active(true)
+                    .phones(List.of())
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object signup() {
+        return createUser.createUser(CreateUserCommand.builder()
+                .name("New user")
+                .email("new" + (sequence++) + "@test.com")
+                .password("Abcdef12@")
+                .phones(List.of(CreateUserCommand.PhoneCommand.builder()
+                        .number("3124567890")
+                        .cityCode("1")
+                        .countryCode("57")
+                        .build()))
+                .build());
+    }
+}
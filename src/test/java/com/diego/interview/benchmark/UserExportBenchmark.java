@@ -0,0 +1,122 @@
+package com.diego.interview.benchmark;
+
+import com.diego.interview.InterviewApplication;
+import com.diego.interview.application.usecase.ExportUsersUseCase;
+import com.diego.interview.application.usecase.dto.UserResponse;
+import com.diego.interview.domain.model.Phone;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full NDJSON export of {@code users} rows (two phones each), serialized the
+ * way UserBulkController does and discarded. The fork runs with a small heap
+ * and a file database so the table does not live on the heap: the export
+ * finishing at all is the memory check, the score is seconds per export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx160m")
+public class UserExportBenchmark {
+
+    private static final int SEED_BATCH = 5000;
+
+    @Param({"1000000"})
+    public int users;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private ExportUsersUseCase exportUsers;
+    private ObjectMapper objectMapper;
+    private ObjectWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("user-export");
+        context = new SpringApplicationBuilder(InterviewApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("db") + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--app.users.email-filter.enabled=false");
+        exportUsers = context.getBean(ExportUsersUseCase.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        writer = objectMapper.writerFor(UserResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        UserRepositoryPort repository = context.getBean(UserRepositoryPort.class);
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < users; from += SEED_BATCH) {
+            List<User> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = from; i < Math.min(from + SEED_BATCH, users); i++) {
+                batch.add(User.builder()
+                        .name("Exported " + i)
+                        .email("exported" + i + "@test.com")
+                        .password("{bcrypt}unused")
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .lastLogin(now)
+                        .token("token")
+                        .active(true)
+                        .phones(List.of(
+                                Phone.builder().number("3124567890").cityCode("1").countryCode("57").build(),
+                                Phone.builder().number("3001234567").cityCode("1").countryCode("57").build()))
+                        .build());
+            }
+            repository.saveAll(batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+            generator.setRootValueSeparator(null);
+            return exportUsers.exportUsers(user -> {
+                try {
+                    writer.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.diego.interview.benchmark;
+
+import com.diego.interview.infraestructure.out.persistence.support.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Insert throughput of a user with two phones under the old key layout
+ * (VARCHAR(36), random v4) and the new one (BINARY(16), v7), on a file-backed
+ * H2 database. At the end of each trial the on-disk size of both tables,
+ * indexes included, is printed per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserIdLayoutBenchmark {
+
+    private static final int BATCH = 100;
+
+    public enum Layout {
+        VARCHAR36_V4("VARCHAR(36)"),
+        BINARY16_V4("BINARY(16)"),
+        BINARY16_V7("BINARY(16)");
+
+        private final String columnType;
+
+        Layout(String columnType) {
+            this.columnType = columnType;
+        }
+    }
+
+    @Param({"VARCHAR36_V4", "BINARY16_V4", "BINARY16_V7"})
+    public Layout layout;
+
+    private Path dir;
+    private Connection connection;
+    private PreparedStatement insertUser;
+    private PreparedStatement insertPhone;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("user-id-layout");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + dir.resolve("bench"), "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE users (id " + layout.columnType + " PRIMARY KEY,"
+                    + " email VARCHAR(150) NOT NULL UNIQUE, created_at TIMESTAMP NOT NULL)");
+            st.execute("CREATE TABLE phones (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                    + " user_id " + layout.columnType + " NOT NULL, number VARCHAR(20) NOT NULL,"
+                    + " CONSTRAINT fk_phones_users FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE)");
+            st.execute("CREATE INDEX idx_users_created_at_id ON users (created_at, id)");
+        }
+        connection.commit();
+        insertUser = connection.prepareStatement("INSERT INTO users (id, email, created_at) VALUES (?, ?, ?)");
+        insertPhone = connection.prepareStatement("INSERT INTO phones (user_id, number) VALUES (?, ?)");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insertUserWithPhones() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH; i++) {
+            Object id = nextId();
+            insertUser.setObject(1, id);
+            insertUser.setString(2, "user" + (sequence++) + "@test.com");
+            insertUser.setTimestamp(3, now);
+            insertUser.addBatch();
+            for (int p = 0; p < 2; p++) {
+                insertPhone.setObject(1, id);
+                insertPhone.setString(2, "312456789" + p);
+                insertPhone.addBatch();
+            }
+        }
+        insertUser.executeBatch();
+        insertPhone.executeBatch();
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try (Statement st = connection.createStatement()) {
+            st.execute("CHECKPOINT SYNC");
+            long users = count(st, "users");
+            System.out.printf("%n[%s] users: %d rows, %.1f bytes/row; phones: %.1f bytes/row%n",
+                    layout, users,
+                    (double) diskSpace(st, "USERS") / users,
+                    (double) diskSpace(st, "PHONES") / (users * 2));
+        }
+        connection.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private Object nextId() {
+        UUID id = layout == Layout.BINARY16_V7 ? UuidV7.generate() : UUID.randomUUID();
+        if (layout == Layout.VARCHAR36_V4) {
+            return id.toString();
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static long count(Statement st, String table) throws SQLException {
+        try (ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static long diskSpace(Statement st, String table) throws SQLException {
+        try (ResultSet rs = st.executeQuery("SELECT DISK_SPACE_USED('" + table + "')")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
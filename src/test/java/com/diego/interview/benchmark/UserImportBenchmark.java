@@ -0,0 +1,106 @@
+package com.diego.interview.benchmark;
+
+import com.diego.interview.InterviewApplication;
+import com.diego.interview.application.usecase.CreateUserUseCase;
+import com.diego.interview.application.usecase.ImportUsersUseCase;
+import com.diego.interview.application.usecase.dto.CreateUserCommand;
+import com.diego.interview.infraestructure.in.rest.bulk.UserImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Users created per second by a loop over CreateUserUseCase (what onboarding
+ * scripts did against {@code POST /users}) versus one NDJSON import of
+ * {@link #ROWS} lines through the import reader and use case. HTTP is left
+ * out of both. Hashing cost is a parameter since it dominates either path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserImportBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"4", "10"})
+    public int bcryptStrength;
+
+    private ConfigurableApplicationContext context;
+    private CreateUserUseCase createUser;
+    private ImportUsersUseCase importUsers;
+    private UserImportReader reader;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(InterviewApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:import-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--app.security.password-hashing.bcrypt.strength=" + bcryptStrength);
+        createUser = context.getBean(CreateUserUseCase.class);
+        importUsers = context.getBean(ImportUsersUseCase.class);
+        reader = new UserImportReader(context.getBean(ObjectMapper.class), context.getBean(Validator.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void createOneByOne() {
+        for (int i = 0; i < ROWS; i++) {
+            createUser.createUser(CreateUserCommand.builder()
+                    .name("Loop user")
+                    .email("loop" + (sequence++) + "@test.com")
+                    .password("Abcdef12@")
+                    .phones(List.of(CreateUserCommand.PhoneCommand.builder()
+                            .number("3124567890")
+                            .cityCode("1")
+                            .countryCode("57")
+                            .build()))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Object importNdjson() {
+        StringBuilder body = new StringBuilder(ROWS * 160);
+        for (int i = 0; i < ROWS; i++) {
+            body.append("{\"name\":\"Bulk user\",\"email\":\"bulk").append(sequence++)
+                    .append("@test.com\",\"password\":\"Abcdef12@\",\"phones\":[{\"numero\":\"3124567890\",")
+                    .append("\"codigoCiudad\":\"1\",\"codigoPais\":\"57\"}]}\n");
+        }
+        return importUsers.importUsers(reader.read(MediaType.parseMediaType(UserImportReader.NDJSON),
+                new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8))));
+    }
+}
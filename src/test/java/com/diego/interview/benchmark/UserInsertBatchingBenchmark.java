@@ -0,0 +1,89 @@
+package com.diego.interview.benchmark;
+
+import com.diego.interview.InterviewApplication;
+import com.diego.interview.domain.model.Phone;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Users inserted per second through UserRepositoryPort for users with 1, 5
+ * and 20 phones. {@code batchSize=1} turns Hibernate JDBC batching off to
+ * show what one round trip per phone costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class UserInsertBatchingBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int phones;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private UserRepositoryPort repository;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(InterviewApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:insert-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--app.users.cache.enabled=false",
+                "--app.users.email-filter.enabled=false");
+        repository = context.getBean(UserRepositoryPort.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User insert() {
+        List<Phone> userPhones = new ArrayList<>(phones);
+        for (int i = 0; i < phones; i++) {
+            userPhones.add(Phone.builder().number("31245678" + i).cityCode("1").countryCode("57").build());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return repository.save(User.builder()
+                .name("User")
+                .email("user" + (sequence++) + "@test.com")
+                .password("{bcrypt}unused")
+                .createdAt(now)
+                .updatedAt(now)
+                .lastLogin(now)
+                .token("token")
+                .active(true)
+                .phones(userPhones)
+                .build());
+    }
+}
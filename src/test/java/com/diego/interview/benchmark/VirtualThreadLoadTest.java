@@ -0,0 +1,201 @@
+package com.diego.interview.benchmark;
+
+import com.diego.interview.InterviewApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * p99 latency of {@code GET /users/{id}} (JWT check plus a JPA lookup on H2)
+ * with 1k, 5k and 10k concurrent keep-alive connections, served by Tomcat's
+ * platform worker pool and then by virtual threads. Each connection sends its
+ * next request as soon as the previous one returns. The user cache is off so
+ * every request reaches the database.
+ *
+ * Not JMH: JMH cannot hold ten thousand threads in one benchmark. Run it as a
+ * plain main class with a raised file limit, since client and server share
+ * the process and each connection needs two descriptors:
+ * {@code ulimit -n 65536}. Where the limit cannot be raised that far, start
+ * the application on its own and pass its base URL and a label, e.g.
+ * {@code http://localhost:8080 virtual}; each process then needs one
+ * descriptor per connection.
+ */
+public final class VirtualThreadLoadTest {
+
+    private static final int[] CONNECTIONS = {1_000, 5_000, 10_000};
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(30);
+
+    private VirtualThreadLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> report = new ArrayList<>();
+        if (args.length > 0) {
+            measure(args[0], args.length > 1 ? args[1] : "external", report);
+        } else {
+            for (boolean virtualThreads : new boolean[]{false, true}) {
+                try (ConfigurableApplicationContext context = start(virtualThreads)) {
+                    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                    measure("http://localhost:" + port, virtualThreads ? "virtual" : "platform", report);
+                }
+            }
+        }
+        System.out.println();
+        report.forEach(System.out::println);
+    }
+
+    private static void measure(String baseUrl, String label, List<String> report) throws Exception {
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build()) {
+            HttpRequest request = authorizedLookup(client, baseUrl);
+
+            for (int connections : CONNECTIONS) {
+                run(client, request, connections, WARMUP);
+                Result result = run(client, request, connections, MEASUREMENT);
+                String line = String.format("threads=%-8s connections=%-6d %s", label, connections, result);
+                System.out.println(line);
+                report.add(line);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(InterviewApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--app.users.cache.enabled=false",
+                "--security.jwt.expiration-seconds=3600");
+    }
+
+    /**
+     * Registers one user and returns the request that reads it back with
+     * its token.
+     */
+    private static HttpRequest authorizedLookup(HttpClient client, String baseUrl) throws Exception {
+        String body = """
+                {"name":"Load Test","email":"load-%s@test.com","password":"Abcdef12@",
+                 "phones":[{"numero":"1234567","codigoCiudad":"1","codigoPais":"57"}]}
+                """.formatted(UUID.randomUUID());
+        HttpResponse<String> created = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/users"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (created.statusCode() != 201) {
+            throw new IllegalStateException("Signup failed: " + created.statusCode() + " " + created.body());
+        }
+        JsonNode user = new ObjectMapper().readTree(created.body());
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/users/" + user.get("id").asText()))
+                .header("Authorization", "Bearer " + user.get("token").asText())
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int connections, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Latencies>> workers = new ArrayList<>(connections);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                workers.add(executor.submit(() -> {
+                    Latencies latencies = new Latencies();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            latencies.add(System.nanoTime() - start, response.statusCode() == 200);
+                        } catch (IOException ex) {
+                            latencies.add(System.nanoTime() - start, false);
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+        }
+
+        Latencies all = new Latencies();
+        for (Future<Latencies> worker : workers) {
+            all.addAll(worker.get());
+        }
+        return all.summarize(duration);
+    }
+
+    private static final class Latencies {
+
+        private long[] nanos = new long[256];
+        private int size;
+        private long errors;
+
+        void add(long elapsedNanos, boolean ok) {
+            if (!ok) {
+                errors++;
+            }
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = elapsedNanos;
+        }
+
+        void addAll(Latencies other) {
+            if (size + other.size > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+            }
+            System.arraycopy(other.nanos, 0, nanos, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        Result summarize(Duration duration) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new Result(
+                    size / (double) duration.toSeconds(),
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99),
+                    size == 0 ? 0.0 : sorted[size - 1] / 1e6,
+                    errors);
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    private record Result(double requestsPerSecond, double p50Ms, double p99Ms, double maxMs, long errors) {
+
+        @Override
+        public String toString() {
+            return String.format("req/s=%9.0f p50=%8.2fms p99=%8.2fms max=%8.2fms errors=%d",
+                    requestsPerSecond, p50Ms, p99Ms, maxMs, errors);
+        }
+    }
+}
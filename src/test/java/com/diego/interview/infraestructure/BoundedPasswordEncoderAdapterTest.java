@@ -0,0 +1,80 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.domain.exception.CapacityExceededException;
+import com.diego.interview.domain.port.PasswordEncoderPort;
+import com.diego.interview.infraestructure.security.BoundedPasswordEncoderAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderAdapterTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final PasswordEncoderPort blockingEncoder = new PasswordEncoderPort() {
+        @Override
+        public String encode(String rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed-" + rawPassword);
+        }
+
+        @Override
+        public boolean needsRehash(String encodedPassword) {
+            return false;
+        }
+    };
+
+    private BoundedPasswordEncoderAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        adapter.shutdown();
+    }
+
+    @Test
+    void encodeAndMatches_shouldRunOnHashingPool() {
+        adapter = new BoundedPasswordEncoderAdapter(blockingEncoder, 1, 1);
+        release.countDown();
+
+        String hash = adapter.encode("secret");
+
+        assertThat(hash).isEqualTo("hashed-secret");
+        assertThat(adapter.matches("secret", hash)).isTrue();
+        assertThat(adapter.matchesAsync("other", hash).join()).isFalse();
+    }
+
+    @Test
+    void encodeAsync_shouldFailFastWhenQueueIsFull() throws InterruptedException {
+        adapter = new BoundedPasswordEncoderAdapter(blockingEncoder, 1, 1);
+
+        CompletableFuture<String> running = adapter.encodeAsync("first");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = adapter.encodeAsync("second");
+
+        assertThatThrownBy(() -> adapter.encode("third"))
+                .isInstanceOf(CapacityExceededException.class)
+                .satisfies(ex -> assertThat(((CapacityExceededException) ex).getCode()).isEqualTo("service.busy"));
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("hashed-first");
+        assertThat(queued.join()).isEqualTo("hashed-second");
+    }
+}
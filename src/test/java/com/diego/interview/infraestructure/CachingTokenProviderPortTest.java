@@ -0,0 +1,85 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.domain.model.TokenClaims;
+import com.diego.interview.domain.port.TokenProviderPort;
+import com.diego.interview.infraestructure.security.CachingTokenProviderPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTokenProviderPortTest {
+
+    @Mock
+    private TokenProviderPort delegate;
+
+    private CachingTokenProviderPort provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new CachingTokenProviderPort(delegate, 100);
+    }
+
+    @Test
+    void parseToken_shouldVerifyOnlyOnceForRepeatedToken() {
+        TokenClaims claims = TokenClaims.builder()
+                .subject("john.doe@test.com")
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+        when(delegate.parseToken("token-1")).thenReturn(Optional.of(claims));
+
+        Optional<TokenClaims> first = provider.parseToken("token-1");
+        Optional<TokenClaims> second = provider.parseToken("token-1");
+
+        verify(delegate, times(1)).parseToken("token-1");
+        assertThat(first).containsSame(claims);
+        assertThat(second).containsSame(claims);
+        assertThat(provider.stats().hitCount()).isEqualTo(1);
+        assertThat(provider.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void parseToken_shouldNotCacheInvalidTokens() {
+        when(delegate.parseToken("bad")).thenReturn(Optional.empty());
+
+        assertThat(provider.parseToken("bad")).isEmpty();
+        assertThat(provider.parseToken("bad")).isEmpty();
+
+        verify(delegate, times(2)).parseToken("bad");
+    }
+
+    @Test
+    void parseToken_shouldNotServeExpiredTokensFromCache() {
+        TokenClaims expired = TokenClaims.builder()
+                .subject("john.doe@test.com")
+                .expiresAt(Instant.now().minusSeconds(1))
+                .build();
+        when(delegate.parseToken("token-2")).thenReturn(Optional.of(expired));
+
+        provider.parseToken("token-2");
+        provider.parseToken("token-2");
+
+        verify(delegate, times(2)).parseToken("token-2");
+    }
+
+    @Test
+    void bindTo_shouldPublishCacheMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        provider.bindTo(registry);
+
+        assertThat(registry.find("cache.gets").tag("cache", "jwt.verified-tokens").meters()).isNotEmpty();
+        assertThat(registry.find("cache.evictions").tag("cache", "jwt.verified-tokens").meters()).isNotEmpty();
+    }
+}
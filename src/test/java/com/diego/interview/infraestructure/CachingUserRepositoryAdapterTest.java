@@ -0,0 +1,193 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.domain.model.LoginUpdate;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import com.diego.interview.infraestructure.out.persistence.repository.CachingUserRepositoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryAdapterTest {
+
+    @Mock
+    private UserRepositoryPort delegate;
+
+    private CachingUserRepositoryAdapter repository;
+
+    private final UUID id = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingUserRepositoryAdapter(delegate, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void findById_shouldHitStoreOnlyOnceForRepeatedLookups() {
+        when(delegate.findById(id)).thenReturn(Optional.of(user("john@test.com")));
+
+        Optional<User> first = repository.findById(id);
+        Optional<User> second = repository.findById(id);
+
+        verify(delegate, times(1)).findById(id);
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(repository.idStats().hitCount()).isEqualTo(1);
+        assertThat(repository.idStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_shouldReturnCopiesSoCallersCannotCorruptTheCache() {
+        when(delegate.findById(id)).thenReturn(Optional.of(user("john@test.com")));
+
+        repository.findById(id).orElseThrow().setName("changed");
+
+        assertThat(repository.findById(id).orElseThrow().getName()).isEqualTo("John");
+    }
+
+    @Test
+    void findById_shouldNotCacheMissingUsers() {
+        when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        assertThat(repository.findById(id)).isEmpty();
+        assertThat(repository.findById(id)).isEmpty();
+
+        verify(delegate, times(2)).findById(id);
+    }
+
+    @Test
+    void findByEmail_shouldShareEntryWithIdIndex() {
+        when(delegate.findByEmail("john@test.com")).thenReturn(Optional.of(user("john@test.com")));
+
+        assertThat(repository.findByEmail("john@test.com")).isPresent();
+        assertThat(repository.findByEmail("john@test.com")).isPresent();
+        assertThat(repository.findById(id)).isPresent();
+
+        verify(delegate, times(1)).findByEmail("john@test.com");
+        verify(delegate, never()).findById(any());
+    }
+
+    @Test
+    void recordLogins_shouldDropTheCachedUser() {
+        when(delegate.findById(id)).thenReturn(Optional.of(user("john@test.com")));
+        repository.findById(id);
+
+        repository.recordLogins(List.of(LoginUpdate.builder()
+                .userId(id).lastLogin(LocalDateTime.now()).token("new").build()));
+        repository.findById(id);
+
+        verify(delegate, times(2)).findById(id);
+    }
+
+    @Test
+    void save_shouldInvalidateBothIndexesIncludingPreviousEmail() {
+        when(delegate.findByEmail("old@test.com"))
+                .thenReturn(Optional.of(user("old@test.com")))
+                .thenReturn(Optional.empty());
+        when(delegate.findById(id)).thenReturn(Optional.of(user("new@test.com")));
+        repository.findByEmail("old@test.com");
+
+        User updated = user("new@test.com");
+        when(delegate.save(updated)).thenReturn(updated);
+        repository.save(updated);
+
+        assertThat(repository.findByEmail("old@test.com")).isEmpty();
+        assertThat(repository.findById(id).orElseThrow().getEmail()).isEqualTo("new@test.com");
+        verify(delegate, times(2)).findByEmail("old@test.com");
+        verify(delegate, times(1)).findById(id);
+    }
+
+    @Test
+    void findByEmail_shouldNotCacheUserReadBeforeAConcurrentSave() {
+        User updated = user("john@test.com");
+        updated.setName("Updated");
+        when(delegate.save(updated)).thenReturn(updated);
+        when(delegate.findByEmail("john@test.com"))
+                .thenAnswer(invocation -> {
+                    // another request saves the user while this read is in flight
+                    repository.save(updated);
+                    return Optional.of(user("john@test.com"));
+                })
+                .thenReturn(Optional.of(updated));
+        when(delegate.findById(id)).thenReturn(Optional.of(updated));
+
+        repository.findByEmail("john@test.com");
+
+        assertThat(repository.findById(id).orElseThrow().getName()).isEqualTo("Updated");
+        verify(delegate, times(1)).findById(id);
+    }
+
+    @Test
+    void deleteById_shouldInvalidateCachedUser() {
+        when(delegate.findById(id))
+                .thenReturn(Optional.of(user("john@test.com")))
+                .thenReturn(Optional.empty());
+        when(delegate.findByEmail("john@test.com")).thenReturn(Optional.empty());
+        when(delegate.deleteById(id)).thenReturn(1);
+        repository.findById(id);
+
+        assertThat(repository.deleteById(id)).isEqualTo(1);
+
+        assertThat(repository.findById(id)).isEmpty();
+        assertThat(repository.findByEmail("john@test.com")).isEmpty();
+        verify(delegate, times(1)).deleteById(id);
+    }
+
+    @Test
+    void existsById_shouldAnswerFromCacheWhenUserIsLoaded() {
+        when(delegate.findById(id)).thenReturn(Optional.of(user("john@test.com")));
+        repository.findById(id);
+
+        assertThat(repository.existsById(id)).isTrue();
+
+        verify(delegate, never()).existsById(any());
+    }
+
+    @Test
+    void existsByEmail_shouldAskTheStoreEvenWhenTheEmailIsCached() {
+        when(delegate.findByEmail("john@test.com")).thenReturn(Optional.of(user("john@test.com")));
+        when(delegate.existsByEmail("john@test.com")).thenReturn(false);
+        repository.findByEmail("john@test.com");
+
+        // changed or deleted elsewhere since it was cached
+        assertThat(repository.existsByEmail("john@test.com")).isFalse();
+
+        verify(delegate, times(1)).existsByEmail("john@test.com");
+    }
+
+    @Test
+    void bindTo_shouldRegisterMetricsForBothIndexes() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        repository.bindTo(registry);
+
+        assertThat(registry.find("cache.gets").tag("cache", "users.by-id").meters()).isNotEmpty();
+        assertThat(registry.find("cache.gets").tag("cache", "users.by-email").meters()).isNotEmpty();
+        assertThat(registry.find("cache.load.duration").tag("cache", "users.by-id").meters()).isNotEmpty();
+    }
+
+    private User user(String email) {
+        return User.builder()
+                .id(id)
+                .name("John")
+                .email(email)
+                .build();
+    }
+}
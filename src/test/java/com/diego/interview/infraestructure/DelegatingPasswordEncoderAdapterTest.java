@@ -0,0 +1,119 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.infraestructure.security.DelegatingPasswordEncoderAdapter;
+import com.diego.interview.infraestructure.security.DelegatingPasswordEncoderAdapter.PasswordHashingSettings;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DelegatingPasswordEncoderAdapterTest {
+
+    private static PasswordHashingSettings settings(int bcryptStrength) {
+        return pbkdf2Settings(bcryptStrength, 1000);
+    }
+
+    private static PasswordHashingSettings pbkdf2Settings(int bcryptStrength, int pbkdf2Iterations) {
+        return new PasswordHashingSettings(bcryptStrength, 16, 32, 1, 1024, 1, 16, pbkdf2Iterations);
+    }
+
+    @Test
+    void encode_shouldPrefixHashWithAlgorithmId() {
+        DelegatingPasswordEncoderAdapter encoder =
+                new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.BCRYPT, settings(4));
+
+        String hash = encoder.encode("Password123");
+
+        assertThat(hash).startsWith("{bcrypt}");
+        assertThat(encoder.matches("Password123", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(encoder.needsRehash(hash)).isFalse();
+    }
+
+    @Test
+    void matches_shouldAcceptLegacyUnprefixedBcryptHashAndAskForRehash() {
+        DelegatingPasswordEncoderAdapter encoder =
+                new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.BCRYPT, settings(4));
+        String legacy = new BCryptPasswordEncoder(4).encode("Password123");
+
+        assertThat(encoder.matches("Password123", legacy)).isTrue();
+        assertThat(encoder.needsRehash(legacy)).isTrue();
+    }
+
+    @Test
+    void needsRehash_shouldBeTrueWhenBcryptStrengthWasRaised() {
+        String weak = new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.BCRYPT, settings(4))
+                .encode("Password123");
+        DelegatingPasswordEncoderAdapter stronger =
+                new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.BCRYPT, settings(5));
+
+        assertThat(stronger.matches("Password123", weak)).isTrue();
+        assertThat(stronger.needsRehash(weak)).isTrue();
+    }
+
+    @Test
+    void needsRehash_shouldBeTrueWhenAlgorithmChanged() {
+        String bcrypt = new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.BCRYPT, settings(4))
+                .encode("Password123");
+        DelegatingPasswordEncoderAdapter argon2 =
+                new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.ARGON2, settings(4));
+
+        String argon2Hash = argon2.encode("Password123");
+
+        assertThat(argon2.matches("Password123", bcrypt)).isTrue();
+        assertThat(argon2.needsRehash(bcrypt)).isTrue();
+        assertThat(argon2Hash).startsWith("{argon2}");
+        assertThat(argon2.matches("Password123", argon2Hash)).isTrue();
+        assertThat(argon2.needsRehash(argon2Hash)).isFalse();
+    }
+
+    @Test
+    void encode_shouldSupportPbkdf2() {
+        DelegatingPasswordEncoderAdapter encoder =
+                new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.PBKDF2, settings(4));
+
+        String hash = encoder.encode("Password123");
+
+        assertThat(hash).startsWith("{pbkdf2@1000}");
+        assertThat(encoder.matches("Password123", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(encoder.needsRehash(hash)).isFalse();
+    }
+
+    @Test
+    void matches_shouldKeepVerifyingPbkdf2HashesAfterIterationsChangeAndAskForRehash() {
+        String old = new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.PBKDF2, pbkdf2Settings(4, 1000))
+                .encode("Password123");
+        DelegatingPasswordEncoderAdapter raised =
+                new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.PBKDF2, pbkdf2Settings(4, 2000));
+
+        assertThat(raised.matches("Password123", old)).isTrue();
+        assertThat(raised.matches("wrong", old)).isFalse();
+        assertThat(raised.needsRehash(old)).isTrue();
+
+        String rehashed = raised.encode("Password123");
+        assertThat(rehashed).startsWith("{pbkdf2@2000}");
+        assertThat(raised.matches("Password123", rehashed)).isTrue();
+        assertThat(raised.needsRehash(rehashed)).isFalse();
+    }
+
+    @Test
+    void matches_shouldAcceptUnversionedPbkdf2HashWithTheConfiguredIterationsAndAskForRehash() {
+        String unversioned = "{pbkdf2}" + new Pbkdf2PasswordEncoder(
+                "", 16, 1000, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256)
+                .encode("Password123");
+        DelegatingPasswordEncoderAdapter encoder =
+                new DelegatingPasswordEncoderAdapter(DelegatingPasswordEncoderAdapter.PBKDF2, pbkdf2Settings(4, 1000));
+
+        assertThat(encoder.matches("Password123", unversioned)).isTrue();
+        assertThat(encoder.needsRehash(unversioned)).isTrue();
+    }
+
+    @Test
+    void constructor_shouldRejectUnknownAlgorithm() {
+        assertThatThrownBy(() -> new DelegatingPasswordEncoderAdapter("md5", settings(4)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,167 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import com.diego.interview.infraestructure.out.persistence.repository.EmailFilterUserRepositoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailFilterUserRepositoryAdapterTest {
+
+    @Mock
+    private UserRepositoryPort delegate;
+
+    private EmailFilterUserRepositoryAdapter repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EmailFilterUserRepositoryAdapter(delegate, 1000, 0.01);
+    }
+
+    @Test
+    void findByEmail_shouldAlwaysAskStore() {
+        // registered on another instance, so this node's filter never saw it
+        User elsewhere = User.builder().id(UUID.randomUUID()).email("elsewhere@test.com").build();
+        when(delegate.findEmailsAfter("", 1000)).thenReturn(List.of("john@test.com"));
+        when(delegate.findByEmail("elsewhere@test.com")).thenReturn(Optional.of(elsewhere));
+        repository.rebuild();
+
+        assertThat(repository.findByEmail("elsewhere@test.com")).containsSame(elsewhere);
+    }
+
+    @Test
+    void existsByEmail_shouldSkipStoreForUnregisteredEmail() {
+        when(delegate.findEmailsAfter("", 1000)).thenReturn(List.of("john@test.com"));
+        when(delegate.existsByEmail("john@test.com")).thenReturn(true);
+        repository.rebuild();
+
+        assertThat(repository.existsByEmail("fresh@test.com")).isFalse();
+        assertThat(repository.existsByEmail("john@test.com")).isTrue();
+
+        verify(delegate, never()).existsByEmail("fresh@test.com");
+    }
+
+    @Test
+    void findByEmail_shouldAskStoreWhenEmailMayExist() {
+        User john = User.builder().id(UUID.randomUUID()).email("john@test.com").build();
+        when(delegate.findEmailsAfter("", 1000)).thenReturn(List.of("john@test.com"));
+        when(delegate.findByEmail("john@test.com")).thenReturn(Optional.of(john));
+        repository.rebuild();
+
+        assertThat(repository.findByEmail("john@test.com")).containsSame(john);
+    }
+
+    @Test
+    void findByEmail_shouldAskStoreBeforeFirstBuild() {
+        when(delegate.findByEmail("john@test.com")).thenReturn(Optional.empty());
+
+        assertThat(repository.findByEmail("john@test.com")).isEmpty();
+
+        verify(delegate).findByEmail("john@test.com");
+    }
+
+    @Test
+    void save_shouldRegisterEmailSoLaterLookupsReachStore() {
+        when(delegate.findEmailsAfter("", 1000)).thenReturn(List.of());
+        repository.rebuild();
+        User user = User.builder().email("new@test.com").build();
+        User saved = User.builder().id(UUID.randomUUID()).email("new@test.com").build();
+        when(delegate.save(user)).thenReturn(saved);
+        when(delegate.existsByEmail("new@test.com")).thenReturn(true);
+
+        repository.save(user);
+
+        assertThat(repository.existsByEmail("new@test.com")).isTrue();
+    }
+
+    @Test
+    void save_shouldReachTheNewFilterWhenItRunsDuringARebuild() {
+        User user = User.builder().email("new@test.com").build();
+        User saved = User.builder().id(UUID.randomUUID()).email("new@test.com").build();
+        when(delegate.save(user)).thenReturn(saved);
+        when(delegate.existsByEmail("new@test.com")).thenReturn(true);
+        when(delegate.findEmailsAfter("", 1000)).thenAnswer(invocation -> {
+            // committed after the scan read its rows
+            repository.save(user);
+            return List.of();
+        });
+
+        repository.rebuild();
+
+        assertThat(repository.existsByEmail("new@test.com")).isTrue();
+    }
+
+    @Test
+    void rebuild_shouldScanEmailsInBatches() {
+        List<String> first = IntStream.range(0, 1000).mapToObj(i -> String.format("u%04d@test.com", i)).toList();
+        when(delegate.findEmailsAfter("", 1000)).thenReturn(first);
+        when(delegate.findEmailsAfter("u0999@test.com", 1000)).thenReturn(List.of("zed@test.com"));
+        when(delegate.existsByEmail("zed@test.com")).thenReturn(true);
+
+        repository.rebuild();
+        repository.existsByEmail("zed@test.com");
+
+        verify(delegate).existsByEmail("zed@test.com");
+    }
+
+    @Test
+    void bindTo_shouldCountSkippedAndForwardedLookups() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        repository.bindTo(registry);
+        when(delegate.findEmailsAfter("", 1000)).thenReturn(List.of("john@test.com"));
+        when(delegate.existsByEmail("john@test.com")).thenReturn(true);
+        repository.rebuild();
+
+        repository.existsByEmail("fresh@test.com");
+        repository.existsByEmail("john@test.com");
+
+        assertThat(registry.get("users.email-filter.lookups").tag("result", "skipped").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("users.email-filter.lookups").tag("result", "passed").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void findExistingEmails_shouldOnlyAskStoreAboutPossibleMatches() {
+        when(delegate.findEmailsAfter("", 1000)).thenReturn(List.of("john@test.com"));
+        when(delegate.findExistingEmails(List.of("john@test.com"))).thenReturn(Set.of("john@test.com"));
+        repository.rebuild();
+
+        assertThat(repository.findExistingEmails(List.of("john@test.com", "fresh@test.com")))
+                .containsExactly("john@test.com");
+        assertThat(repository.findExistingEmails(List.of("fresh@test.com"))).isEmpty();
+
+        verify(delegate).findExistingEmails(List.of("john@test.com"));
+    }
+
+    @Test
+    void saveAll_shouldRegisterEveryImportedEmail() {
+        List<User> imported = List.of(
+                User.builder().id(UUID.randomUUID()).email("a@test.com").build(),
+                User.builder().id(UUID.randomUUID()).email("b@test.com").build());
+        when(delegate.findEmailsAfter("", 1000)).thenReturn(List.of());
+        when(delegate.saveAll(imported)).thenReturn(imported);
+        when(delegate.existsByEmail("b@test.com")).thenReturn(true);
+        repository.rebuild();
+
+        repository.saveAll(imported);
+
+        assertThat(repository.existsByEmail("b@test.com")).isTrue();
+    }
+}
@@ -0,0 +1,49 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.infraestructure.in.rest.JwksController;
+import com.diego.interview.infraestructure.security.HmacSigningKeys;
+import com.diego.interview.infraestructure.security.RotatingEcSigningKeys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwksControllerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void jwks_shouldPublishEcVerificationKeys() {
+        try (RotatingEcSigningKeys keys = new RotatingEcSigningKeys(
+                directory, Duration.ofDays(1), Duration.ofMinutes(5), Duration.ofHours(1))) {
+
+            ResponseEntity<Map<String, List<Map<String, String>>>> response = new JwksController(keys).jwks();
+
+            List<Map<String, String>> jwks = response.getBody().get("keys");
+            assertThat(jwks).hasSize(1);
+            Map<String, String> jwk = jwks.get(0);
+            assertThat(jwk).containsEntry("kty", "EC")
+                    .containsEntry("crv", "P-256")
+                    .containsEntry("alg", "ES256")
+                    .containsEntry("kid", keys.signingKey().kid());
+            assertThat(Base64.getUrlDecoder().decode(jwk.get("x"))).hasSize(32);
+            assertThat(Base64.getUrlDecoder().decode(jwk.get("y"))).hasSize(32);
+            assertThat(jwk).doesNotContainKey("d");
+        }
+    }
+
+    @Test
+    void jwks_shouldNeverPublishASharedSecret() {
+        JwksController controller = new JwksController(new HmacSigningKeys("0123456789_0123456789_0123456789_01"));
+
+        assertThat(controller.jwks().getBody().get("keys")).isEmpty();
+    }
+}
@@ -1,10 +1,16 @@
 package com.diego.interview.infraestructure;
 
+import com.diego.interview.domain.model.TokenClaims;
 import com.diego.interview.domain.model.User;
 import com.diego.interview.infraestructure.security.JwtTokenProviderPort;
+import com.diego.interview.infraestructure.security.RotatingEcSigningKeys;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -98,4 +104,53 @@ class JwtTokenProviderPortTest {
         Instant after = Instant.now();
         assertThat(after).isAfterOrEqualTo(before);
     }
+
+    @Test
+    void parseToken_shouldReturnSubjectIdAndExpiry() {
+        JwtTokenProviderPort provider = new JwtTokenProviderPort(SECRET, 3600L);
+        UUID id = UUID.randomUUID();
+        User user = User.builder()
+                .id(id)
+                .email("john.doe@test.com")
+                .build();
+
+        Instant before = Instant.now();
+        String token = provider.generateToken(user);
+
+        Optional<TokenClaims> claims = provider.parseToken(token);
+
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getSubject()).isEqualTo("john.doe@test.com");
+        assertThat(claims.get().getTokenId()).isEqualTo(id.toString());
+        assertThat(claims.get().getExpiresAt()).isAfter(before.plusSeconds(3500));
+        // iat has second precision
+        assertThat(claims.get().getIssuedAt().getEpochSecond()).isGreaterThanOrEqualTo(before.getEpochSecond());
+    }
+
+    @Test
+    void parseToken_shouldReturnEmptyForInvalidToken() {
+        JwtTokenProviderPort provider = new JwtTokenProviderPort(SECRET, 3600L);
+
+        assertThat(provider.parseToken("invalid.token.structure")).isEmpty();
+        assertThat(provider.parseToken("")).isEmpty();
+    }
+
+    @Test
+    void es256_shouldKeepAcceptingTokensSignedBeforeARotation(@TempDir Path keyDirectory) {
+        try (RotatingEcSigningKeys keys = new RotatingEcSigningKeys(
+                keyDirectory, Duration.ofDays(1), Duration.ofHours(1), Duration.ofHours(1))) {
+            JwtTokenProviderPort provider = new JwtTokenProviderPort(keys, 3600L);
+            User user = User.builder().id(UUID.randomUUID()).email("john.doe@test.com").build();
+            String before = provider.generateToken(user);
+
+            keys.refresh(Instant.now().plus(Duration.ofDays(1)).plusSeconds(1));
+            String after = provider.generateToken(user);
+
+            assertThat(provider.parseToken(before)).isPresent();
+            assertThat(provider.parseToken(after)).isPresent();
+            // an HMAC verifier cannot accept ES256 tokens, and vice versa
+            assertThat(new JwtTokenProviderPort(SECRET, 3600L).parseToken(after)).isEmpty();
+            assertThat(provider.parseToken(new JwtTokenProviderPort(SECRET, 3600L).generateToken(user))).isEmpty();
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.domain.model.CredentialRejection;
+import com.diego.interview.infraestructure.security.OnePassCredentialPolicy;
+import com.diego.interview.infraestructure.security.RegexCredentialPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OnePassCredentialPolicyTest {
+
+    private static final String PASSWORD_REGEX =
+            "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&._-])[A-Za-z\\d@$!%*?&._-]{8,}$";
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$";
+
+    // the values shipped in application.yaml
+    private static OnePassCredentialPolicy.Settings regexEquivalent() {
+        return new OnePassCredentialPolicy.Settings(
+                8, 0, true, true, true, true, "@$!%*?&._-",
+                0, 0, "+_.-", false, false);
+    }
+
+    private static OnePassCredentialPolicy.Settings strict() {
+        return new OnePassCredentialPolicy.Settings(
+                8, 128, true, true, true, true, "@$!%*?&._-",
+                254, 64, "+_.-", true, true);
+    }
+
+    @Test
+    void shouldAcceptAndRejectExactlyWhatTheDefaultRegexesDo() {
+        OnePassCredentialPolicy onePass = new OnePassCredentialPolicy(regexEquivalent());
+        RegexCredentialPolicy regex = new RegexCredentialPolicy(
+                Pattern.compile(EMAIL_REGEX), Pattern.compile(PASSWORD_REGEX));
+
+        List<String> passwords = List.of("Abcdef12@", "abcdef12@", "ABCDEF12@", "Abcdefgh@", "Abcdef123",
+                "Ab1@", "Abcdef12@ñ", "Abcdef12 @", "Zz9-Zz9-", "", "Abcdef12#", "Abcdef12@".repeat(20));
+        for (String password : passwords) {
+            assertThat(onePass.checkPassword(password) == null)
+                    .as(password)
+                    .isEqualTo(regex.checkPassword(password) == null);
+        }
+
+        List<String> emails = List.of("john@test.com", "john.doe+tag@sub.test.com", "john@localhost",
+                "@test.com", "john@", "john@@test.com", "jo hn@test.com", "john@te_st.com", "jöhn@test.com",
+                "john..doe@test.com", ".john@test.com", "john@.test.com", "john@test.com.",
+                "a".repeat(70) + "@test.com", "john@" + "a".repeat(260) + ".com");
+        for (String email : emails) {
+            assertThat(onePass.checkEmail(email) == null)
+                    .as(email)
+                    .isEqualTo(regex.checkEmail(email) == null);
+        }
+    }
+
+    @Test
+    void checkPassword_shouldReportTheFirstFailingRule() {
+        OnePassCredentialPolicy policy = new OnePassCredentialPolicy(strict());
+
+        assertThat(policy.checkPassword("Abcdef12@")).isNull();
+        assertThat(policy.checkPassword(null)).isEqualTo(CredentialRejection.PASSWORD_TOO_SHORT);
+        assertThat(policy.checkPassword("Ab1@")).isEqualTo(CredentialRejection.PASSWORD_TOO_SHORT);
+        assertThat(policy.checkPassword("Ab1@" + "x".repeat(125))).isEqualTo(CredentialRejection.PASSWORD_TOO_LONG);
+        assertThat(policy.checkPassword("Abcdef12#")).isEqualTo(CredentialRejection.PASSWORD_DISALLOWED_CHARACTER);
+        assertThat(policy.checkPassword("ABCDEF12@")).isEqualTo(CredentialRejection.PASSWORD_MISSING_LOWERCASE);
+        assertThat(policy.checkPassword("abcdef12@")).isEqualTo(CredentialRejection.PASSWORD_MISSING_UPPERCASE);
+        assertThat(policy.checkPassword("Abcdefgh@")).isEqualTo(CredentialRejection.PASSWORD_MISSING_DIGIT);
+        assertThat(policy.checkPassword("Abcdefgh1")).isEqualTo(CredentialRejection.PASSWORD_MISSING_SYMBOL);
+    }
+
+    @Test
+    void checkPassword_shouldOnlyRequireConfiguredClasses() {
+        OnePassCredentialPolicy policy = new OnePassCredentialPolicy(new OnePassCredentialPolicy.Settings(
+                12, 0, false, false, false, false, "#",
+                254, 64, "+_.-", true, true));
+
+        assertThat(policy.checkPassword("correcthorsebattery")).isNull();
+        assertThat(policy.checkPassword("correct#horse")).isNull();
+        assertThat(policy.checkPassword("correct@horse")).isEqualTo(CredentialRejection.PASSWORD_DISALLOWED_CHARACTER);
+    }
+
+    @Test
+    void checkEmail_shouldApplyStrictLocalAndDomainRules() {
+        OnePassCredentialPolicy policy = new OnePassCredentialPolicy(strict());
+
+        assertThat(policy.checkEmail("john.doe+tag@sub.test-domain.com")).isNull();
+        assertThat(policy.checkEmail(null)).isEqualTo(CredentialRejection.EMAIL_MISSING_AT);
+        assertThat(policy.checkEmail("john.test.com")).isEqualTo(CredentialRejection.EMAIL_MISSING_AT);
+        assertThat(policy.checkEmail("a".repeat(250) + "@t.co")).isEqualTo(CredentialRejection.EMAIL_TOO_LONG);
+        assertThat(policy.checkEmail("a".repeat(65) + "@test.com")).isEqualTo(CredentialRejection.EMAIL_LOCAL_PART_INVALID);
+        assertThat(policy.checkEmail("@test.com")).isEqualTo(CredentialRejection.EMAIL_LOCAL_PART_INVALID);
+        assertThat(policy.checkEmail(".john@test.com")).isEqualTo(CredentialRejection.EMAIL_LOCAL_PART_INVALID);
+        assertThat(policy.checkEmail("john..doe@test.com")).isEqualTo(CredentialRejection.EMAIL_LOCAL_PART_INVALID);
+        assertThat(policy.checkEmail("john.@test.com")).isEqualTo(CredentialRejection.EMAIL_LOCAL_PART_INVALID);
+        assertThat(policy.checkEmail("jo hn@test.com")).isEqualTo(CredentialRejection.EMAIL_LOCAL_PART_INVALID);
+        assertThat(policy.checkEmail("john@")).isEqualTo(CredentialRejection.EMAIL_DOMAIN_INVALID);
+        assertThat(policy.checkEmail("john@localhost")).isEqualTo(CredentialRejection.EMAIL_DOMAIN_INVALID);
+        assertThat(policy.checkEmail("john@a@test.com")).isEqualTo(CredentialRejection.EMAIL_DOMAIN_INVALID);
+        assertThat(policy.checkEmail("john@.test.com")).isEqualTo(CredentialRejection.EMAIL_DOMAIN_INVALID);
+        assertThat(policy.checkEmail("john@test..com")).isEqualTo(CredentialRejection.EMAIL_DOMAIN_INVALID);
+        assertThat(policy.checkEmail("john@-test.com")).isEqualTo(CredentialRejection.EMAIL_DOMAIN_INVALID);
+        assertThat(policy.checkEmail("john@test-.com")).isEqualTo(CredentialRejection.EMAIL_DOMAIN_INVALID);
+        assertThat(policy.checkEmail("john@test.com.")).isEqualTo(CredentialRejection.EMAIL_DOMAIN_INVALID);
+    }
+
+    @Test
+    void rejections_shouldMapToTheExistingMessages() {
+        for (CredentialRejection rejection : CredentialRejection.values()) {
+            String expected = rejection.name().startsWith("EMAIL_") ? "user.email.invalid" : "user.password.invalid";
+            assertThat(rejection.getMessageCode()).isEqualTo(expected);
+        }
+    }
+}
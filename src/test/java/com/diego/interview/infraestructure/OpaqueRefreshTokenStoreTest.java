@@ -0,0 +1,104 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.domain.model.RefreshToken;
+import com.diego.interview.domain.port.RefreshTokenRepositoryPort;
+import com.diego.interview.infraestructure.security.OpaqueRefreshTokenStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OpaqueRefreshTokenStoreTest {
+
+    private static final Duration TTL = Duration.ofDays(14);
+
+    @Mock
+    private RefreshTokenRepositoryPort repository;
+
+    private OpaqueRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new OpaqueRefreshTokenStore(repository, TTL, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void issue_shouldStoreOnlyAHashOfTheToken() {
+        UUID userId = UUID.randomUUID();
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+
+        String token = store.issue(userId);
+
+        verify(repository).save(saved.capture());
+        assertThat(token).hasSize(43);
+        assertThat(saved.getValue().getTokenHash()).hasSize(64).isNotEqualTo(token);
+        assertThat(saved.getValue().getUserId()).isEqualTo(userId);
+        assertThat(saved.getValue().getExpiresAt()).isAfter(Instant.now().plus(TTL).minusSeconds(60));
+        assertThat(store.issue(userId)).isNotEqualTo(token);
+    }
+
+    @Test
+    void consume_shouldReturnTheUserOnceAndDeleteTheToken() {
+        UUID userId = UUID.randomUUID();
+        String token = store.issue(userId);
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(repository).save(saved.capture());
+        String hash = saved.getValue().getTokenHash();
+        when(repository.findByHash(hash)).thenReturn(Optional.of(saved.getValue()));
+        when(repository.deleteByHash(hash)).thenReturn(true, false);
+
+        assertThat(store.consume(token)).contains(userId);
+        assertThat(store.consume(token)).isEmpty();
+    }
+
+    @Test
+    void consume_shouldRejectExpiredTokens() {
+        UUID userId = UUID.randomUUID();
+        when(repository.findByHash(anyString())).thenReturn(Optional.of(RefreshToken.builder()
+                .tokenHash("h")
+                .userId(userId)
+                .expiresAt(Instant.now().minusSeconds(1))
+                .build()));
+        when(repository.deleteByHash(anyString())).thenReturn(true);
+
+        assertThat(store.consume("expired")).isEmpty();
+    }
+
+    @Test
+    void consume_shouldRejectUnknownAndBlankTokens() {
+        when(repository.findByHash(anyString())).thenReturn(Optional.empty());
+
+        assertThat(store.consume("unknown")).isEmpty();
+        assertThat(store.consume(" ")).isEmpty();
+        verify(repository, never()).deleteByHash(anyString());
+    }
+
+    @Test
+    void revokeAll_shouldDeleteEveryTokenOfTheUser() {
+        UUID userId = UUID.randomUUID();
+
+        store.revokeAll(userId);
+
+        verify(repository).deleteByUserId(userId);
+    }
+}
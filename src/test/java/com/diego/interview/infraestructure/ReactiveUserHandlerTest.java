@@ -0,0 +1,456 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.application.usecase.CreateUserUseCase;
+import com.diego.interview.application.usecase.DeleteUserUseCase;
+import com.diego.interview.application.usecase.GetUserByIdUseCase;
+import com.diego.interview.application.usecase.ListUsersUseCase;
+import com.diego.interview.application.usecase.LoginUserUseCase;
+import com.diego.interview.application.usecase.RefreshTokenUseCase;
+import com.diego.interview.application.usecase.RevokeTokensUseCase;
+import com.diego.interview.application.usecase.UpdateUserUseCase;
+import com.diego.interview.application.usecase.dto.CreateUserCommand;
+import com.diego.interview.application.usecase.dto.PagedResponse;
+import com.diego.interview.application.usecase.dto.UpdateUserCommand;
+import com.diego.interview.application.usecase.dto.UserResponse;
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.infraestructure.config.MessageConfig;
+import com.diego.interview.infraestructure.config.ReactiveConfig;
+import com.diego.interview.infraestructure.in.reactive.UserHandler;
+import com.diego.interview.infraestructure.in.reactive.usecase.BlockingUseCaseAdapter;
+import com.diego.interview.infraestructure.in.rest.dto.CreateUserRequest;
+import com.diego.interview.infraestructure.in.rest.dto.LoginRequest;
+import com.diego.interview.infraestructure.in.rest.dto.UpdateUserRequest;
+import com.diego.interview.infraestructure.in.rest.validation.UserRequestValidator;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The {@link UserControllerTest} scenarios replayed through the WebFlux
+ * router, so both inbound adapters stay interchangeable.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveUserHandlerTest {
+
+    @Mock
+    private CreateUserUseCase createUserUseCase;
+    @Mock
+    private LoginUserUseCase loginUserUseCase;
+    @Mock
+    private ListUsersUseCase listUsersUseCase;
+    @Mock
+    private GetUserByIdUseCase getUserByIdUseCase;
+    @Mock
+    private DeleteUserUseCase deleteUserUseCase;
+    @Mock
+    private UpdateUserUseCase updateUserUseCase;
+    @Mock
+    private RefreshTokenUseCase refreshTokenUseCase;
+    @Mock
+    private RevokeTokensUseCase revokeTokensUseCase;
+    @Mock
+    private UserRequestValidator requestValidator;
+    @Mock
+    private Validator validator;
+    @Mock
+    private MessageSource messageSource;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        BlockingUseCaseAdapter useCases = new BlockingUseCaseAdapter(
+                createUserUseCase,
+                loginUserUseCase,
+                listUsersUseCase,
+                getUserByIdUseCase,
+                deleteUserUseCase,
+                updateUserUseCase,
+                refreshTokenUseCase,
+                revokeTokensUseCase,
+                Schedulers.immediate(),
+                Schedulers.immediate()
+        );
+        UserHandler handler = new UserHandler(useCases, useCases, useCases, useCases, useCases, useCases,
+                useCases, useCases, requestValidator, validator, messageSource);
+
+        client = WebTestClient.bindToRouterFunction(ReactiveConfig.userRouter(handler))
+                .handlerStrategies(HandlerStrategies.builder()
+                        .localeContextResolver(new ReactiveConfig().localeContextResolver())
+                        .build())
+                .webFilter((exchange, chain) -> chain.filter(exchange.mutate()
+                        .request(new ServerHttpRequestDecorator(exchange.getRequest()) {
+                            @Override
+                            public InetSocketAddress getRemoteAddress() {
+                                return new InetSocketAddress("203.0.113.7", 0);
+                            }
+                        })
+                        .build()))
+                .build();
+    }
+
+    @Test
+    void create_shouldMapRequestToCommandAndReturnCreatedResponse() {
+        CreateUserRequest.PhoneRequest phoneReq = new CreateUserRequest.PhoneRequest();
+        phoneReq.setNumero("1234567");
+        phoneReq.setCodigoCiudad("1");
+        phoneReq.setCodigoPais("57");
+
+        CreateUserRequest request = new CreateUserRequest();
+        request.setName("John Doe");
+        request.setEmail("john.doe@test.com");
+        request.setPassword("Password123");
+        request.setPhones(List.of(phoneReq));
+
+        LocalDateTime now = LocalDateTime.now();
+
+        UserResponse expectedResponse = new UserResponse();
+        expectedResponse.setId("some-id");
+        expectedResponse.setName("John Doe");
+        expectedResponse.setEmail("john.doe@test.com");
+        expectedResponse.setCreated(now);
+        expectedResponse.setModified(now);
+        expectedResponse.setLastLogin(now);
+        expectedResponse.setActive(true);
+        expectedResponse.setToken("dummy-token");
+
+        when(createUserUseCase.createUser(any(CreateUserCommand.class)))
+                .thenReturn(expectedResponse);
+
+        UserResponse body = client.post().uri("/users")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(UserResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        ArgumentCaptor<CreateUserCommand> captor =
+                ArgumentCaptor.forClass(CreateUserCommand.class);
+
+        verify(createUserUseCase, times(1)).createUser(captor.capture());
+
+        CreateUserCommand sentCommand = captor.getValue();
+        assertThat(sentCommand.getName()).isEqualTo("John Doe");
+        assertThat(sentCommand.getEmail()).isEqualTo("john.doe@test.com");
+        assertThat(sentCommand.getPassword()).isEqualTo("Password123");
+        assertThat(sentCommand.getPhones()).hasSize(1);
+        assertThat(sentCommand.getPhones().get(0).getNumber()).isEqualTo("1234567");
+        assertThat(sentCommand.getPhones().get(0).getCityCode()).isEqualTo("1");
+        assertThat(sentCommand.getPhones().get(0).getCountryCode()).isEqualTo("57");
+
+        assertThat(body).isNotNull();
+        assertThat(body.getEmail()).isEqualTo("john.doe@test.com");
+        assertThat(body.getName()).isEqualTo("John Doe");
+        assertThat(body.getToken()).isEqualTo("dummy-token");
+    }
+
+    @Test
+    void create_shouldHandleNullPhonesAsEmptyList() {
+        CreateUserRequest request = new CreateUserRequest();
+        request.setName("Jane Doe");
+        request.setEmail("jane.doe@test.com");
+        request.setPassword("Password123");
+        request.setPhones(null);
+
+        when(createUserUseCase.createUser(any(CreateUserCommand.class)))
+                .thenReturn(new UserResponse());
+
+        client.post().uri("/users")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated();
+
+        ArgumentCaptor<CreateUserCommand> captor =
+                ArgumentCaptor.forClass(CreateUserCommand.class);
+
+        verify(createUserUseCase, times(1)).createUser(captor.capture());
+
+        CreateUserCommand sentCommand = captor.getValue();
+        assertThat(sentCommand.getPhones()).isNotNull();
+        assertThat(sentCommand.getPhones()).isEmpty();
+    }
+
+    @Test
+    void login_shouldDelegateToUseCaseAndReturnOkResponse() {
+        LoginRequest request = new LoginRequest();
+        request.setEmail("john.doe@test.com");
+        request.setPassword("Password123");
+
+        UserResponse expected = new UserResponse();
+        expected.setId("user-id");
+        expected.setEmail("john.doe@test.com");
+        expected.setName("John Doe");
+        expected.setToken("jwt-token");
+
+        when(loginUserUseCase.login("john.doe@test.com", "Password123", "203.0.113.7")).thenReturn(expected);
+
+        UserResponse body = client.post().uri("/users/login")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        verify(loginUserUseCase, times(1))
+                .login("john.doe@test.com", "Password123", "203.0.113.7");
+
+        assertThat(body).isNotNull();
+        assertThat(body.getEmail()).isEqualTo("john.doe@test.com");
+        assertThat(body.getToken()).isEqualTo("jwt-token");
+    }
+
+    @Test
+    void getAllPaged_shouldCallUseCaseWithGivenPageAndSizeAndReturnResponse() {
+        int page = 1;
+        int size = 5;
+
+        UserResponse u1 = new UserResponse();
+        u1.setId("id-1");
+        u1.setEmail("u1@test.com");
+        UserResponse u2 = new UserResponse();
+        u2.setId("id-2");
+        u2.setEmail("u2@test.com");
+
+        PagedResponse<UserResponse> paged = new PagedResponse<>();
+        paged.setPage(page);
+        paged.setSize(size);
+        paged.setTotalElements(2L);
+        paged.setTotalPages(1);
+        paged.setContent(List.of(u1, u2));
+
+        when(listUsersUseCase.listUsers(page, size, true)).thenReturn(paged);
+
+        client.get().uri("/users?page={page}&size={size}", page, size)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.page").isEqualTo(page)
+                .jsonPath("$.size").isEqualTo(size)
+                .jsonPath("$.content.length()").isEqualTo(2);
+
+        verify(listUsersUseCase, times(1)).listUsers(page, size, true);
+    }
+
+    @Test
+    void getAllPaged_shouldUseCursorWhenAfterIsPresent() {
+        PagedResponse<UserResponse> paged = new PagedResponse<>();
+        paged.setSize(5);
+        paged.setContent(List.of());
+        paged.setNextCursor(null);
+
+        // cursor pages default to the estimated total
+        when(listUsersUseCase.listUsersAfter("cursor-1", 5, false)).thenReturn(paged);
+
+        client.get().uri("/users?page=0&size=5&after=cursor-1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.size").isEqualTo(5)
+                .jsonPath("$.content.length()").isEqualTo(0);
+
+        verify(listUsersUseCase, times(1)).listUsersAfter("cursor-1", 5, false);
+        verify(listUsersUseCase, never()).listUsers(anyInt(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void getAllPaged_shouldCountExactlyOnCursorPages_whenAskedTo() {
+        PagedResponse<UserResponse> paged = new PagedResponse<>();
+        paged.setSize(5);
+        paged.setContent(List.of());
+        when(listUsersUseCase.listUsersAfter("cursor-1", 5, true)).thenReturn(paged);
+
+        client.get().uri("/users?size=5&after=cursor-1&exactTotal=true")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(listUsersUseCase, times(1)).listUsersAfter("cursor-1", 5, true);
+    }
+
+    @Test
+    void getById_shouldCallUseCaseAndReturnUserResponse() {
+        UUID id = UUID.randomUUID();
+
+        UserResponse expected = new UserResponse();
+        expected.setId(id.toString());
+        expected.setEmail("john.doe@test.com");
+        expected.setName("John Doe");
+
+        when(getUserByIdUseCase.getById(id)).thenReturn(expected);
+
+        UserResponse body = client.get().uri("/users/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        verify(getUserByIdUseCase, times(1)).getById(id);
+
+        assertThat(body).isNotNull();
+        assertThat(body.getId()).isEqualTo(id.toString());
+        assertThat(body.getEmail()).isEqualTo("john.doe@test.com");
+    }
+
+    @Test
+    void delete_shouldCallUseCaseAndReturnNoContent() {
+        UUID id = UUID.randomUUID();
+
+        client.delete().uri("/users/{id}", id)
+                .exchange()
+                .expectStatus().isNoContent()
+                .expectBody().isEmpty();
+
+        verify(deleteUserUseCase, times(1)).deleteById(id);
+    }
+
+    @Test
+    void updateUser_shouldMapRequestToUpdateCommandAndReturnResponse() {
+        UUID id = UUID.randomUUID();
+
+        UpdateUserRequest.PhoneRequest phoneReq = new UpdateUserRequest.PhoneRequest();
+        phoneReq.setNumero("9876543210");
+        phoneReq.setCodigoCiudad("2");
+        phoneReq.setCodigoPais("34");
+
+        UpdateUserRequest request = new UpdateUserRequest();
+        request.setName("New Name");
+        request.setEmail("new.email@test.com");
+        request.setPassword("NewPassword123");
+        request.setActive(Boolean.TRUE);
+        request.setPhones(List.of(phoneReq));
+
+        UserResponse expected = new UserResponse();
+        expected.setId(id.toString());
+        expected.setName("New Name");
+        expected.setEmail("new.email@test.com");
+
+        when(updateUserUseCase.update(any(UUID.class), any(UpdateUserCommand.class)))
+                .thenReturn(expected);
+
+        UserResponse body = client.patch().uri("/users/{id}", id)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        ArgumentCaptor<UUID> idCaptor = ArgumentCaptor.forClass(UUID.class);
+        ArgumentCaptor<UpdateUserCommand> cmdCaptor = ArgumentCaptor.forClass(UpdateUserCommand.class);
+
+        verify(updateUserUseCase, times(1)).update(idCaptor.capture(), cmdCaptor.capture());
+
+        UUID capturedId = idCaptor.getValue();
+        UpdateUserCommand command = cmdCaptor.getValue();
+
+        assertThat(capturedId).isEqualTo(id);
+        assertThat(command.getName()).isEqualTo("New Name");
+        assertThat(command.getEmail()).isEqualTo("new.email@test.com");
+        assertThat(command.getPassword()).isEqualTo("NewPassword123");
+        assertThat(command.getActive()).isTrue();
+        assertThat(command.getPhones()).hasSize(1);
+        assertThat(command.getPhones().get(0).getNumber()).isEqualTo("9876543210");
+        assertThat(command.getPhones().get(0).getCityCode()).isEqualTo("2");
+        assertThat(command.getPhones().get(0).getCountryCode()).isEqualTo("34");
+
+        assertThat(body).isNotNull();
+        assertThat(body.getId()).isEqualTo(id.toString());
+        assertThat(body.getEmail()).isEqualTo("new.email@test.com");
+    }
+
+    @Test
+    void updateUser_shouldAllowNullPhonesAndMapToNullInCommand() {
+        UUID id = UUID.randomUUID();
+
+        UpdateUserRequest request = new UpdateUserRequest();
+        request.setName("Partial Name");
+        request.setEmail(null);
+        request.setPassword(null);
+        request.setActive(null);
+        request.setPhones(null);
+
+        when(updateUserUseCase.update(any(UUID.class), any(UpdateUserCommand.class)))
+                .thenReturn(new UserResponse());
+
+        client.patch().uri("/users/{id}", id)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk();
+
+        ArgumentCaptor<UpdateUserCommand> cmdCaptor = ArgumentCaptor.forClass(UpdateUserCommand.class);
+        verify(updateUserUseCase, times(1)).update(any(UUID.class), cmdCaptor.capture());
+
+        UpdateUserCommand command = cmdCaptor.getValue();
+        assertThat(command.getName()).isEqualTo("Partial Name");
+        assertThat(command.getEmail()).isNull();
+        assertThat(command.getPassword()).isNull();
+        assertThat(command.getActive()).isNull();
+        assertThat(command.getPhones()).isNull();
+    }
+
+    @Test
+    void create_shouldNotReachUseCase_whenRequestValidationFails() {
+        doThrow(new BusinessException("user.name.required"))
+                .when(requestValidator).validate(any(CreateUserRequest.class));
+        when(messageSource.getMessage(eq("user.name.required"), any(), eq(Locale.ENGLISH)))
+                .thenReturn("Name is required");
+
+        client.post().uri("/users")
+                .bodyValue(new CreateUserRequest())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.mensaje").isEqualTo("Name is required");
+
+        verify(createUserUseCase, never()).createUser(any());
+    }
+
+    @Test
+    void errors_shouldUseTheSameLocaleAsTheServletStack_whenClientAsksForSpanish() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.addHeader(HttpHeaders.ACCEPT_LANGUAGE, "es");
+        Locale servletLocale = new MessageConfig().localeResolver().resolveLocale(servletRequest);
+        doThrow(new BusinessException("user.name.required"))
+                .when(requestValidator).validate(any(CreateUserRequest.class));
+        when(messageSource.getMessage(eq("user.name.required"), any(), eq(servletLocale)))
+                .thenReturn("Name is required");
+
+        client.post().uri("/users")
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "es")
+                .bodyValue(new CreateUserRequest())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.mensaje").isEqualTo("Name is required");
+    }
+}
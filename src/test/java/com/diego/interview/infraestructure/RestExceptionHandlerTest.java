@@ -1,6 +1,7 @@
 package com.diego.interview.infraestructure;
 
 import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.exception.CapacityExceededException;
 import com.diego.interview.infraestructure.in.rest.advice.RestExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BeanPropertyBindingResult;
@@ -57,6 +59,20 @@ class RestExceptionHandlerTest {
         verify(messageSource, times(1)).getMessage(code, args, locale);
     }
 
+    @Test
+    void handleCapacity_shouldReturnServiceUnavailableWithRetryAfter() {
+        CapacityExceededException ex = new CapacityExceededException("service.busy");
+        Locale locale = Locale.ENGLISH;
+
+        when(messageSource.getMessage("service.busy", ex.getArgs(), locale)).thenReturn("busy");
+
+        ResponseEntity<Map<String, String>> response = handler.handleCapacity(ex, locale);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).containsEntry("mensaje", "busy");
+    }
+
     @Test
     void handleValidation_shouldReturnFirstFieldErrorMessage() throws NoSuchMethodException {
         Object target = new Object();
@@ -0,0 +1,155 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.domain.exception.TooManyAttemptsException;
+import com.diego.interview.infraestructure.security.SlidingWindowLoginThrottle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlidingWindowLoginThrottleTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+    private static final String IP = "203.0.113.7";
+
+    private long now;
+    private SlidingWindowLoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        now = 1_000_000_000L;
+        throttle = throttle(100_000);
+    }
+
+    @Test
+    void beforeAttempt_shouldNotDelayBelowTheThreshold() {
+        fail("john@test.com", IP, 2);
+
+        throttle.beforeAttempt("john@test.com", IP);
+    }
+
+    @Test
+    void beforeAttempt_shouldDoubleTheDelayPerFailureUpToTheCap() {
+        fail("john@test.com", IP, 3);
+        assertRefusedUntil(250);
+        fail("john@test.com", IP, 1);
+        assertRefusedUntil(500);
+        fail("john@test.com", IP, 4);
+        assertRefusedUntil(2000);
+    }
+
+    @Test
+    void beforeAttempt_shouldNeverBlockTheCallingThread() {
+        fail("john@test.com", IP, 9);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> throttle.beforeAttempt("john@test.com", IP))
+                .isInstanceOf(TooManyAttemptsException.class)
+                .extracting(ex -> ((TooManyAttemptsException) ex).getRetryAfterSeconds())
+                .isEqualTo(2L);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(500));
+    }
+
+    @Test
+    void beforeAttempt_shouldRefuseWithoutDelayOnceTheEmailHitsTheLimit() {
+        for (int i = 0; i < 10; i++) {
+            throttle.recordFailure("john@test.com", "198.51.100." + i);
+        }
+
+        assertThatThrownBy(() -> throttle.beforeAttempt("JOHN@test.com ", IP))
+                .isInstanceOf(TooManyAttemptsException.class)
+                .extracting(ex -> ((TooManyAttemptsException) ex).getRetryAfterSeconds())
+                .isEqualTo(WINDOW.toSeconds());
+    }
+
+    @Test
+    void beforeAttempt_shouldRefuseAClientThatSpreadsFailuresOverManyEmails() {
+        for (int i = 0; i < 100; i++) {
+            throttle.recordFailure("user" + i + "@test.com", IP);
+        }
+
+        assertThatThrownBy(() -> throttle.beforeAttempt("fresh@test.com", IP))
+                .isInstanceOf(TooManyAttemptsException.class);
+        throttle.beforeAttempt("fresh@test.com", "198.51.100.1");
+    }
+
+    @Test
+    void recordSuccess_shouldClearTheEmailButNotTheClient() {
+        fail("john@test.com", IP, 10);
+
+        throttle.recordSuccess("john@test.com", IP);
+
+        throttle.beforeAttempt("john@test.com", "198.51.100.1");
+    }
+
+    @Test
+    void failuresShouldAgeOutOfTheWindow() {
+        fail("john@test.com", IP, 10);
+
+        now += WINDOW.toMillis() * 2;
+
+        throttle.beforeAttempt("john@test.com", IP);
+    }
+
+    @Test
+    void failuresShouldDecayGraduallyInTheNextWindow() {
+        fail("john@test.com", IP, 10);
+        // the count moves to the previous window and starts losing weight
+        now += WINDOW.toMillis() + WINDOW.toMillis() / 2 + 1;
+
+        throttle.beforeAttempt("john@test.com", IP);
+        fail("john@test.com", IP, 1);
+
+        // part of the old failures plus the new one: backed off, not refused for the whole window
+        assertThatThrownBy(() -> throttle.beforeAttempt("john@test.com", IP))
+                .isInstanceOf(TooManyAttemptsException.class)
+                .extracting(ex -> ((TooManyAttemptsException) ex).getRetryAfterSeconds())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void trackedKeysShouldStayBounded() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        throttle = throttle(128);
+        throttle.bindTo(registry);
+
+        for (int i = 0; i < 10_000; i++) {
+            throttle.recordFailure("user" + i + "@test.com", "10.0." + (i / 256) + "." + (i % 256));
+        }
+
+        assertThat(registry.get("login.attempts.tracked").gauge().value()).isLessThanOrEqualTo(256.0);
+        assertThat(registry.get("login.attempts.failed").functionCounter().count()).isEqualTo(10_000.0);
+    }
+
+    // refused with the remaining wait until delayMs after the last failure, accepted from then on
+    private void assertRefusedUntil(long delayMs) {
+        long failedAt = now;
+        now = failedAt + delayMs - 1;
+        assertThatThrownBy(() -> throttle.beforeAttempt("john@test.com", IP))
+                .isInstanceOf(TooManyAttemptsException.class)
+                .extracting(ex -> ((TooManyAttemptsException) ex).getRetryAfterSeconds())
+                .isEqualTo(1L);
+        now = failedAt + delayMs;
+        throttle.beforeAttempt("john@test.com", IP);
+    }
+
+    private void fail(String email, String ip, int times) {
+        for (int i = 0; i < times; i++) {
+            throttle.recordFailure(email, ip);
+        }
+    }
+
+    private SlidingWindowLoginThrottle throttle(int maxTrackedKeys) {
+        return new SlidingWindowLoginThrottle(
+                new SlidingWindowLoginThrottle.Settings(
+                        WINDOW, 3, 10, 20, 100,
+                        Duration.ofMillis(250), Duration.ofMillis(2000),
+                        maxTrackedKeys, 8),
+                () -> now);
+    }
+}
@@ -0,0 +1,164 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.domain.model.TokenClaims;
+import com.diego.interview.domain.model.TokenRevocation;
+import com.diego.interview.domain.port.TokenRevocationRepositoryPort;
+import com.diego.interview.infraestructure.security.TokenRevocationList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @Mock
+    private TokenRevocationRepositoryPort repository;
+
+    private TokenRevocationList revocations;
+
+    @BeforeEach
+    void setUp() {
+        revocations = new TokenRevocationList(repository, TTL, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        revocations.close();
+    }
+
+    @Test
+    void revoke_shouldRejectTheTokenAndOlderOnesWithTheSameId() {
+        Instant issuedAt = Instant.now().minusSeconds(60);
+        TokenClaims token = claims("user-1", issuedAt);
+
+        revocations.revoke(token);
+
+        assertThat(revocations.isRevoked(token)).isTrue();
+        assertThat(revocations.isRevoked(claims("user-1", issuedAt.minusSeconds(30)))).isTrue();
+        assertThat(revocations.isRevoked(claims("user-1", issuedAt.plusSeconds(1)))).isFalse();
+        assertThat(revocations.isRevoked(claims("user-2", issuedAt))).isFalse();
+    }
+
+    @Test
+    void revoke_shouldPersistBeforeTakingEffect() {
+        TokenClaims token = claims("user-1", Instant.now());
+        ArgumentCaptor<TokenRevocation> saved = ArgumentCaptor.forClass(TokenRevocation.class);
+
+        revocations.revoke(token);
+
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getTokenId()).isEqualTo("user-1");
+        assertThat(saved.getValue().getRevokedUpTo().getEpochSecond()).isEqualTo(token.getIssuedAt().getEpochSecond());
+        assertThat(saved.getValue().getExpiresAt().getEpochSecond()).isEqualTo(token.getExpiresAt().getEpochSecond());
+    }
+
+    @Test
+    void revoke_shouldLeaveTheListUnchangedWhenTheStoreFails() {
+        TokenClaims token = claims("user-1", Instant.now());
+        doThrow(new IllegalStateException("db down")).when(repository).save(any());
+
+        assertThatThrownBy(() -> revocations.revoke(token)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(revocations.isRevoked(token)).isFalse();
+    }
+
+    @Test
+    void revoke_shouldNeverNarrowAnEarlierRevocation() {
+        Instant now = Instant.now();
+        revocations.revoke(claims("user-1", now));
+        revocations.revoke(claims("user-1", now.minusSeconds(600)));
+
+        assertThat(revocations.isRevoked(claims("user-1", now))).isTrue();
+    }
+
+    @Test
+    void revokeAll_shouldRejectEveryTokenIssuedToTheUserSoFar() {
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+
+        revocations.revokeAll(userId);
+
+        assertThat(revocations.isRevoked(claims(userId.toString(), now.minusSeconds(3000)))).isTrue();
+        assertThat(revocations.isRevoked(claims(userId.toString(), now.plusSeconds(5)))).isFalse();
+    }
+
+    @Test
+    void isRevoked_shouldIgnoreTokensWithoutId() {
+        revocations.revoke(claims(null, Instant.now()));
+
+        assertThat(revocations.isRevoked(claims(null, Instant.now()))).isFalse();
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void load_shouldRestoreActiveRevocationsFromTheStore() {
+        Instant issuedAt = Instant.now().minusSeconds(10);
+        when(repository.findActive(any())).thenReturn(List.of(TokenRevocation.builder()
+                .tokenId("user-1")
+                .revokedUpTo(issuedAt)
+                .expiresAt(issuedAt.plus(TTL))
+                .build()));
+
+        revocations.load();
+
+        assertThat(revocations.isRevoked(claims("user-1", issuedAt))).isTrue();
+    }
+
+    @Test
+    void prune_shouldDropRevocationsOnceTheirTokensHaveExpired() {
+        Instant issuedAt = Instant.now();
+        TokenClaims token = claims("user-1", issuedAt);
+        revocations.revoke(token);
+
+        revocations.prune(issuedAt.plus(TTL).minusSeconds(1));
+        assertThat(revocations.isRevoked(token)).isTrue();
+
+        revocations.prune(issuedAt.plus(TTL).plusSeconds(1));
+        assertThat(revocations.isRevoked(token)).isFalse();
+        verify(repository, times(2)).deleteExpired(any());
+    }
+
+    @Test
+    void bindTo_shouldCountRejectedRequests() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        revocations.bindTo(registry);
+        TokenClaims token = claims("user-1", Instant.now());
+        revocations.revoke(token);
+
+        revocations.isRevoked(token);
+        revocations.isRevoked(token);
+
+        assertThat(registry.get("jwt.revocations").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("jwt.revocations.rejected").functionCounter().count()).isEqualTo(2.0);
+    }
+
+    private static TokenClaims claims(String tokenId, Instant issuedAt) {
+        return TokenClaims.builder()
+                .subject("john@test.com")
+                .tokenId(tokenId)
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plus(TTL))
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.application.usecase.ExportUsersUseCase;
+import com.diego.interview.application.usecase.ImportUsersUseCase;
+import com.diego.interview.application.usecase.dto.ImportReport;
+import com.diego.interview.application.usecase.dto.ImportReport.LineResult;
+import com.diego.interview.application.usecase.dto.ImportReport.Status;
+import com.diego.interview.application.usecase.dto.ImportUserRow;
+import com.diego.interview.application.usecase.dto.UserResponse;
+import com.diego.interview.infraestructure.in.rest.UserBulkController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkControllerTest {
+
+    @Mock
+    private ImportUsersUseCase importUsersUseCase;
+    @Mock
+    private ExportUsersUseCase exportUsersUseCase;
+
+    private UserBulkController controller;
+
+    @BeforeEach
+    void setUp() {
+        StaticMessageSource messages = new StaticMessageSource();
+        messages.addMessage("user.email.invalid", Locale.ENGLISH, "Email format is invalid");
+        controller = new UserBulkController(importUsersUseCase, exportUsersUseCase, new ObjectMapper().findAndRegisterModules(),
+                Validation.buildDefaultValidatorFactory().getValidator(), messages);
+    }
+
+    @Test
+    void importUsers_shouldStreamRowsToTheUseCaseAndTranslateErrors() {
+        List<ImportUserRow> received = new ArrayList<>();
+        when(importUsersUseCase.importUsers(any())).thenAnswer(inv -> {
+            Iterator<ImportUserRow> rows = inv.getArgument(0);
+            rows.forEachRemaining(received::add);
+            LineResult line = new LineResult();
+            line.setLine(2);
+            line.setStatus(Status.REJECTED);
+            line.setError("user.email.invalid");
+            ImportReport report = new ImportReport();
+            report.setTotal(1);
+            report.setRejected(1);
+            report.setLines(List.of(line));
+            return report;
+        });
+        String body = "name,email,password,phones\nAna,ana,Secret123,1234567:1:57\n";
+
+        ResponseEntity<ImportReport> response = controller.importUsers("text/csv",
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), Locale.ENGLISH);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getEmail()).isEqualTo("ana");
+        assertThat(response.getBody().getLines().get(0).getMessage()).isEqualTo("Email format is invalid");
+    }
+
+    @Test
+    void exportUsers_shouldWriteOneJsonObjectPerLine() throws IOException {
+        when(exportUsersUseCase.exportUsers(any())).thenAnswer(inv -> {
+            Consumer<UserResponse> sink = inv.getArgument(0);
+            for (String email : List.of("a@test.com", "b@test.com")) {
+                UserResponse user = new UserResponse();
+                user.setEmail(email);
+                sink.accept(user);
+            }
+            return 2L;
+        });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.exportUsers(response);
+
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        String[] lines = response.getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"email\":\"a@test.com\"");
+        assertThat(lines[1]).startsWith("{").contains("\"email\":\"b@test.com\"");
+        assertThat(response.getContentAsString()).endsWith("}\n");
+    }
+}
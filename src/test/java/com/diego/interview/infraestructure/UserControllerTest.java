@@ -9,10 +9,12 @@ import com.diego.interview.application.usecase.dto.CreateUserCommand;
 import com.diego.interview.application.usecase.dto.PagedResponse;
 import com.diego.interview.application.usecase.dto.UpdateUserCommand;
 import com.diego.interview.application.usecase.dto.UserResponse;
+import com.diego.interview.domain.exception.BusinessException;
 import com.diego.interview.infraestructure.in.rest.UserController;
 import com.diego.interview.infraestructure.in.rest.dto.CreateUserRequest;
 import com.diego.interview.infraestructure.in.rest.dto.LoginRequest;
 import com.diego.interview.infraestructure.in.rest.dto.UpdateUserRequest;
+import com.diego.interview.infraestructure.in.rest.validation.UserRequestValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,13 +23,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,6 +55,8 @@ class UserControllerTest {
     private DeleteUserUseCase deleteUserUseCase;
     @Mock
     private UpdateUserUseCase updateUserUseCase;
+    @Mock
+    private UserRequestValidator requestValidator;
 
     private UserController controller;
 
@@ -58,7 +68,8 @@ class UserControllerTest {
                 listUsersUseCase,
                 getUserByIdUseCase,
                 deleteUserUseCase,
-                updateUserUseCase
+                updateUserUseCase,
+                requestValidator
         );
     }
 
@@ -149,12 +160,15 @@ class UserControllerTest {
         expected.setName("John Doe");
         expected.setToken("jwt-token");
 
-        when(loginUserUseCase.login("john.doe@test.com", "Password123")).thenReturn(expected);
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("203.0.113.7");
+
+        when(loginUserUseCase.login("john.doe@test.com", "Password123", "203.0.113.7")).thenReturn(expected);
 
-        ResponseEntity<UserResponse> responseEntity = controller.login(request);
+        ResponseEntity<UserResponse> responseEntity = controller.login(request, httpRequest);
 
         verify(loginUserUseCase, times(1))
-                .login("john.doe@test.com", "Password123");
+                .login("john.doe@test.com", "Password123", "203.0.113.7");
 
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(responseEntity.getBody()).isNotNull();
@@ -181,12 +195,12 @@ class UserControllerTest {
         paged.setTotalPages(1);
         paged.setContent(List.of(u1, u2));
 
-        when(listUsersUseCase.listUsers(page, size)).thenReturn(paged);
+        when(listUsersUseCase.listUsers(page, size, true)).thenReturn(paged);
 
         ResponseEntity<PagedResponse<UserResponse>> responseEntity =
-                controller.getAllPaged(page, size);
+                controller.getAllPaged(page, size, null, true);
 
-        verify(listUsersUseCase, times(1)).listUsers(page, size);
+        verify(listUsersUseCase, times(1)).listUsers(page, size, true);
 
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(responseEntity.getBody()).isNotNull();
@@ -195,6 +209,37 @@ class UserControllerTest {
         assertThat(responseEntity.getBody().getContent()).hasSize(2);
     }
 
+    @Test
+    void getAllPaged_shouldUseCursorWhenAfterIsPresent() {
+        PagedResponse<UserResponse> paged = new PagedResponse<>();
+        paged.setSize(5);
+        paged.setContent(List.of());
+        paged.setNextCursor(null);
+
+        when(listUsersUseCase.listUsersAfter("cursor-1", 5, true)).thenReturn(paged);
+
+        ResponseEntity<PagedResponse<UserResponse>> responseEntity =
+                controller.getAllPaged(0, 5, "cursor-1", true);
+
+        verify(listUsersUseCase, times(1)).listUsersAfter("cursor-1", 5, true);
+        verify(listUsersUseCase, never()).listUsers(anyInt(), anyInt(), anyBoolean());
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(responseEntity.getBody()).isSameAs(paged);
+    }
+
+    @Test
+    void getAllPaged_shouldEstimateTotalOnCursorPagesAndCountOnNumberedPages_byDefault() {
+        PagedResponse<UserResponse> paged = new PagedResponse<>();
+        when(listUsersUseCase.listUsersAfter("cursor-1", 5, false)).thenReturn(paged);
+        when(listUsersUseCase.listUsers(0, 5, true)).thenReturn(paged);
+
+        controller.getAllPaged(0, 5, "cursor-1", null);
+        controller.getAllPaged(0, 5, null, null);
+
+        verify(listUsersUseCase, times(1)).listUsersAfter("cursor-1", 5, false);
+        verify(listUsersUseCase, times(1)).listUsers(0, 5, true);
+    }
+
     @Test
     void getById_shouldCallUseCaseAndReturnUserResponse() {
         UUID id = UUID.randomUUID();
@@ -305,4 +350,14 @@ class UserControllerTest {
         assertThat(command.getActive()).isNull();
         assertThat(command.getPhones()).isNull(); // porque en el controller lo dejas en null si no viene
     }
-}
\ No newline at end of file
+
+    @Test
+    void create_shouldNotReachUseCase_whenRequestValidationFails() {
+        CreateUserRequest request = new CreateUserRequest();
+        doThrow(new BusinessException("user.name.required")).when(requestValidator).validate(request);
+
+        assertThrows(BusinessException.class, () -> controller.create(request));
+
+        verify(createUserUseCase, never()).createUser(any());
+    }
+}
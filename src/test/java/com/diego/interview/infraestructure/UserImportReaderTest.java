@@ -0,0 +1,99 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.application.usecase.dto.ImportUserRow;
+import com.diego.interview.infraestructure.in.rest.bulk.UserImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserImportReaderTest {
+
+    private UserImportReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new UserImportReader(new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    void read_shouldParseNdjsonLinesAndReportBadOnes() {
+        String body = """
+                {"name":"Ana","email":"ana@test.com","password":"Secret123","phones":[{"numero":"1234567","codigoCiudad":"1","codigoPais":"57"}]}
+
+                {"name":"Bob","email":
+                {"name":"","email":"bob@test.com","password":"Secret123","phones":[{"numero":"1234567","codigoCiudad":"1","codigoPais":"57"}]}
+                """;
+
+        List<ImportUserRow> rows = readAll(MediaType.parseMediaType(UserImportReader.NDJSON), body);
+
+        assertThat(rows).extracting(ImportUserRow::getLine).containsExactly(1L, 3L, 4L);
+        assertThat(rows.get(0).getError()).isNull();
+        assertThat(rows.get(0).getCommand().getPhones()).hasSize(1);
+        assertThat(rows.get(0).getCommand().getPhones().get(0).getCountryCode()).isEqualTo("57");
+        assertThat(rows.get(1).getError()).isEqualTo("user.import.malformed");
+        assertThat(rows.get(2).getError()).isEqualTo("user.name.required");
+        assertThat(rows.get(2).getEmail()).isEqualTo("bob@test.com");
+    }
+
+    @Test
+    void read_shouldParseCsvWithQuotedFieldsAndPhoneList() {
+        String body = """
+                email,name,password,phones
+                ana@test.com,"Soto, Ana",Secret123,1234567:1:57;7654321:2:56
+                bob@test.com,Bob,Secret123,
+                "broken,Bob
+                """;
+
+        List<ImportUserRow> rows = readAll(MediaType.parseMediaType("text/csv;charset=UTF-8"), body);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).getLine()).isEqualTo(2);
+        assertThat(rows.get(0).getCommand().getName()).isEqualTo("Soto, Ana");
+        assertThat(rows.get(0).getCommand().getPhones()).extracting(p -> p.getNumber())
+                .containsExactly("1234567", "7654321");
+        assertThat(rows.get(1).getError()).isEqualTo("user.phones.required");
+        assertThat(rows.get(2).getError()).isEqualTo("user.import.malformed");
+    }
+
+    @Test
+    void read_shouldNotReadAheadOfTheConsumer() {
+        String line = "{\"name\":\"Ana\",\"email\":\"ana@test.com\",\"password\":\"x\",\"phones\":[]}\n";
+        AtomicInteger bytesRead = new AtomicInteger();
+        InputStream endless = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                bytesRead.incrementAndGet();
+                return line.charAt(position++ % line.length());
+            }
+        };
+
+        Iterator<ImportUserRow> rows = reader.read(MediaType.parseMediaType(UserImportReader.NDJSON), endless);
+        rows.next();
+        rows.next();
+
+        // only the reader's buffer is consumed, however long the body is
+        assertThat(bytesRead.get()).isLessThan(64 * 1024);
+    }
+
+    private List<ImportUserRow> readAll(MediaType type, String body) {
+        List<ImportUserRow> rows = new ArrayList<>();
+        reader.read(type, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))).forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,401 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.application.usecase.mapper.PhoneMerger;
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.model.LoginUpdate;
+import com.diego.interview.domain.model.Phone;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.model.UserCursor;
+import com.diego.interview.infraestructure.out.persistence.entity.PhoneEntity;
+import com.diego.interview.infraestructure.out.persistence.repository.UserJpaRepository;
+import com.diego.interview.infraestructure.out.persistence.repository.UserRepositoryAdapter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryAdapterQueryCountTest {
+
+    private static final int USERS = 30;
+
+    @Autowired
+    private UserJpaRepository jpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UserRepositoryAdapter adapter;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserRepositoryAdapter(jpaRepository);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < USERS; i++) {
+            adapter.save(User.builder()
+                    .name("User " + i)
+                    .email("user" + i + "@test.com")
+                    .password("secret")
+                    .createdAt(now.plusSeconds(i))
+                    .updatedAt(now)
+                    .lastLogin(now)
+                    .token("token-" + i)
+                    .active(true)
+                    .phones(List.of(
+                            Phone.builder().number("1" + i).cityCode("1").countryCode("57").build(),
+                            Phone.builder().number("2" + i).cityCode("1").countryCode("57").build()))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 25})
+    void findAllPaged_shouldUseTwoStatementsRegardlessOfPageSize(int size) {
+        List<User> page = adapter.findAllPaged(0, size);
+
+        assertThat(page).hasSize(size);
+        assertThat(page).allSatisfy(user -> assertThat(user.getPhones()).hasSize(2));
+        assertThat(page.get(0).getName()).isEqualTo("User 0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findByEmailAndFindById_shouldLoadPhonesInTheSameStatement() {
+        User byEmail = adapter.findByEmail("user3@test.com").orElseThrow();
+        entityManager.clear();
+        User byId = adapter.findById(byEmail.getId()).orElseThrow();
+
+        // both are mapped before returning, so nothing is left to load lazily
+        assertThat(byEmail.getPhones()).hasSize(2);
+        assertThat(byId.getPhones()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 30})
+    void findPageAfter_shouldWalkAllUsersInOrderWithTwoStatementsPerPage(int size) {
+        List<String> names = new ArrayList<>();
+        UserCursor cursor = null;
+        int pages = 0;
+
+        while (true) {
+            statistics.clear();
+            List<User> page = adapter.findPageAfter(cursor, size);
+            if (page.isEmpty()) {
+                break;
+            }
+            pages++;
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            page.forEach(user -> names.add(user.getName()));
+            User last = page.get(page.size() - 1);
+            cursor = UserCursor.builder().createdAt(last.getCreatedAt()).id(last.getId()).build();
+        }
+
+        assertThat(pages).isEqualTo((USERS + size - 1) / size);
+        assertThat(names).hasSize(USERS);
+        assertThat(names.get(0)).isEqualTo("User 0");
+        assertThat(names.get(USERS - 1)).isEqualTo("User " + (USERS - 1));
+    }
+
+    @Test
+    void findEmailsAfter_shouldScanEveryEmailInBatchesWithoutLoadingUsers() {
+        List<String> emails = new ArrayList<>();
+        String after = "";
+        List<String> batch;
+        do {
+            statistics.clear();
+            batch = adapter.findEmailsAfter(after, 7);
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            emails.addAll(batch);
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1);
+            }
+        } while (batch.size() == 7);
+
+        assertThat(emails).hasSize(USERS).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void save_shouldReportDuplicateEmailAsBusinessError() {
+        User duplicate = User.builder()
+                .name("Copy")
+                .email("user0@test.com")
+                .password("secret")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .lastLogin(LocalDateTime.now())
+                .token("token")
+                .active(true)
+                .phones(List.of())
+                .build();
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> {
+            adapter.save(duplicate);
+            entityManager.flush();
+        });
+
+        assertThat(ex.getCode()).isEqualTo("user.email.exists");
+    }
+
+    @Test
+    void create_shouldKeepTheReservedIdAndInsertWithoutSelectingFirst() {
+        UUID id = adapter.nextId();
+        statistics.clear();
+
+        User created = adapter.create(User.builder()
+                .id(id)
+                .name("Reserved")
+                .email("reserved@test.com")
+                .password("secret")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .lastLogin(LocalDateTime.now())
+                .active(true)
+                .phones(List.of())
+                .build());
+
+        assertThat(created.getId()).isEqualTo(id);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(adapter.existsById(id)).isTrue();
+    }
+
+    @Test
+    void deleteById_shouldRemoveUserAndPhonesInOneStatement() {
+        User victim = adapter.findAllPaged(0, 1).get(0);
+        statistics.clear();
+
+        int deleted = adapter.deleteById(victim.getId());
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(adapter.existsById(victim.getId())).isFalse();
+        Long phones = (Long) entityManager.getEntityManager()
+                .createQuery("select count(p) from PhoneEntity p where p.user.id = :id")
+                .setParameter("id", victim.getId())
+                .getSingleResult();
+        assertThat(phones).isZero();
+    }
+
+    @Test
+    void deleteById_shouldReturnZeroForUnknownId() {
+        assertThat(adapter.deleteById(UUID.randomUUID())).isZero();
+    }
+
+    @Test
+    void existsByEmail_shouldNotLoadEntities() {
+        assertThat(adapter.existsByEmail("user3@test.com")).isTrue();
+        assertThat(adapter.existsByEmail("nobody@test.com")).isFalse();
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void save_shouldNotWritePhonesWhenTheSamePhonesAreSentBack() {
+        User user = adapter.findAllPaged(0, 1).get(0);
+        entityManager.clear();
+        user.setName("Renamed");
+        user.setPhones(PhoneMerger.merge(user.getPhones(), List.of(
+                Phone.builder().number("10").cityCode("1").countryCode("57").build(),
+                Phone.builder().number("20").cityCode("1").countryCode("57").build())));
+        statistics.clear();
+
+        adapter.save(user);
+        entityManager.flush();
+
+        EntityStatistics phones = statistics.getEntityStatistics(PhoneEntity.class.getName());
+        assertThat(phones.getInsertCount()).isZero();
+        assertThat(phones.getUpdateCount()).isZero();
+        assertThat(phones.getDeleteCount()).isZero();
+    }
+
+    @Test
+    void save_shouldOnlyWriteChangedPhones() {
+        User user = adapter.findAllPaged(0, 1).get(0);
+        entityManager.clear();
+        user.setPhones(PhoneMerger.merge(user.getPhones(), List.of(
+                Phone.builder().number("10").cityCode("1").countryCode("57").build(),
+                Phone.builder().number("99").cityCode("2").countryCode("57").build(),
+                Phone.builder().number("98").cityCode("2").countryCode("57").build())));
+        statistics.clear();
+
+        adapter.save(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        EntityStatistics phones = statistics.getEntityStatistics(PhoneEntity.class.getName());
+        assertThat(phones.getInsertCount()).isEqualTo(1);
+        assertThat(phones.getUpdateCount()).isEqualTo(1);
+        assertThat(phones.getDeleteCount()).isZero();
+        assertThat(adapter.findById(user.getId()).orElseThrow().getPhones())
+                .extracting(Phone::getNumber)
+                .containsExactlyInAnyOrder("10", "99", "98");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    void save_shouldInsertUserAndPhonesWithOneBatchedStatementPerTable(int phoneCount) {
+        List<Phone> phones = new ArrayList<>();
+        for (int i = 0; i < phoneCount; i++) {
+            phones.add(Phone.builder().number("55" + i).cityCode("1").countryCode("57").build());
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        adapter.save(User.builder()
+                .name("Batch")
+                .email("batch@test.com")
+                .password("secret")
+                .createdAt(now)
+                .updatedAt(now)
+                .lastLogin(now)
+                .token("token")
+                .active(true)
+                .phones(phones)
+                .build());
+
+        // no SELECT before the insert, no per-phone round trip; the sequence is
+        // hit at most once because ids are handed out in blocks of 50
+        assertThat(statistics.getPrepareStatementCount()).isBetween(2L, 3L);
+        assertThat(statistics.getEntityStatistics(PhoneEntity.class.getName()).getInsertCount())
+                .isEqualTo(phoneCount);
+    }
+
+    @Test
+    void saveAll_shouldInsertUsersAndPhonesReadableThroughJpa() {
+        List<User> imported = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            imported.add(newUser("bulk" + i + "@test.com", 2));
+        }
+
+        List<User> saved = adapter.saveAll(imported);
+        entityManager.clear();
+
+        assertThat(saved).extracting(User::getId).doesNotContainNull().doesNotHaveDuplicates();
+        User first = adapter.findById(saved.get(0).getId()).orElseThrow();
+        assertThat(first.getEmail()).isEqualTo("bulk0@test.com");
+        assertThat(first.getPhones()).hasSize(2);
+        assertThat(adapter.countAll()).isEqualTo(USERS + 120);
+    }
+
+    @Test
+    void saveAll_shouldShareThePhoneSequenceWithJpaInserts() {
+        adapter.saveAll(List.of(newUser("bulk-a@test.com", 3)));
+        User viaJpa = adapter.save(newUser("jpa@test.com", 3));
+        adapter.saveAll(List.of(newUser("bulk-b@test.com", 3)));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<?> ids = entityManager.getEntityManager()
+                .createQuery("select p.id from PhoneEntity p")
+                .getResultList();
+        assertThat(ids).hasSize(USERS * 2 + 9).doesNotHaveDuplicates();
+        assertThat(adapter.findById(viaJpa.getId()).orElseThrow().getPhones()).hasSize(3);
+    }
+
+    @Test
+    void saveAll_shouldReportDuplicateEmailAsBusinessError() {
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> adapter.saveAll(List.of(newUser("fresh@test.com", 1), newUser("user0@test.com", 1))));
+
+        assertThat(ex.getCode()).isEqualTo("user.email.exists");
+    }
+
+    @Test
+    void findExistingEmails_shouldReturnOnlyRegisteredOnesInOneStatement() {
+        assertThat(adapter.findExistingEmails(List.of("user1@test.com", "nobody@test.com", "user7@test.com")))
+                .containsExactlyInAnyOrder("user1@test.com", "user7@test.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(adapter.findExistingEmails(List.of())).isEmpty();
+    }
+
+    @Test
+    void forEachUser_shouldVisitEveryUserWithPhonesWithoutLoadingEntities() {
+        adapter.saveAll(List.of(newUser("nophones@test.com", 0)));
+        entityManager.clear();
+        statistics.clear();
+        List<User> visited = new ArrayList<>();
+
+        adapter.forEachUser(visited::add);
+
+        assertThat(visited).hasSize(USERS + 1);
+        assertThat(visited).extracting(User::getId).isSorted().doesNotHaveDuplicates();
+        assertThat(visited).filteredOn(u -> u.getEmail().startsWith("user"))
+                .allSatisfy(u -> assertThat(u.getPhones()).hasSize(2));
+        assertThat(visited).filteredOn(u -> u.getEmail().equals("nophones@test.com"))
+                .singleElement()
+                .satisfies(u -> assertThat(u.getPhones()).isEmpty());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void recordLogins_shouldUpdateOnlyLoginColumns() {
+        List<User> users = adapter.findAllPaged(0, 3);
+        LocalDateTime loginAt = LocalDateTime.now().plusDays(1).withNano(0);
+        statistics.clear();
+
+        adapter.recordLogins(users.stream()
+                .map(u -> LoginUpdate.builder().userId(u.getId()).lastLogin(loginAt).token("fresh-" + u.getName()).build())
+                .toList());
+        entityManager.clear();
+
+        User reloaded = adapter.findById(users.get(1).getId()).orElseThrow();
+        assertThat(reloaded.getLastLogin()).isEqualTo(loginAt);
+        assertThat(reloaded.getToken()).isEqualTo("fresh-" + users.get(1).getName());
+        assertThat(reloaded.getName()).isEqualTo(users.get(1).getName());
+        assertThat(reloaded.getPassword()).isEqualTo("secret");
+        assertThat(reloaded.getPhones()).hasSize(2);
+    }
+
+    @Test
+    void save_shouldAcceptUsersWithoutStoredToken() {
+        User saved = adapter.save(newUser("stateless@test.com", 1).toBuilder().token(null).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(adapter.findById(saved.getId()).orElseThrow().getToken()).isNull();
+    }
+
+    private static User newUser(String email, int phoneCount) {
+        List<Phone> phones = new ArrayList<>();
+        for (int i = 0; i < phoneCount; i++) {
+            phones.add(Phone.builder().number("77" + i).cityCode("1").countryCode("57").build());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return User.builder()
+                .name("Imported")
+                .email(email)
+                .password("secret")
+                .createdAt(now)
+                .updatedAt(now)
+                .lastLogin(now)
+                .token("token")
+                .active(true)
+                .phones(phones)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.domain.exception.BusinessException;
+import com.diego.interview.domain.port.CredentialPolicy;
+import com.diego.interview.infraestructure.in.rest.dto.CreateUserRequest;
+import com.diego.interview.infraestructure.in.rest.dto.UpdateUserRequest;
+import com.diego.interview.infraestructure.in.rest.validation.UserRequestValidator;
+import com.diego.interview.infraestructure.security.OnePassCredentialPolicy;
+import com.diego.interview.infraestructure.validation.ValidationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class UserRequestValidatorTest {
+
+    private SimpleMeterRegistry registry;
+    private CredentialPolicy policy;
+    private UserRequestValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        policy = Mockito.spy(new OnePassCredentialPolicy(new OnePassCredentialPolicy.Settings(
+                8, 128, true, true, true, true, "@$!%*?&._-",
+                254, 64, "+_.-", true, true)));
+        validator = new UserRequestValidator(policy, new ValidationMetrics(registry, "request"));
+    }
+
+    @Test
+    void validateCreate_shouldAcceptValidRequestAndRecordIt() {
+        validator.validate(createRequest("john@test.com", "Abcdef12@", "1234567"));
+
+        assertThat(registry.get("validation.checks").tag("layer", "request").tag("outcome", "accepted")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void validateCreate_shouldFailOnMissingFieldsBeforeRunningCredentialPolicy() {
+        CreateUserRequest request = createRequest("not-an-email", "weak", "1234567");
+        request.setName(" ");
+
+        assertCode(() -> validator.validate(request), "user.name.required");
+        verify(policy, never()).checkEmail(anyString());
+        verify(policy, never()).checkPassword(anyString());
+    }
+
+    @Test
+    void validateCreate_shouldCheckPhonesBeforeCredentials() {
+        assertCode(() -> validator.validate(createRequest("not-an-email", "weak", "12345678901")),
+                "user.phone.number.maxlength");
+        assertCode(() -> validator.validate(createRequest("not-an-email", "weak", "12a")),
+                "user.phone.number.maxlength");
+
+        CreateUserRequest noPhones = createRequest("john@test.com", "Abcdef12@", "1");
+        noPhones.setPhones(List.of());
+        assertCode(() -> validator.validate(noPhones), "user.phones.min");
+        verify(policy, never()).checkEmail(anyString());
+    }
+
+    @Test
+    void validateCreate_shouldRejectCredentialsWithExistingMessageCodes() {
+        assertCode(() -> validator.validate(createRequest("john@localhost", "Abcdef12@", "1")),
+                "user.email.invalid");
+        assertCode(() -> validator.validate(createRequest("john@test.com", "abcdef12@", "1")),
+                "user.password.invalid");
+
+        assertThat(registry.get("validation.checks").tag("layer", "request").tag("outcome", "rejected")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get("validation.rejections").tag("code", "user.email.invalid")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void validateUpdate_shouldOnlyCheckFieldsThatArePresent() {
+        UpdateUserRequest request = new UpdateUserRequest();
+        request.setName("New Name");
+        validator.validate(request);
+
+        request.setPassword("abcdef12@");
+        assertCode(() -> validator.validate(request), "user.password.invalid");
+
+        UpdateUserRequest.PhoneRequest phone = new UpdateUserRequest.PhoneRequest();
+        phone.setNumero("12-34");
+        request.setPassword(null);
+        request.setPhones(List.of(phone));
+        assertCode(() -> validator.validate(request), "user.phone.number.numeric");
+    }
+
+    private static void assertCode(Runnable call, String code) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getCode())
+                .isEqualTo(code);
+    }
+
+    private static CreateUserRequest createRequest(String email, String password, String number) {
+        CreateUserRequest.PhoneRequest phone = new CreateUserRequest.PhoneRequest();
+        phone.setNumero(number);
+        phone.setCodigoCiudad("1");
+        phone.setCodigoPais("57");
+
+        CreateUserRequest request = new CreateUserRequest();
+        request.setName("John Doe");
+        request.setEmail(email);
+        request.setPassword(password);
+        request.setPhones(List.of(phone));
+        return request;
+    }
+}
@@ -0,0 +1,41 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.infraestructure.out.persistence.support.UuidV7;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void generate_shouldProduceVersion7RfcVariantUuid() {
+        UUID id = UuidV7.generate();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void generate_shouldEmbedCurrentEpochMillis() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        long embedded = id.getMostSignificantBits() >>> 16;
+
+        assertThat(embedded).isBetween(before, after);
+    }
+
+    @Test
+    void generate_shouldSortByCreationTimeAcrossMilliseconds() throws InterruptedException {
+        UUID first = UuidV7.generate();
+        Thread.sleep(2);
+        UUID second = UuidV7.generate();
+
+        // unsigned comparison of the leading 64 bits, as a BINARY(16) index would order them
+        assertThat(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()))
+                .isNegative();
+    }
+}
@@ -0,0 +1,129 @@
+package com.diego.interview.infraestructure;
+
+import com.diego.interview.domain.model.LoginUpdate;
+import com.diego.interview.domain.model.User;
+import com.diego.interview.domain.port.UserRepositoryPort;
+import com.diego.interview.infraestructure.out.persistence.repository.WriteBehindLoginUserRepositoryAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindLoginUserRepositoryAdapterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private UserRepositoryPort delegate;
+
+    private WriteBehindLoginUserRepositoryAdapter repository;
+
+    @BeforeEach
+    void setUp() {
+        // long interval: tests flush explicitly unless they test the size trigger
+        repository = new WriteBehindLoginUserRepositoryAdapter(delegate, Duration.ofHours(1), 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void recordLogins_shouldNotWriteUntilFlushed() {
+        repository.recordLogins(List.of(login(UUID.randomUUID(), 0, "t1")));
+
+        verify(delegate, never()).recordLogins(any());
+    }
+
+    @Test
+    void flush_shouldWriteOneRowPerUserWithTheLatestLogin() {
+        UUID id = UUID.randomUUID();
+        repository.recordLogins(List.of(login(id, 0, "first")));
+        repository.recordLogins(List.of(login(id, 2, "third")));
+        repository.recordLogins(List.of(login(id, 1, "second")));
+
+        repository.flush();
+
+        List<LoginUpdate> written = captureWrites(1).get(0);
+        assertThat(written).singleElement().satisfies(update -> {
+            assertThat(update.getToken()).isEqualTo("third");
+            assertThat(update.getLastLogin()).isEqualTo(NOW.plusSeconds(2));
+        });
+    }
+
+    @Test
+    void findById_shouldSeePendingLoginBeforeItIsWritten() {
+        UUID id = UUID.randomUUID();
+        when(delegate.findById(id)).thenAnswer(inv -> Optional.of(User.builder()
+                .id(id).lastLogin(NOW.minusDays(1)).token("old").build()));
+        repository.recordLogins(List.of(login(id, 0, "new")));
+
+        User user = repository.findById(id).orElseThrow();
+
+        assertThat(user.getToken()).isEqualTo("new");
+        assertThat(user.getLastLogin()).isEqualTo(NOW);
+    }
+
+    @Test
+    void recordLogins_shouldFlushInTheBackgroundOnceMaxPendingIsReached() {
+        repository.recordLogins(List.of(
+                login(UUID.randomUUID(), 0, "a"),
+                login(UUID.randomUUID(), 0, "b"),
+                login(UUID.randomUUID(), 0, "c")));
+
+        verify(delegate, timeout(2000)).recordLogins(any());
+    }
+
+    @Test
+    void flush_shouldKeepUpdatesWhenTheWriteFails() {
+        repository.recordLogins(List.of(login(UUID.randomUUID(), 0, "a")));
+        doThrow(new IllegalStateException("db down")).doNothing().when(delegate).recordLogins(any());
+
+        assertThatThrownBy(repository::flush).isInstanceOf(IllegalStateException.class);
+        repository.flush();
+
+        assertThat(captureWrites(2).get(1)).hasSize(1);
+    }
+
+    @Test
+    void close_shouldWritePendingUpdates() {
+        repository.recordLogins(List.of(login(UUID.randomUUID(), 0, "a")));
+
+        repository.close();
+
+        assertThat(captureWrites(1).get(0)).hasSize(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<LoginUpdate>> captureWrites(int times) {
+        ArgumentCaptor<Collection<LoginUpdate>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(delegate, times(times)).recordLogins(captor.capture());
+        return captor.getAllValues().stream().map(c -> List.copyOf(c)).toList();
+    }
+
+    private static LoginUpdate login(UUID id, int secondsLater, String token) {
+        return LoginUpdate.builder().userId(id).lastLogin(NOW.plusSeconds(secondsLater)).token(token).build();
+    }
+}
@@ -10,9 +10,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +20,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,7 +56,7 @@ class userRepsotoryPortAdapterTest {
                 .build();
 
         UserEntity savedEntity = new UserEntity();
-        savedEntity.setId(id.toString());
+        savedEntity.setId(id);
         savedEntity.setName("John Doe");
         savedEntity.setEmail("john.doe@test.com");
         savedEntity.setPassword("secret");
@@ -65,12 +66,12 @@ class userRepsotoryPortAdapterTest {
         savedEntity.setActive(true);
         savedEntity.setToken("token-123");
 
-        when(jpaRepository.save(any(UserEntity.class))).thenReturn(savedEntity);
+        when(jpaRepository.saveAndFlush(any(UserEntity.class))).thenReturn(savedEntity);
 
         User result = adapter.save(domainUser);
 
         ArgumentCaptor<UserEntity> captor = ArgumentCaptor.forClass(UserEntity.class);
-        verify(jpaRepository, times(1)).save(captor.capture());
+        verify(jpaRepository, times(1)).saveAndFlush(captor.capture());
         UserEntity sentToJpa = captor.getValue();
 
         assertThat(sentToJpa.getEmail()).isEqualTo(domainUser.getEmail());
@@ -85,7 +86,7 @@ class userRepsotoryPortAdapterTest {
         LocalDateTime now = LocalDateTime.now();
 
         UserEntity entity = new UserEntity();
-        entity.setId(UUID.randomUUID().toString());
+        entity.setId(UUID.randomUUID());
         entity.setName("John Doe");
         entity.setEmail(email);
         entity.setPassword("secret");
@@ -121,7 +122,7 @@ class userRepsotoryPortAdapterTest {
         LocalDateTime now = LocalDateTime.now();
 
         UserEntity entity = new UserEntity();
-        entity.setId(id.toString());
+        entity.setId(id);
         entity.setName("Jane Doe");
         entity.setEmail("jane.doe@test.com");
         entity.setPassword("secret");
@@ -131,11 +132,11 @@ class userRepsotoryPortAdapterTest {
         entity.setActive(true);
         entity.setToken("token-456");
 
-        when(jpaRepository.findById(id.toString())).thenReturn(Optional.of(entity));
+        when(jpaRepository.findById(id)).thenReturn(Optional.of(entity));
 
         Optional<User> result = adapter.findById(id);
 
-        verify(jpaRepository, times(1)).findById(id.toString());
+        verify(jpaRepository, times(1)).findById(id);
         assertThat(result).isPresent();
         assertThat(result.get().getEmail()).isEqualTo("jane.doe@test.com");
     }
@@ -144,21 +145,41 @@ class userRepsotoryPortAdapterTest {
     void findById_shouldReturnEmptyWhenNotFound() {
         UUID id = UUID.randomUUID();
 
-        when(jpaRepository.findById(id.toString())).thenReturn(Optional.empty());
+        when(jpaRepository.findById(id)).thenReturn(Optional.empty());
 
         Optional<User> result = adapter.findById(id);
 
-        verify(jpaRepository, times(1)).findById(id.toString());
+        verify(jpaRepository, times(1)).findById(id);
         assertThat(result).isEmpty();
     }
 
     @Test
-    void deleteById_shouldCallJpaRepositoryWithStringId() {
+    void deleteById_shouldIssueSingleDeleteAndReturnRowCount() {
         UUID id = UUID.randomUUID();
+        when(jpaRepository.deleteUserById(id)).thenReturn(1);
 
-        adapter.deleteById(id);
+        int deleted = adapter.deleteById(id);
 
-        verify(jpaRepository, times(1)).deleteById(id.toString());
+        verify(jpaRepository, times(1)).deleteUserById(id);
+        verify(jpaRepository, never()).findById(any());
+        assertThat(deleted).isEqualTo(1);
+    }
+
+    @Test
+    void existsByEmail_shouldUseExistsQuery() {
+        when(jpaRepository.existsByEmail("john.doe@test.com")).thenReturn(true);
+
+        assertThat(adapter.existsByEmail("john.doe@test.com")).isTrue();
+        verify(jpaRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void existsById_shouldUseExistsQuery() {
+        UUID id = UUID.randomUUID();
+        when(jpaRepository.existsById(id)).thenReturn(false);
+
+        assertThat(adapter.existsById(id)).isFalse();
+        verify(jpaRepository, never()).findById(any());
     }
 
     // 🔽 NUEVOS TESTS 🔽
@@ -170,7 +191,7 @@ class userRepsotoryPortAdapterTest {
         LocalDateTime now = LocalDateTime.now();
 
         UserEntity e1 = new UserEntity();
-        e1.setId(UUID.randomUUID().toString());
+        e1.setId(UUID.randomUUID());
         e1.setName("User 1");
         e1.setEmail("user1@test.com");
         e1.setPassword("secret");
@@ -181,7 +202,7 @@ class userRepsotoryPortAdapterTest {
         e1.setToken("t1");
 
         UserEntity e2 = new UserEntity();
-        e2.setId(UUID.randomUUID().toString());
+        e2.setId(UUID.randomUUID());
         e2.setName("User 2");
         e2.setEmail("user2@test.com");
         e2.setPassword("secret");
@@ -191,13 +212,16 @@ class userRepsotoryPortAdapterTest {
         e2.setActive(true);
         e2.setToken("t2");
 
-        when(jpaRepository.findAll(any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(e1, e2)));
+        when(jpaRepository.findPageIds(any(Pageable.class)))
+                .thenReturn(List.of(e1.getId(), e2.getId()));
+        // the batched fetch does not guarantee order; the adapter restores it
+        when(jpaRepository.findAllWithPhonesByIdIn(List.of(e1.getId(), e2.getId())))
+                .thenReturn(List.of(e2, e1));
 
         var result = adapter.findAllPaged(page, size);
 
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(jpaRepository, times(1)).findAll(pageableCaptor.capture());
+        verify(jpaRepository, times(1)).findPageIds(pageableCaptor.capture());
 
         Pageable usedPageable = pageableCaptor.getValue();
         assertThat(usedPageable.getPageNumber()).isEqualTo(page);
@@ -213,12 +237,13 @@ class userRepsotoryPortAdapterTest {
         int page = 0;
         int size = 5;
 
-        when(jpaRepository.findAll(any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of()));
+        when(jpaRepository.findPageIds(any(Pageable.class)))
+                .thenReturn(List.of());
 
         var result = adapter.findAllPaged(page, size);
 
-        verify(jpaRepository, times(1)).findAll(any(Pageable.class));
+        verify(jpaRepository, times(1)).findPageIds(any(Pageable.class));
+        verify(jpaRepository, never()).findAllWithPhonesByIdIn(any());
         assertThat(result).isEmpty();
     }
 
@@ -231,4 +256,33 @@ class userRepsotoryPortAdapterTest {
         verify(jpaRepository, times(1)).count();
         assertThat(result).isEqualTo(5L);
     }
+
+    @Test
+    void estimateCount_shouldTrackSavesAndDeletesWithoutQueryingAgain() {
+        when(jpaRepository.count()).thenReturn(5L);
+        when(jpaRepository.saveAndFlush(any(UserEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        assertThat(adapter.estimateCount()).isEqualTo(5L);
+
+        adapter.save(User.builder().email("new@test.com").build());
+        adapter.save(User.builder().email("other@test.com").build());
+        // second delete targets a missing id and removes nothing
+        when(jpaRepository.deleteUserById(any())).thenReturn(1, 0);
+        adapter.deleteById(UUID.randomUUID());
+        adapter.deleteById(UUID.randomUUID());
+
+        assertThat(adapter.estimateCount()).isEqualTo(6L);
+        verify(jpaRepository, times(1)).count();
+    }
+
+    @Test
+    void estimateCount_shouldRecountWhenRefreshIntervalElapsed() {
+        adapter = new UserRepositoryAdapter(jpaRepository, Duration.ZERO);
+        when(jpaRepository.count()).thenReturn(5L, 7L);
+
+        assertThat(adapter.estimateCount()).isEqualTo(5L);
+        assertThat(adapter.estimateCount()).isEqualTo(7L);
+
+        verify(jpaRepository, times(2)).count();
+    }
 }